@@ -153,6 +153,12 @@ public final class ClientProperties {
    */
   public static final String STREAM_ENABLED = "zeebe.client.worker.stream.enabled";
 
+  /**
+   * @see ZeebeClientBuilder#jobWorkerVirtualThreadsEnabled(boolean)
+   */
+  public static final String JOB_WORKER_VIRTUAL_THREADS_ENABLED =
+      "zeebe.client.worker.virtualThreads.enabled";
+
   /**
    * @see ZeebeClientBuilder#useDefaultRetryPolicy(boolean)
    */
@@ -22,6 +22,7 @@ import io.camunda.zeebe.client.api.command.CancelProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteUserTaskCommandStep1;
 import io.camunda.zeebe.client.api.command.CorrelateMessageCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1;
 import io.camunda.zeebe.client.api.command.DeleteResourceCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployProcessCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployResourceCommandStep1;
@@ -158,6 +159,29 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   CreateProcessInstanceCommandStep1 newCreateInstanceCommand();
 
+  /**
+   * Command to create/start a batch of instances of a process with a single request.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newCreateInstancesCommand()
+   *  .bpmnProcessId("my-process")
+   *  .latestVersion()
+   *  .addInstance(variables1)
+   *  .addInstance(variables2)
+   *  .send();
+   * </pre>
+   *
+   * <p>The gateway spreads the process instances over the partitions and creates them with a
+   * single command per chunk of instances. The response contains the result of every process
+   * instance: an instance which can't be created doesn't prevent creating the other instances.
+   *
+   * <p>This command is only sent via gRPC.
+   *
+   * @return a builder for the command
+   */
+  CreateProcessInstancesCommandStep1 newCreateInstancesCommand();
+
   /**
    * Command to modify a process instance.
    *
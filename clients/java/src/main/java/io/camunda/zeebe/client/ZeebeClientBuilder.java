@@ -123,6 +123,23 @@ public interface ZeebeClientBuilder {
   ZeebeClientBuilder jobWorkerExecutor(
       final ScheduledExecutorService executor, final boolean takeOwnership);
 
+  /**
+   * If enabled, the job handlers of all job workers created via this client are invoked on virtual
+   * threads instead of the job worker executor, a new virtual thread per job. This suits handlers
+   * which block on I/O, e.g. calls to other services, as a handler doesn't occupy a platform thread
+   * while it waits. Polling and streaming jobs still use the job worker executor.
+   *
+   * <p>The number of jobs which a worker handles concurrently is then limited by {@link
+   * JobWorkerBuilderStep3#maxJobsActive(int)} instead of {@link
+   * #numJobWorkerExecutionThreads(int)}.
+   *
+   * <p>NOTE: virtual threads require Java 21 or newer. The client fails to build on older Java
+   * runtimes if this is enabled. Disabled by default.
+   *
+   * @param virtualThreadsEnabled if true, job handlers are invoked on virtual threads
+   */
+  ZeebeClientBuilder jobWorkerVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
   /**
    * The name of the worker which is used when none is set for a job worker. Default is 'default'.
    */
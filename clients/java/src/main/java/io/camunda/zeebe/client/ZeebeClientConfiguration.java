@@ -149,6 +149,11 @@ public interface ZeebeClientConfiguration {
    */
   boolean ownsJobWorkerExecutor();
 
+  /**
+   * @see ZeebeClientBuilder#jobWorkerVirtualThreadsEnabled(boolean)
+   */
+  boolean jobWorkerVirtualThreadsEnabled();
+
   /**
    * @see ZeebeClientBuilder#defaultJobWorkerStreamEnabled(boolean)
    */
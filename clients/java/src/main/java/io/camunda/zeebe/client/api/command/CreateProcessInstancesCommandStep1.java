@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.response.CreateProcessInstancesResponse;
+import java.util.Map;
+
+public interface CreateProcessInstancesCommandStep1 {
+
+  /**
+   * Set the BPMN process id of the process to create instances of. This is the static id of the
+   * process in the BPMN XML (i.e. "&#60;bpmn:process id='my-process'&#62;").
+   *
+   * @param bpmnProcessId the BPMN process id of the process
+   * @return the builder for this command
+   */
+  CreateProcessInstancesCommandStep2 bpmnProcessId(String bpmnProcessId);
+
+  /**
+   * Set the key of the process to create instances of. The key is assigned by the broker while
+   * deploying the process. It can be picked from the deployment or process event.
+   *
+   * @param processDefinitionKey the key of the process
+   * @return the builder for this command
+   */
+  CreateProcessInstancesCommandStep3 processDefinitionKey(long processDefinitionKey);
+
+  interface CreateProcessInstancesCommandStep2 {
+    /**
+     * Set the version of the process to create instances of.
+     *
+     * @param version the version of the process
+     * @return the builder for this command
+     */
+    CreateProcessInstancesCommandStep3 version(int version);
+
+    /**
+     * Use the latest version of the process to create instances of.
+     *
+     * @return the builder for this command
+     */
+    CreateProcessInstancesCommandStep3 latestVersion();
+  }
+
+  interface CreateProcessInstancesCommandStep3
+      extends CommandWithTenantStep<CreateProcessInstancesCommandStep3>,
+          FinalCommandStep<CreateProcessInstancesResponse> {
+
+    /**
+     * Add a process instance to create without variables.
+     *
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CreateProcessInstancesCommandStep3 addInstance();
+
+    /**
+     * Add a process instance to create with the given initial variables.
+     *
+     * @param variables the variables JSON document as String
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CreateProcessInstancesCommandStep3 addInstance(String variables);
+
+    /**
+     * Add a process instance to create with the given initial variables.
+     *
+     * @param variables the variables document as map
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CreateProcessInstancesCommandStep3 addInstance(Map<String, Object> variables);
+
+    /**
+     * Overrides the default start position of the process instances. The element with the given id
+     * is activated in each process instance of the command.
+     *
+     * @param elementId the id of the element to start before
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CreateProcessInstancesCommandStep3 startBeforeElement(String elementId);
+  }
+}
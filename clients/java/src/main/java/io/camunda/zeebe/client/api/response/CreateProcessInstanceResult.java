@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.response;
+
+public interface CreateProcessInstanceResult {
+
+  /**
+   * @return true if the process instance was created
+   */
+  boolean isCreated();
+
+  /**
+   * @return the key of the created process instance, or -1 if it was not created
+   */
+  long getProcessInstanceKey();
+
+  /**
+   * @return the key of the process definition which was used to create the process instance, or
+   *     -1 if it was not created
+   */
+  long getProcessDefinitionKey();
+
+  /**
+   * @return the reason why the process instance was not created, or an empty string if it was
+   *     created
+   */
+  String getErrorMessage();
+}
@@ -28,6 +28,7 @@ import static io.camunda.zeebe.client.ClientProperties.GATEWAY_ADDRESS;
 import static io.camunda.zeebe.client.ClientProperties.GRPC_ADDRESS;
 import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_EXECUTION_THREADS;
 import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE;
+import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_VIRTUAL_THREADS_ENABLED;
 import static io.camunda.zeebe.client.ClientProperties.KEEP_ALIVE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_METADATA_SIZE;
@@ -69,6 +70,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   public static final String OVERRIDE_AUTHORITY_VAR = "ZEEBE_OVERRIDE_AUTHORITY";
   public static final String CAMUNDA_CLIENT_WORKER_STREAM_ENABLED =
       "ZEEBE_CLIENT_WORKER_STREAM_ENABLED";
+  public static final String CAMUNDA_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED =
+      "ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED";
   public static final String DEFAULT_GATEWAY_ADDRESS = "0.0.0.0:26500";
   public static final URI DEFAULT_GRPC_ADDRESS =
       getURIFromString("https://" + DEFAULT_GATEWAY_ADDRESS);
@@ -114,6 +117,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private boolean grpcAddressUsed = false;
   private ScheduledExecutorService jobWorkerExecutor;
   private boolean ownsJobWorkerExecutor;
+  private boolean jobWorkerVirtualThreadsEnabled;
   private boolean useDefaultRetryPolicy;
 
   @Override
@@ -236,6 +240,11 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return ownsJobWorkerExecutor;
   }
 
+  @Override
+  public boolean jobWorkerVirtualThreadsEnabled() {
+    return jobWorkerVirtualThreadsEnabled;
+  }
+
   @Override
   public boolean getDefaultJobWorkerStreamEnabled() {
     return streamEnabled;
@@ -347,6 +356,11 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
         STREAM_ENABLED,
         value -> defaultJobWorkerStreamEnabled(Boolean.parseBoolean(value)));
 
+    BuilderUtils.applyIfNotNull(
+        properties,
+        JOB_WORKER_VIRTUAL_THREADS_ENABLED,
+        value -> jobWorkerVirtualThreadsEnabled(Boolean.parseBoolean(value)));
+
     BuilderUtils.applyIfNotNull(
         properties,
         USE_DEFAULT_RETRY_POLICY,
@@ -413,6 +427,12 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder jobWorkerVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    jobWorkerVirtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerName(final String workerName) {
     if (workerName != null) {
@@ -582,6 +602,10 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
         CAMUNDA_CLIENT_WORKER_STREAM_ENABLED,
         value -> defaultJobWorkerStreamEnabled(Boolean.parseBoolean(value)));
 
+    BuilderUtils.applyIfNotNull(
+        CAMUNDA_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED,
+        value -> jobWorkerVirtualThreadsEnabled(Boolean.parseBoolean(value)));
+
     BuilderUtils.applyIfNotNull(
         USE_DEFAULT_RETRY_POLICY_VAR, value -> useDefaultRetryPolicy(Boolean.parseBoolean(value)));
   }
@@ -606,6 +630,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     BuilderUtils.appendProperty(sb, "maxMetadataSize", maxMetadataSize);
     BuilderUtils.appendProperty(sb, "jobWorkerExecutor", jobWorkerExecutor);
     BuilderUtils.appendProperty(sb, "ownsJobWorkerExecutor", ownsJobWorkerExecutor);
+    BuilderUtils.appendProperty(
+        sb, "jobWorkerVirtualThreadsEnabled", jobWorkerVirtualThreadsEnabled);
     BuilderUtils.appendProperty(sb, "streamEnabled", streamEnabled);
     BuilderUtils.appendProperty(sb, "preferRestOverGrpc", preferRestOverGrpc);
 
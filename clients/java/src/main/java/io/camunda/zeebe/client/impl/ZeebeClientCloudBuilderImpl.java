@@ -169,6 +169,12 @@ public class ZeebeClientCloudBuilderImpl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder jobWorkerVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    innerBuilder.jobWorkerVirtualThreadsEnabled(virtualThreadsEnabled);
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerName(final String workerName) {
     innerBuilder.defaultJobWorkerName(workerName);
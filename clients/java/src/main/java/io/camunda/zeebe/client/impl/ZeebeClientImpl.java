@@ -28,9 +28,11 @@ import io.camunda.zeebe.client.api.command.BroadcastSignalCommandStep1;
 import io.camunda.zeebe.client.api.command.CancelProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteUserTaskCommandStep1;
 import io.camunda.zeebe.client.api.command.CorrelateMessageCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1;
 import io.camunda.zeebe.client.api.command.DeleteResourceCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployProcessCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployResourceCommandStep1;
@@ -61,6 +63,7 @@ import io.camunda.zeebe.client.impl.command.CancelProcessInstanceCommandImpl;
 import io.camunda.zeebe.client.impl.command.CompleteUserTaskCommandImpl;
 import io.camunda.zeebe.client.impl.command.CorrelateMessageCommandImpl;
 import io.camunda.zeebe.client.impl.command.CreateProcessInstanceCommandImpl;
+import io.camunda.zeebe.client.impl.command.CreateProcessInstancesCommandImpl;
 import io.camunda.zeebe.client.impl.command.DeleteResourceCommandImpl;
 import io.camunda.zeebe.client.impl.command.DeployProcessCommandImpl;
 import io.camunda.zeebe.client.impl.command.DeployResourceCommandImpl;
@@ -84,6 +87,7 @@ import io.camunda.zeebe.client.impl.search.query.ProcessInstanceQueryImpl;
 import io.camunda.zeebe.client.impl.search.query.UserTaskQueryImpl;
 import io.camunda.zeebe.client.impl.util.ExecutorResource;
 import io.camunda.zeebe.client.impl.util.VersionUtil;
+import io.camunda.zeebe.client.impl.util.VirtualThreads;
 import io.camunda.zeebe.client.impl.worker.JobClientImpl;
 import io.camunda.zeebe.client.impl.worker.JobWorkerBuilderImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
@@ -103,6 +107,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -113,6 +118,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
   private final GatewayStub asyncStub;
   private final ManagedChannel channel;
   private final ExecutorResource executorResource;
+  private final ExecutorService jobHandlerExecutor;
   private final List<Closeable> closeables = new CopyOnWriteArrayList<>();
   private final JobClient jobClient;
   private final CredentialsProvider credentialsProvider;
@@ -166,6 +172,10 @@ public final class ZeebeClientImpl implements ZeebeClient {
     asyncStub = gatewayStub;
     this.executorResource = executorResource;
     this.httpClient = httpClient;
+    jobHandlerExecutor =
+        config.jobWorkerVirtualThreadsEnabled()
+            ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+            : null;
 
     if (config.getCredentialsProvider() != null) {
       credentialsProvider = config.getCredentialsProvider();
@@ -312,6 +322,9 @@ public final class ZeebeClientImpl implements ZeebeClient {
           }
         });
 
+    if (jobHandlerExecutor != null) {
+      jobHandlerExecutor.shutdownNow();
+    }
     executorResource.close();
     channel.shutdownNow();
 
@@ -350,6 +363,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, jsonMapper, config, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public CreateProcessInstancesCommandStep1 newCreateInstancesCommand() {
+    return new CreateProcessInstancesCommandImpl(
+        asyncStub, jsonMapper, config, credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public ModifyProcessInstanceCommandStep1 newModifyProcessInstanceCommand(
       final long processInstanceKey) {
@@ -454,7 +473,8 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   @Override
   public JobWorkerBuilderStep1 newWorker() {
-    return new JobWorkerBuilderImpl(config, jobClient, executorResource.executor(), closeables);
+    return new JobWorkerBuilderImpl(
+        config, jobClient, executorResource.executor(), jobHandlerExecutor, closeables);
   }
 
   @Override
@@ -521,6 +541,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return newCompleteCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return jobClient.newFailCommand(jobKey);
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.CredentialsProvider.StatusCode;
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1.CreateProcessInstancesCommandStep2;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1.CreateProcessInstancesCommandStep3;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.CreateProcessInstancesResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.CreateProcessInstancesResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest.Builder;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationStartInstruction;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class CreateProcessInstancesCommandImpl
+    implements CreateProcessInstancesCommandStep1,
+        CreateProcessInstancesCommandStep2,
+        CreateProcessInstancesCommandStep3 {
+
+  private static final String EMPTY_VARIABLES = "{}";
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final Builder builder;
+  private final Predicate<StatusCode> retryPredicate;
+  private Duration requestTimeout;
+
+  public CreateProcessInstancesCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final ZeebeClientConfiguration config,
+      final Predicate<StatusCode> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.retryPredicate = retryPredicate;
+    requestTimeout = config.getDefaultRequestTimeout();
+    builder = CreateProcessInstancesRequest.newBuilder();
+    tenantId(config.getDefaultTenantId());
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep2 bpmnProcessId(final String id) {
+    builder.setBpmnProcessId(id);
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 processDefinitionKey(final long processDefinitionKey) {
+    builder.setProcessDefinitionKey(processDefinitionKey);
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 version(final int version) {
+    builder.setVersion(version);
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 latestVersion() {
+    return version(CreateProcessInstanceCommandStep1.LATEST_VERSION);
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 addInstance() {
+    builder.addVariables(EMPTY_VARIABLES);
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 addInstance(final String variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.addVariables(jsonMapper.validateJson("variables", variables));
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 addInstance(final Map<String, Object> variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.addVariables(jsonMapper.toJson(variables));
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 startBeforeElement(final String elementId) {
+    builder.addStartInstructions(
+        ProcessInstanceCreationStartInstruction.newBuilder().setElementId(elementId).build());
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep3 tenantId(final String tenantId) {
+    builder.setTenantId(tenantId);
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CreateProcessInstancesResponse> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<CreateProcessInstancesResponse> send() {
+    final CreateProcessInstancesRequest request = builder.build();
+
+    final RetriableClientFutureImpl<
+            CreateProcessInstancesResponse, GatewayOuterClass.CreateProcessInstancesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CreateProcessInstancesResponseImpl::new,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CreateProcessInstancesRequest request,
+      final StreamObserver<GatewayOuterClass.CreateProcessInstancesResponse> future) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .createProcessInstances(request, future);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+
+public final class CompleteJobResultImpl implements CompleteJobResult {
+
+  private final long jobKey;
+  private final boolean completed;
+  private final String errorMessage;
+
+  public CompleteJobResultImpl(final GatewayOuterClass.CompleteJobResult result) {
+    jobKey = result.getJobKey();
+    completed = result.getCompleted();
+    errorMessage = result.getErrorMessage();
+  }
+
+  @Override
+  public long getJobKey() {
+    return jobKey;
+  }
+
+  @Override
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @Override
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  @Override
+  public String toString() {
+    return "CompleteJobResultImpl{"
+        + "jobKey="
+        + jobKey
+        + ", completed="
+        + completed
+        + ", errorMessage='"
+        + errorMessage
+        + '\''
+        + '}';
+  }
+}
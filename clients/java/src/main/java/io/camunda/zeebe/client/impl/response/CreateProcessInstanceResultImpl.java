@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.CreateProcessInstanceResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+
+public final class CreateProcessInstanceResultImpl implements CreateProcessInstanceResult {
+
+  private final boolean created;
+  private final long processInstanceKey;
+  private final long processDefinitionKey;
+  private final String errorMessage;
+
+  public CreateProcessInstanceResultImpl(
+      final GatewayOuterClass.CreateProcessInstanceResult result) {
+    created = result.getCreated();
+    processInstanceKey = result.getProcessInstanceKey();
+    processDefinitionKey = result.getProcessDefinitionKey();
+    errorMessage = result.getErrorMessage();
+  }
+
+  @Override
+  public boolean isCreated() {
+    return created;
+  }
+
+  @Override
+  public long getProcessInstanceKey() {
+    return processInstanceKey;
+  }
+
+  @Override
+  public long getProcessDefinitionKey() {
+    return processDefinitionKey;
+  }
+
+  @Override
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  @Override
+  public String toString() {
+    return "CreateProcessInstanceResultImpl{"
+        + "created="
+        + created
+        + ", processInstanceKey="
+        + processInstanceKey
+        + ", processDefinitionKey="
+        + processDefinitionKey
+        + ", errorMessage='"
+        + errorMessage
+        + '\''
+        + '}';
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.util;
+
+import io.camunda.zeebe.client.api.command.ClientException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors backed by virtual threads. The client is compiled for Java 8, so the virtual
+ * thread API is looked up reflectively and is only available when running on Java 21 or newer.
+ */
+public final class VirtualThreads {
+
+  private static final String NOT_SUPPORTED_MESSAGE =
+      "Expected to run job handlers on virtual threads, but the Java runtime %s doesn't support virtual threads; use Java 21 or newer";
+
+  private VirtualThreads() {}
+
+  /**
+   * @return an executor which starts a new virtual thread for each task
+   * @throws ClientException if the Java runtime doesn't support virtual threads
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      throw new ClientException(
+          String.format(NOT_SUPPORTED_MESSAGE, System.getProperty("java.version")), e);
+    } catch (final InvocationTargetException e) {
+      throw new ClientException(
+          String.format(NOT_SUPPORTED_MESSAGE, System.getProperty("java.version")), e.getCause());
+    }
+  }
+}
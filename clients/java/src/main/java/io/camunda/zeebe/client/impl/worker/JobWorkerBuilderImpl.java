@@ -45,6 +45,7 @@ public final class JobWorkerBuilderImpl
   public static final Duration DEFAULT_STREAMING_TIMEOUT = Duration.ofHours(8);
   private final JobClient jobClient;
   private final ScheduledExecutorService executorService;
+  private final Executor jobHandlerExecutor;
   private final List<Closeable> closeables;
   private String jobType;
   private JobHandler handler;
@@ -66,8 +67,22 @@ public final class JobWorkerBuilderImpl
       final JobClient jobClient,
       final ScheduledExecutorService executorService,
       final List<Closeable> closeables) {
+    this(configuration, jobClient, executorService, null, closeables);
+  }
+
+  /**
+   * @param jobHandlerExecutor the executor to invoke the job handlers on, e.g. one which starts a
+   *     virtual thread per job; if null, the job handlers are invoked on the executor service
+   */
+  public JobWorkerBuilderImpl(
+      final ZeebeClientConfiguration configuration,
+      final JobClient jobClient,
+      final ScheduledExecutorService executorService,
+      final Executor jobHandlerExecutor,
+      final List<Closeable> closeables) {
     this.jobClient = jobClient;
     this.executorService = executorService;
+    this.jobHandlerExecutor = jobHandlerExecutor;
     this.closeables = closeables;
 
     timeout = configuration.getDefaultJobTimeout();
@@ -202,9 +217,17 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
+    }
+
+    if (jobHandlerExecutor != null) {
+      // the handler executor is not bounded by a number of threads, so the number of jobs handled
+      // concurrently is limited by maxJobsActive instead, for streamed and polled jobs alike
+      jobExecutor = new BlockingExecutor(jobHandlerExecutor, maxJobsActive, timeout);
+    } else if (enableStreaming) {
+      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+    } else {
       jobExecutor = executorService;
     }
 
@@ -20,6 +20,7 @@ import static io.camunda.zeebe.client.ClientProperties.DEFAULT_JOB_WORKER_TENANT
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_REQUEST_TIMEOUT;
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_TENANT_ID;
 import static io.camunda.zeebe.client.ClientProperties.GRPC_ADDRESS;
+import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_VIRTUAL_THREADS_ENABLED;
 import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_METADATA_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.PREFER_REST_OVER_GRPC;
@@ -108,6 +109,7 @@ public final class ZeebeClientTest extends ClientTest {
       assertThat(configuration.getDefaultTenantId())
           .isEqualTo(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
       assertThat(configuration.getDefaultJobWorkerStreamEnabled()).isFalse();
+      assertThat(configuration.jobWorkerVirtualThreadsEnabled()).isFalse();
       assertThat(configuration.getDefaultJobWorkerTenantIds())
           .containsExactly(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
       assertThat(configuration.preferRestOverGrpc()).isFalse();
@@ -193,6 +195,20 @@ public final class ZeebeClientTest extends ClientTest {
     assertThat(builder.getDefaultJobWorkerStreamEnabled()).isTrue();
   }
 
+  @Test
+  public void shouldEnableVirtualThreadsWithProperty() {
+    // given
+    final Properties properties = new Properties();
+    properties.putIfAbsent(JOB_WORKER_VIRTUAL_THREADS_ENABLED, "true");
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+
+    // when
+    builder.withProperties(properties);
+
+    // then
+    assertThat(builder.jobWorkerVirtualThreadsEnabled()).isTrue();
+  }
+
   @Test
   public void shouldEnableStreamingWithEnvironmentVariableWhenApplied() {
     // given
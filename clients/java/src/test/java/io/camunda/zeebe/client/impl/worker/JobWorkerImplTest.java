@@ -49,6 +49,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -242,6 +243,52 @@ public final class JobWorkerImplTest {
     }
   }
 
+  @Test
+  public void shouldHandleJobsConcurrentlyOnVirtualThreads() {
+    // given
+    final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    final List<io.camunda.zeebe.client.api.response.ActivatedJob> jobs =
+        new CopyOnWriteArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    final ZeebeClientBuilderImpl configuration = new ZeebeClientBuilderImpl();
+    configuration.jobWorkerVirtualThreadsEnabled(true);
+
+    try (final ZeebeClient client =
+        new ZeebeClientImpl(
+            configuration,
+            channel,
+            GatewayGrpc.newStub(channel),
+            new ExecutorResource(executor, true))) {
+      try (final JobWorker jobWorker =
+          client
+              .newWorker()
+              .jobType("t")
+              .handler(
+                  (c, j) -> {
+                    jobs.add(j);
+                    Uninterruptibles.awaitUninterruptibly(latch);
+                  })
+              .pollInterval(Duration.ofHours(1))
+              .maxJobsActive(3)
+              .timeout(Duration.ofSeconds(5))
+              .streamEnabled(true)
+              .open()) {
+
+        Awaitility.await("We need to wait until the streams have been opened")
+            .until(() -> !gateway.openStreams.isEmpty());
+
+        // when
+        new Thread(() -> gateway.pushJobs(TestData.jobs(4))).start();
+
+        // then
+        Awaitility.await("Handlers block beyond the single thread, but only up to maxJobsActive")
+            .until(() -> jobs, Matchers.hasSize(3));
+        latch.countDown();
+        Awaitility.await("Handler should see all jobs").until(() -> jobs, Matchers.hasSize(4));
+      }
+    }
+  }
+
   @Test
   public void shouldCloseIfExecutorIsClosed() {
     // given
@@ -309,6 +309,11 @@ public class ZeebeClientConfigurationImpl implements ZeebeClientConfiguration {
         configCache);
   }
 
+  @Override
+  public boolean jobWorkerVirtualThreadsEnabled() {
+    return camundaClientProperties.getZeebe().isVirtualThreadsEnabled();
+  }
+
   @Override
   public boolean getDefaultJobWorkerStreamEnabled() {
     return getOrLegacyOrDefault(
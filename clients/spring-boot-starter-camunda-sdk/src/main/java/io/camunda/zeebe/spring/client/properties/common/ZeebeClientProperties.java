@@ -22,6 +22,7 @@ import java.util.Map;
 
 public class ZeebeClientProperties extends ApiProperties {
   private Integer executionThreads;
+  private boolean virtualThreadsEnabled;
   private Duration messageTimeToLive;
   private Integer maxMessageSize;
   private Integer maxMetadataSize;
@@ -59,6 +60,14 @@ public class ZeebeClientProperties extends ApiProperties {
     this.executionThreads = executionThreads;
   }
 
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  public void setVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+  }
+
   public Duration getMessageTimeToLive() {
     return messageTimeToLive;
   }
@@ -33,6 +33,9 @@ public class Metrics {
   public static final String TIMER_NAME_IMPORT_TIME = OPERATE_NAMESPACE + "import.time";
   public static final String TIMER_NAME_IMPORT_JOB_SCHEDULED_TIME =
       OPERATE_NAMESPACE + "import.job.scheduled";
+  public static final String TIMER_NAME_IMPORT_JOB_QUEUED_TIME =
+      OPERATE_NAMESPACE + "import.job.queued";
+  public static final String TIMER_NAME_IMPORT_LAG = OPERATE_NAMESPACE + "import.lag";
   public static final String TIMER_NAME_IMPORT_PROCESSING_DURATION =
       OPERATE_NAMESPACE + "import.processing.duration";
   public static final String TIMER_NAME_IMPORT_POSITION_UPDATE =
@@ -48,6 +51,8 @@ public class Metrics {
       "events.processed.finished.process.instances";
   public static final String COUNTER_NAME_COMMANDS = "commands";
   public static final String COUNTER_NAME_ARCHIVED = "archived.process.instances";
+  public static final String COUNTER_NAME_IMPORT_CACHE_HITS = "import.cache.hits";
+  public static final String COUNTER_NAME_IMPORT_CACHE_MISSES = "import.cache.misses";
   // Gauges:
   public static final String GAUGE_IMPORT_QUEUE_SIZE = "import.queue.size";
   public static final String GAUGE_BPMN_MODEL_COUNT = OPERATE_NAMESPACE + "model.bpmn.count";
@@ -18,7 +18,9 @@ public class ImportProperties {
   private static final int DEFAULT_READER_BACKOFF = 5000;
   private static final int DEFAULT_SCHEDULER_BACKOFF = 5000;
   private static final int DEFAULT_FLOW_NODE_TREE_CACHE_SIZE = 1000;
+  private static final int DEFAULT_PROCESS_INSTANCE_TREE_CACHE_SIZE = 10_000;
   private static final int DEFAULT_MAX_EMPTY_RUNS = 10;
+  private static final int DEFAULT_TARGET_BATCH_LATENCY = 10_000;
 
   private int threadsCount = DEFAULT_IMPORT_THREADS_COUNT;
 
@@ -47,6 +49,13 @@ public class ImportProperties {
 
   private int flowNodeTreeCacheSize = DEFAULT_FLOW_NODE_TREE_CACHE_SIZE;
 
+  /**
+   * The number of tree paths of process instances, and of ids of call activities, which are cached
+   * to build the tree paths of called process instances. The caches are shared by all partitions,
+   * and are never smaller than the batch size times the number of partitions.
+   */
+  private int processInstanceTreeCacheSize = DEFAULT_PROCESS_INSTANCE_TREE_CACHE_SIZE;
+
   private int importPositionUpdateInterval = DEFAULT_IMPORT_POSITION_UPDATE_INTERVAL;
 
   /** Indicates, whether loading of Zeebe data should start on startup. */
@@ -75,6 +84,14 @@ public class ImportProperties {
 
   private int maxEmptyRuns = DEFAULT_MAX_EMPTY_RUNS;
 
+  /**
+   * The time in milliseconds, in which a batch of Zeebe data should be imported. If importing a
+   * batch takes longer, e.g. because Elastic is overloaded, the batch size is reduced, and it grows
+   * back to the configured batch size once batches are imported fast enough again. Set to 0 to
+   * always read batches of the configured batch size.
+   */
+  private int targetBatchLatency = DEFAULT_TARGET_BATCH_LATENCY;
+
   public boolean isStartLoadingDataOnStartup() {
     return startLoadingDataOnStartup;
   }
@@ -169,6 +186,15 @@ public class ImportProperties {
     this.flowNodeTreeCacheSize = flowNodeTreeCacheSize;
   }
 
+  public int getProcessInstanceTreeCacheSize() {
+    return processInstanceTreeCacheSize;
+  }
+
+  public ImportProperties setProcessInstanceTreeCacheSize(final int processInstanceTreeCacheSize) {
+    this.processInstanceTreeCacheSize = processInstanceTreeCacheSize;
+    return this;
+  }
+
   public int getVariableSizeThreshold() {
     return variableSizeThreshold;
   }
@@ -212,4 +238,13 @@ public class ImportProperties {
     this.maxEmptyRuns = maxEmptyRuns;
     return this;
   }
+
+  public int getTargetBatchLatency() {
+    return targetBatchLatency;
+  }
+
+  public ImportProperties setTargetBatchLatency(final int targetBatchLatency) {
+    this.targetBatchLatency = targetBatchLatency;
+    return this;
+  }
 }
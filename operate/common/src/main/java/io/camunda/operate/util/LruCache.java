@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache with a bounded number of entries. When an entry is added to a full cache, the least
+ * recently used entry is evicted. Unlike the {@link SoftHashMap}, entries are only evicted because
+ * of the size of the cache, so it can be relied on to contain the most recently used entries.
+ *
+ * <p>This implementation is thread-safe.
+ */
+public class LruCache<K, V> {
+
+  private final int maxSize;
+  private final Map<K, V> entries;
+
+  public LruCache(final int maxSize) {
+    this.maxSize = Math.max(1, maxSize);
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return size() > LruCache.this.maxSize;
+          }
+        };
+  }
+
+  /** Returns the cached value of the key, or null if there is none, and marks it as used. */
+  public synchronized V get(final K key) {
+    return entries.get(key);
+  }
+
+  /** Returns whether the key is cached, without marking it as used. */
+  public synchronized boolean containsKey(final K key) {
+    return entries.containsKey(key);
+  }
+
+  public synchronized void put(final K key, final V value) {
+    entries.put(key, value);
+  }
+
+  public synchronized void putAll(final Map<? extends K, ? extends V> values) {
+    entries.putAll(values);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.operate.util;
 
+import java.time.Duration;
+
 public interface NumberThrottleable {
 
   void throttle();
@@ -73,4 +75,67 @@ public interface NumberThrottleable {
       return changedSizeUsed * currentSize * 2 > originalSize;
     }
   }
+
+  /**
+   * Adapts the number to the latency of the work it sizes, e.g. the batch size of the importer to
+   * the time it takes to import a batch. Whenever the work takes longer than the target latency,
+   * the number is divided like {@link DivideNumberThrottle}; whenever it takes less than half of
+   * the target latency, the number grows by a tenth of the original value, up to the original
+   * value. Without a target latency, the number only grows back after it was {@link #throttle()
+   * throttled}.
+   *
+   * <p>This class is thread safe, as the number is usually read by one thread, while the latency is
+   * recorded by another.
+   */
+  class AdaptiveNumberThrottle implements NumberThrottleable {
+
+    private final int originalSize;
+    private final int throttleFactor;
+    private final int increment;
+    private final long targetLatencyMillis;
+    private int currentSize;
+
+    public AdaptiveNumberThrottle(final int originalSize, final long targetLatencyMillis) {
+      this(originalSize, 2, targetLatencyMillis);
+    }
+
+    public AdaptiveNumberThrottle(
+        final int originalSize, final int throttleFactor, final long targetLatencyMillis) {
+      this.originalSize = originalSize;
+      this.throttleFactor = throttleFactor;
+      this.targetLatencyMillis = targetLatencyMillis;
+      increment = Math.max(1, originalSize / 10);
+      currentSize = originalSize;
+    }
+
+    /** Records how long the work took which was sized with the current number. */
+    public synchronized void recordLatency(final Duration latency) {
+      final long latencyMillis = latency.toMillis();
+      if (targetLatencyMillis > 0 && latencyMillis > targetLatencyMillis) {
+        throttle();
+      } else if (targetLatencyMillis <= 0 || latencyMillis * 2 < targetLatencyMillis) {
+        currentSize = Math.min(originalSize, currentSize + increment);
+      }
+    }
+
+    @Override
+    public synchronized void throttle() {
+      currentSize = Math.max(1, currentSize / throttleFactor);
+    }
+
+    @Override
+    public synchronized void reset() {
+      currentSize = originalSize;
+    }
+
+    @Override
+    public synchronized int get() {
+      return currentSize;
+    }
+
+    @Override
+    public int getOriginal() {
+      return originalSize;
+    }
+  }
 }
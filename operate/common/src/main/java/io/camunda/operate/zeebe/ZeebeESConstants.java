@@ -12,6 +12,7 @@ public interface ZeebeESConstants {
 
   String POSITION_FIELD_NAME = "position";
   String SEQUENCE_FIELD_NAME = "sequence";
+  String TIMESTAMP_FIELD_NAME = "timestamp";
   String PROCESS_INSTANCE_INDEX_NAME = "process-instance";
   String DECISION_INDEX_NAME = "decision";
   String DECISION_REQUIREMENTS_INDEX_NAME = "decision-requirements";
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.operate.util.NumberThrottleable.AdaptiveNumberThrottle;
+import java.time.Duration;
+import org.junit.Test;
+
+public class AdaptiveNumberThrottleTest {
+
+  private final AdaptiveNumberThrottle throttle = new AdaptiveNumberThrottle(100, 1000);
+
+  @Test
+  public void testDivideIfLatencyExceedsTarget() {
+    throttle.recordLatency(Duration.ofMillis(1500));
+    assertThat(throttle.get()).isEqualTo(50);
+
+    throttle.recordLatency(Duration.ofMillis(1500));
+    assertThat(throttle.get()).isEqualTo(25);
+  }
+
+  @Test
+  public void testKeepSizeIfLatencyIsCloseToTarget() {
+    throttle.recordLatency(Duration.ofMillis(1500));
+
+    throttle.recordLatency(Duration.ofMillis(800));
+    assertThat(throttle.get()).isEqualTo(50);
+  }
+
+  @Test
+  public void testGrowBackToOriginalIfLatencyIsLow() {
+    throttle.recordLatency(Duration.ofMillis(1500));
+
+    throttle.recordLatency(Duration.ofMillis(100));
+    assertThat(throttle.get()).isEqualTo(60);
+
+    for (int i = 0; i < 10; i++) {
+      throttle.recordLatency(Duration.ofMillis(100));
+    }
+    assertThat(throttle.get()).isEqualTo(100);
+  }
+
+  @Test
+  public void testNeverThrottleBelowOne() {
+    for (int i = 0; i < 10; i++) {
+      throttle.throttle();
+    }
+    assertThat(throttle.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testGrowBackAfterThrottleWithoutTargetLatency() {
+    final AdaptiveNumberThrottle withoutTarget = new AdaptiveNumberThrottle(100, 0);
+    withoutTarget.throttle();
+
+    withoutTarget.recordLatency(Duration.ofMinutes(1));
+    assertThat(withoutTarget.get()).isEqualTo(60);
+  }
+}
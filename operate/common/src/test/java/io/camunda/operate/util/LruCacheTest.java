@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class LruCacheTest {
+
+  private final LruCache<String, String> cache = new LruCache<>(2);
+
+  @Test
+  public void shouldEvictLeastRecentlyAddedEntry() {
+    // given
+    cache.put("a", "1");
+    cache.put("b", "2");
+
+    // when
+    cache.put("c", "3");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isEqualTo("2");
+    assertThat(cache.get("c")).isEqualTo("3");
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntry() {
+    // given
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.get("a");
+
+    // when
+    cache.put("c", "3");
+
+    // then
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("b")).isNull();
+  }
+
+  @Test
+  public void shouldNotMarkEntryAsUsedWhenCheckingForKey() {
+    // given
+    cache.put("a", "1");
+    cache.put("b", "2");
+    assertThat(cache.containsKey("a")).isTrue();
+
+    // when
+    cache.put("c", "3");
+
+    // then
+    assertThat(cache.containsKey("a")).isFalse();
+  }
+
+  @Test
+  public void shouldKeepMaxSizeWhenAddingMany() {
+    // when
+    cache.putAll(Map.of("a", "1", "b", "2", "c", "3"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+  }
+}
@@ -7,6 +7,9 @@
  */
 package io.camunda.operate.zeebeimport.v8_5.processors;
 
+import static io.camunda.operate.Metrics.COUNTER_NAME_IMPORT_CACHE_HITS;
+import static io.camunda.operate.Metrics.COUNTER_NAME_IMPORT_CACHE_MISSES;
+import static io.camunda.operate.Metrics.TAG_KEY_NAME;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_ID;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_STATE;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_TYPE;
@@ -28,6 +31,7 @@ import static io.camunda.operate.util.LambdaExceptionUtil.rethrowConsumer;
 import static io.camunda.operate.zeebeimport.util.ImportUtil.tenantOrDefault;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.*;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.cache.ProcessCache;
 import io.camunda.operate.entities.FlowNodeState;
 import io.camunda.operate.entities.FlowNodeType;
@@ -69,6 +73,8 @@ public class ListViewZeebeRecordProcessor {
   private static final Set<String> PI_AND_AI_START_STATES = new HashSet<>();
   private static final Set<String> PI_AND_AI_FINISH_STATES = new HashSet<>();
   private static final Set<String> FAILED_JOB_EVENTS = new HashSet<>();
+  private static final String TREE_PATH_CACHE = "processInstanceTreePath";
+  private static final String CALL_ACTIVITY_ID_CACHE = "callActivityId";
 
   static {
     PI_AND_AI_START_STATES.add(ELEMENT_ACTIVATING.name());
@@ -95,34 +101,48 @@ public class ListViewZeebeRecordProcessor {
 
   @Autowired private MetricsStore metricsStore;
 
+  @Autowired private Metrics metrics;
+
   // treePath by processInstanceKey cache
-  private Map<String, String> treePathCache;
+  private LruCache<String, String> treePathCache;
   // flowNodeId by flowNodeInstanceId cache for call activities
-  private Map<String, String> callActivityIdCache;
+  private LruCache<String, String> callActivityIdCache;
 
-  private Map<String, String> getTreePathCache() {
+  private LruCache<String, String> getTreePathCache() {
     if (treePathCache == null) {
-      // cache must be able to contain all possible processInstanceKeys with there treePaths before
-      // the data is persisted: import batch size * number of partitions processed by current import
-      // node
-      treePathCache =
-          new SoftHashMap<>(
-              operateProperties.getElasticsearch().getBatchSize()
-                  * partitionHolder.getPartitionIds().size());
+      treePathCache = new LruCache<>(getTreeCacheSize());
     }
     return treePathCache;
   }
 
-  private Map<String, String> getCallActivityIdCache() {
+  private LruCache<String, String> getCallActivityIdCache() {
     if (callActivityIdCache == null) {
-      callActivityIdCache =
-          new SoftHashMap<>(
-              operateProperties.getElasticsearch().getBatchSize()
-                  * partitionHolder.getPartitionIds().size());
+      callActivityIdCache = new LruCache<>(getTreeCacheSize());
     }
     return callActivityIdCache;
   }
 
+  private int getTreeCacheSize() {
+    // cache must be able to contain all possible processInstanceKeys with there treePaths before
+    // the data is persisted: import batch size * number of partitions processed by current import
+    // node
+    return Math.max(
+        operateProperties.getImporter().getProcessInstanceTreeCacheSize(),
+        operateProperties.getElasticsearch().getBatchSize()
+            * partitionHolder.getPartitionIds().size());
+  }
+
+  private String getCachedValue(
+      final LruCache<String, String> cache, final String key, final String cacheName) {
+    final String value = cache.get(key);
+    metrics.recordCounts(
+        value != null ? COUNTER_NAME_IMPORT_CACHE_HITS : COUNTER_NAME_IMPORT_CACHE_MISSES,
+        1,
+        TAG_KEY_NAME,
+        cacheName);
+    return value;
+  }
+
   public void processIncidentRecord(
       final Record record, final BatchRequest batchRequest, final boolean concurrencyMode)
       throws PersistenceException {
@@ -237,6 +257,8 @@ public class ListViewZeebeRecordProcessor {
       final boolean concurrencyMode)
       throws PersistenceException {
 
+    prefetchTreePaths(records);
+
     final Map<String, String> treePathMap = new HashMap<>();
     for (final Map.Entry<Long, List<Record<ProcessInstanceRecordValue>>> wiRecordsEntry :
         records.entrySet()) {
@@ -548,17 +570,74 @@ public class ListViewZeebeRecordProcessor {
         processInstanceKey, piEntity.getTenantId(), timestamp, batchRequest);
   }
 
+  /**
+   * Loads the tree paths and the ids of the call activities which are needed to build the tree
+   * paths of the called process instances of the batch, and which are not cached yet, with a single
+   * query each instead of a query per process instance.
+   */
+  private void prefetchTreePaths(
+      final Map<Long, List<Record<ProcessInstanceRecordValue>>> records) {
+    final Map<Long, ProcessInstanceRecordValue> calledProcessInstances = new HashMap<>();
+    for (final List<Record<ProcessInstanceRecordValue>> piRecords : records.values()) {
+      for (final Record<ProcessInstanceRecordValue> record : piRecords) {
+        final var recordValue = record.getValue();
+        if (isProcessEvent(recordValue)
+            && recordValue.getParentProcessInstanceKey() != EMPTY_PARENT_PROCESS_INSTANCE_ID) {
+          calledProcessInstances.putIfAbsent(recordValue.getProcessInstanceKey(), recordValue);
+        }
+      }
+    }
+
+    // the tree paths of the process instances of this batch are cached once they are processed
+    final Set<Long> processInstanceKeys = new HashSet<>();
+    for (final ProcessInstanceRecordValue recordValue : calledProcessInstances.values()) {
+      if (!getTreePathCache().containsKey(String.valueOf(recordValue.getProcessInstanceKey()))) {
+        processInstanceKeys.add(recordValue.getProcessInstanceKey());
+        final long parentProcessInstanceKey = recordValue.getParentProcessInstanceKey();
+        if (!records.containsKey(parentProcessInstanceKey)
+            && !getTreePathCache().containsKey(String.valueOf(parentProcessInstanceKey))) {
+          processInstanceKeys.add(parentProcessInstanceKey);
+        }
+      }
+    }
+    if (processInstanceKeys.isEmpty()) {
+      return;
+    }
+    final Map<Long, String> treePaths =
+        listViewStore.findProcessInstanceTreePathsFor(processInstanceKeys);
+    treePaths.forEach((key, treePath) -> getTreePathCache().put(String.valueOf(key), treePath));
+
+    final Set<String> callActivityInstanceIds = new HashSet<>();
+    for (final ProcessInstanceRecordValue recordValue : calledProcessInstances.values()) {
+      final String callActivityInstanceId =
+          String.valueOf(recordValue.getParentElementInstanceKey());
+      if (!treePaths.containsKey(recordValue.getProcessInstanceKey())
+          && !getCallActivityIdCache().containsKey(callActivityInstanceId)) {
+        callActivityInstanceIds.add(callActivityInstanceId);
+      }
+    }
+    if (!callActivityInstanceIds.isEmpty()) {
+      getCallActivityIdCache()
+          .putAll(flowNodeStore.getFlowNodeIdsForFlowNodeInstances(callActivityInstanceIds));
+    }
+  }
+
   private String getTreePathForCalledProcess(final ProcessInstanceRecordValue recordValue) {
-    String parentTreePath = null;
+    final String processInstanceId =
+        ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey());
+    // the tree path of a process instance never changes
+    final String cachedTreePath =
+        getCachedValue(getTreePathCache(), processInstanceId, TREE_PATH_CACHE);
+    if (cachedTreePath != null) {
+      return cachedTreePath;
+    }
 
     // search in cache
-    if (getTreePathCache()
-            .get(ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()))
-        != null) {
-      parentTreePath =
-          getTreePathCache()
-              .get(ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()));
-    }
+    String parentTreePath =
+        getCachedValue(
+            getTreePathCache(),
+            ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()),
+            TREE_PATH_CACHE);
     // query from ELS
     if (parentTreePath == null) {
       parentTreePath =
@@ -570,30 +649,23 @@ public class ListViewZeebeRecordProcessor {
       final String callActivityId = getCallActivityId(flowNodeInstanceId);
       final String treePath =
           new TreePath(parentTreePath)
-              .appendEntries(
-                  callActivityId,
-                  flowNodeInstanceId,
-                  ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()))
+              .appendEntries(callActivityId, flowNodeInstanceId, processInstanceId)
               .toString();
-      getTreePathCache()
-          .put(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()), treePath);
+      getTreePathCache().put(processInstanceId, treePath);
       return treePath;
     } else {
       LOGGER.warn(
           "Unable to find parent tree path for parent instance id "
               + recordValue.getParentProcessInstanceKey());
-      final String treePath =
-          new TreePath()
-              .startTreePath(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()))
-              .toString();
-      getTreePathCache()
-          .put(ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey()), treePath);
+      final String treePath = new TreePath().startTreePath(processInstanceId).toString();
+      getTreePathCache().put(processInstanceId, treePath);
       return treePath;
     }
   }
 
   private String getCallActivityId(final String flowNodeInstanceId) {
-    String callActivityId = getCallActivityIdCache().get(flowNodeInstanceId);
+    String callActivityId =
+        getCachedValue(getCallActivityIdCache(), flowNodeInstanceId, CALL_ACTIVITY_ID_CACHE);
     if (callActivityId == null) {
       callActivityId = flowNodeStore.getFlowNodeIdByFlowNodeInstanceId(flowNodeInstanceId);
       getCallActivityIdCache().put(flowNodeInstanceId, callActivityId);
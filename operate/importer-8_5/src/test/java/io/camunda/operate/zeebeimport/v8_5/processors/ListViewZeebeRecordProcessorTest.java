@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.v8_5.processors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.camunda.operate.Metrics;
+import io.camunda.operate.cache.ProcessCache;
+import io.camunda.operate.entities.listview.ProcessInstanceForListViewEntity;
+import io.camunda.operate.exceptions.PersistenceException;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.templates.ListViewTemplate;
+import io.camunda.operate.store.BatchRequest;
+import io.camunda.operate.store.FlowNodeStore;
+import io.camunda.operate.store.ListViewStore;
+import io.camunda.operate.store.MetricsStore;
+import io.camunda.operate.util.OperationsManager;
+import io.camunda.operate.util.TreePath;
+import io.camunda.operate.zeebe.PartitionHolder;
+import io.camunda.operate.zeebeimport.ImportBatch;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ListViewZeebeRecordProcessorTest {
+
+  private static final long NO_PARENT_KEY = -1L;
+
+  @Mock private ListViewTemplate listViewTemplate;
+  @Mock private ProcessCache processCache;
+  @Mock private OperationsManager operationsManager;
+  @Mock private ListViewStore listViewStore;
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private PartitionHolder partitionHolder;
+  @Mock private FlowNodeStore flowNodeStore;
+  @Mock private MetricsStore metricsStore;
+  @Mock private Metrics metrics;
+  @InjectMocks private ListViewZeebeRecordProcessor listViewZeebeRecordProcessor;
+
+  @Test
+  void shouldPrefetchTreePathsOfCalledProcessInstancesOncePerBatch() throws PersistenceException {
+    /* given */
+    final var batchRequest = mock(BatchRequest.class);
+    when(listViewStore.findProcessInstanceTreePathsFor(Set.of(10L, 1L, 20L, 2L)))
+        .thenReturn(Map.of(1L, "PI_1", 2L, "PI_2"));
+    when(flowNodeStore.getFlowNodeIdsForFlowNodeInstances(Set.of("100", "200")))
+        .thenReturn(Map.of("100", "callActivityA", "200", "callActivityB"));
+    final Map<Long, List<Record<ProcessInstanceRecordValue>>> records =
+        Map.of(
+            10L, List.of(processInstanceRecord(10L, 1L, 100L)),
+            20L, List.of(processInstanceRecord(20L, 2L, 200L)));
+
+    /* when */
+    listViewZeebeRecordProcessor.processProcessInstanceRecord(
+        records, batchRequest, mock(ImportBatch.class), false);
+
+    /* then */
+    verify(listViewStore, times(1)).findProcessInstanceTreePathsFor(any());
+    verify(listViewStore, never()).findProcessInstanceTreePathFor(anyLong());
+    verify(flowNodeStore, times(1)).getFlowNodeIdsForFlowNodeInstances(any());
+    verify(flowNodeStore, never()).getFlowNodeIdByFlowNodeInstanceId(any());
+
+    final var processInstances = ArgumentCaptor.forClass(ProcessInstanceForListViewEntity.class);
+    verify(batchRequest, times(2)).upsert(any(), any(), processInstances.capture(), anyMap());
+    assertThat(processInstances.getAllValues())
+        .extracting(ProcessInstanceForListViewEntity::getTreePath)
+        .containsExactlyInAnyOrder(
+            new TreePath("PI_1").appendEntries("callActivityA", "100", "10").toString(),
+            new TreePath("PI_2").appendEntries("callActivityB", "200", "20").toString());
+  }
+
+  @Test
+  void shouldNotPrefetchTreePathsOfRootProcessInstances() throws PersistenceException {
+    /* given */
+    final var batchRequest = mock(BatchRequest.class);
+    final Map<Long, List<Record<ProcessInstanceRecordValue>>> records =
+        Map.of(10L, List.of(processInstanceRecord(10L, NO_PARENT_KEY, NO_PARENT_KEY)));
+
+    /* when */
+    listViewZeebeRecordProcessor.processProcessInstanceRecord(
+        records, batchRequest, mock(ImportBatch.class), false);
+
+    /* then */
+    verifyNoInteractions(listViewStore, flowNodeStore);
+    verify(batchRequest).upsert(any(), eq("10"), any(), anyMap());
+  }
+
+  private static Record<ProcessInstanceRecordValue> processInstanceRecord(
+      final long processInstanceKey,
+      final long parentProcessInstanceKey,
+      final long parentElementInstanceKey) {
+    final var record = (Record<ProcessInstanceRecordValue>) mock(Record.class);
+    when(record.getIntent()).thenReturn(ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    when(record.getValue())
+        .thenReturn(
+            ImmutableProcessInstanceRecordValue.builder()
+                .withProcessInstanceKey(processInstanceKey)
+                .withParentProcessInstanceKey(parentProcessInstanceKey)
+                .withParentElementInstanceKey(parentElementInstanceKey)
+                .withBpmnElementType(BpmnElementType.PROCESS)
+                .withBpmnProcessId("process")
+                .build());
+    return record;
+  }
+}
@@ -102,6 +102,11 @@ public class ImportBatch {
     return getLastProcessed(ZeebeESConstants.SEQUENCE_FIELD_NAME, objectMapper, 0L);
   }
 
+  /** Returns the time in ms at which the last record of the batch was written, or 0 if unknown. */
+  public Long getLastProcessedTimestamp(ObjectMapper objectMapper) {
+    return getLastProcessed(ZeebeESConstants.TIMESTAMP_FIELD_NAME, objectMapper, 0L);
+  }
+
   private long getLastProcessed(
       final String fieldName, final ObjectMapper objectMapper, final Long defaultValue) {
     try {
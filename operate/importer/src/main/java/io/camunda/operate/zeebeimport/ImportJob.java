@@ -10,12 +10,14 @@ package io.camunda.operate.zeebeimport;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.HitEntity;
 import io.camunda.operate.entities.meta.ImportPositionEntity;
 import io.camunda.operate.exceptions.NoSuchIndexException;
 import io.camunda.operate.exceptions.OperateRuntimeException;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.store.ZeebeStore;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +42,7 @@ public class ImportJob implements Callable<Boolean> {
   private final OffsetDateTime creationTime;
   private ImportBatch importBatch;
   private ImportPositionEntity lastProcessedPosition;
+  private boolean started;
   @Autowired private ImportBatchProcessorFactory importBatchProcessorFactory;
 
   @Autowired private ImportPositionHolder importPositionHolder;
@@ -57,6 +60,8 @@ public class ImportJob implements Callable<Boolean> {
 
   @Autowired private OperateProperties operateProperties;
 
+  @Autowired private Metrics metrics;
+
   public ImportJob(final ImportBatch importBatch, final ImportPositionEntity previousPosition) {
     this.importBatch = importBatch;
     this.previousPosition = previousPosition;
@@ -65,6 +70,7 @@ public class ImportJob implements Callable<Boolean> {
 
   @Override
   public Boolean call() {
+    recordQueuedTime();
     processPossibleIndexChange();
 
     // separate importBatch in sub-batches per index
@@ -78,12 +84,52 @@ public class ImportJob implements Callable<Boolean> {
       } // else continue
     }
     importPositionHolder.recordLatestLoadedPosition(getLastProcessedPosition());
+    recordImportLag();
     for (final ImportBatch subBatch : subBatches) {
       notifyImportListenersAsFinished(subBatch);
     }
     return true;
   }
 
+  /**
+   * Records how long the job waited in the queue of its records reader, since it was scheduled.
+   * Retries of a failed job are not recorded again.
+   */
+  private void recordQueuedTime() {
+    final OffsetDateTime scheduledTime = importBatch.getScheduledTime();
+    if (started || scheduledTime == null) {
+      return;
+    }
+
+    started = true;
+    metrics
+        .getTimer(
+            Metrics.TIMER_NAME_IMPORT_JOB_QUEUED_TIME,
+            Metrics.TAG_KEY_TYPE,
+            importBatch.getImportValueType().name(),
+            Metrics.TAG_KEY_PARTITION,
+            String.valueOf(importBatch.getPartitionId()))
+        .record(Duration.between(scheduledTime, OffsetDateTime.now()));
+  }
+
+  /** Records how far the import lags behind Zeebe, by the timestamp of the last imported record. */
+  private void recordImportLag() {
+    final long lastRecordTimestamp = importBatch.getLastProcessedTimestamp(objectMapper);
+    if (lastRecordTimestamp <= 0) {
+      return;
+    }
+
+    final long lagMillis = Math.max(0, System.currentTimeMillis() - lastRecordTimestamp);
+    metrics
+        .getTimer(
+            Metrics.TIMER_NAME_IMPORT_LAG,
+            Metrics.TAG_KEY_TYPE,
+            importBatch.getImportValueType().name(),
+            Metrics.TAG_KEY_PARTITION,
+            String.valueOf(importBatch.getPartitionId()))
+        .record(Duration.ofMillis(lagMillis));
+  }
+
   @SuppressWarnings("checkstyle:NestedIfDepth")
   private void processPossibleIndexChange() {
     // if there was index change, comparing with previous batch, or there are more than one index in
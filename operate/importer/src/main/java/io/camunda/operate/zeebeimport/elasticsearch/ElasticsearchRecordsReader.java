@@ -28,7 +28,6 @@ import io.camunda.operate.util.NumberThrottleable;
 import io.camunda.operate.zeebe.ImportValueType;
 import io.camunda.operate.zeebeimport.*;
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
@@ -38,15 +37,15 @@ import java.util.Date;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.ReentrantLock;
 import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.search.SearchHit;
@@ -75,6 +74,8 @@ public class ElasticsearchRecordsReader implements RecordsReader {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ElasticsearchRecordsReader.class);
 
+  private static final String INDEX_FIELD = "_index";
+
   /** Partition id. */
   private final int partitionId;
 
@@ -85,7 +86,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
   private final BlockingQueue<Callable<Boolean>> importJobs;
 
   private final ReentrantLock schedulingImportJobLock;
-  private NumberThrottleable batchSizeThrottle;
+  private NumberThrottleable.AdaptiveNumberThrottle batchSizeThrottle;
 
   /** The job that we are currently busy with. */
   private Callable<Boolean> active;
@@ -133,8 +134,9 @@ public class ElasticsearchRecordsReader implements RecordsReader {
   @PostConstruct
   private void postConstruct() {
     batchSizeThrottle =
-        new NumberThrottleable.DivideNumberThrottle(
-            operateProperties.getZeebeElasticsearch().getBatchSize());
+        new NumberThrottleable.AdaptiveNumberThrottle(
+            operateProperties.getZeebeElasticsearch().getBatchSize(),
+            operateProperties.getImporter().getTargetBatchLatency());
     // 1st sequence of next partition - 1
     maxPossibleSequence = sequence(partitionId + 1, 0) - 1;
     countEmptyRuns = 0;
@@ -217,7 +219,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
         importValueType.getAliasName(operateProperties.getZeebeElasticsearch().getPrefix());
     final int batchSize = batchSizeThrottle.get();
     if (batchSize != batchSizeThrottle.getOriginal()) {
-      LOGGER.warn(
+      LOGGER.debug(
           "Use new batch size {} (original {})", batchSize, batchSizeThrottle.getOriginal());
     }
     final long lessThanEqualsSequence;
@@ -251,12 +253,18 @@ public class ElasticsearchRecordsReader implements RecordsReader {
       }
     }
 
+    final boolean pagingNeeded = maxNumberOfHits >= QUERY_MAX_SIZE;
     final SearchSourceBuilder searchSourceBuilder =
         new SearchSourceBuilder()
             .sort(ImportPositionIndex.SEQUENCE, SortOrder.ASC)
             .query(
                 rangeQuery(ImportPositionIndex.SEQUENCE).gt(sequence).lte(lessThanEqualsSequence))
-            .size(maxNumberOfHits >= QUERY_MAX_SIZE ? QUERY_MAX_SIZE : maxNumberOfHits);
+            .size(pagingNeeded ? QUERY_MAX_SIZE : maxNumberOfHits);
+    if (pagingNeeded) {
+      // the same record may exist in several indices, e.g. after a reindex, so the index breaks the
+      // tie to page through all of them
+      searchSourceBuilder.sort(INDEX_FIELD, SortOrder.ASC);
+    }
 
     final SearchRequest searchRequest =
         new SearchRequest(aliasName)
@@ -265,8 +273,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
             .requestCache(false);
 
     try {
-      final HitEntity[] hits =
-          withTimerSearchHits(() -> read(searchRequest, maxNumberOfHits >= QUERY_MAX_SIZE));
+      final HitEntity[] hits = withTimerSearchHits(() -> read(searchRequest, pagingNeeded));
       if (hits.length == 0) {
         countEmptyRuns++;
       } else {
@@ -356,42 +363,45 @@ public class ElasticsearchRecordsReader implements RecordsReader {
     return readNextBatchBySequence(sequence, null);
   }
 
-  private HitEntity[] read(final SearchRequest searchRequest, final boolean scrollNeeded)
-      throws IOException {
-    String scrollId = null;
-    try {
-      final List<HitEntity> searchHits = new ArrayList<>();
+  /**
+   * Reads the hits of the given request. If paging is needed, the hits are read page by page, by
+   * searching after the sort values of the last hit of the previous page. The next page is already
+   * requested while the hits of the current page are converted. Unlike a scroll, this doesn't keep
+   * a search context open in Elasticsearch between the pages.
+   */
+  private HitEntity[] read(final SearchRequest searchRequest, final boolean pagingNeeded)
+      throws Exception {
+    final List<HitEntity> searchHits = new ArrayList<>();
+    final int pageSize = searchRequest.source().size();
 
-      if (scrollNeeded) {
-        searchRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-      }
-      SearchResponse response = zeebeEsClient.search(searchRequest, requestOptions);
+    SearchResponse response = zeebeEsClient.search(searchRequest, requestOptions);
+    while (true) {
       checkForFailedShards(response);
+      final SearchHit[] hits = response.getHits().getHits();
 
-      searchHits.addAll(
-          Arrays.stream(response.getHits().getHits()).map(this::searchHitToOperateHit).toList());
-
-      if (scrollNeeded) {
-        scrollId = response.getScrollId();
-        do {
-          final SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
-          scrollRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
+      CompletableFuture<SearchResponse> nextPage = null;
+      if (pagingNeeded && hits.length == pageSize) {
+        searchRequest.source().searchAfter(hits[hits.length - 1].getSortValues());
+        nextPage = searchAsync(searchRequest, Runnable::run, zeebeEsClient, requestOptions);
+      }
 
-          response = zeebeEsClient.scroll(scrollRequest, requestOptions);
-          checkForFailedShards(response);
+      Arrays.stream(hits).map(this::searchHitToOperateHit).forEach(searchHits::add);
 
-          scrollId = response.getScrollId();
-          searchHits.addAll(
-              Arrays.stream(response.getHits().getHits())
-                  .map(this::searchHitToOperateHit)
-                  .toList());
-        } while (response.getHits().getHits().length != 0);
+      if (nextPage == null) {
+        return searchHits.toArray(new HitEntity[0]);
       }
-      return searchHits.toArray(new HitEntity[0]);
-    } finally {
-      if (scrollId != null) {
-        clearScroll(scrollId, zeebeEsClient);
+      response = awaitPage(nextPage);
+    }
+  }
+
+  private SearchResponse awaitPage(final CompletableFuture<SearchResponse> page) throws Exception {
+    try {
+      return page.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final Exception cause) {
+        throw cause;
       }
+      throw e;
     }
   }
 
@@ -556,8 +566,11 @@ public class ElasticsearchRecordsReader implements RecordsReader {
   private Callable<Boolean> executeJob(final ImportJob job) {
     return () -> {
       try {
+        final var startTime = OffsetDateTime.now();
         final var imported = job.call();
         if (imported) {
+          // adapt the size of the next batches to how long it takes to import them
+          batchSizeThrottle.recordLatency(Duration.between(startTime, OffsetDateTime.now()));
           executeNext();
           rescheduleRecordsReaderIfNecessary();
         } else {
@@ -86,7 +86,7 @@ public class OpensearchRecordsReader implements RecordsReader {
   private final BlockingQueue<Callable<Boolean>> importJobs;
 
   private final ReentrantLock schedulingImportJobLock;
-  private NumberThrottleable batchSizeThrottle;
+  private NumberThrottleable.AdaptiveNumberThrottle batchSizeThrottle;
 
   /** The job that we are currently busy with. */
   private Callable<Boolean> active;
@@ -132,8 +132,9 @@ public class OpensearchRecordsReader implements RecordsReader {
   @PostConstruct
   private void postConstruct() {
     batchSizeThrottle =
-        new NumberThrottleable.DivideNumberThrottle(
-            operateProperties.getZeebeOpensearch().getBatchSize());
+        new NumberThrottleable.AdaptiveNumberThrottle(
+            operateProperties.getZeebeOpensearch().getBatchSize(),
+            operateProperties.getImporter().getTargetBatchLatency());
     // 1st sequence of next partition - 1
     maxPossibleSequence = sequence(partitionId + 1, 0) - 1;
     countEmptyRuns = 0;
@@ -218,7 +219,7 @@ public class OpensearchRecordsReader implements RecordsReader {
         importValueType.getAliasName(operateProperties.getZeebeOpensearch().getPrefix());
     final int batchSize = batchSizeThrottle.get();
     if (batchSize != batchSizeThrottle.getOriginal()) {
-      LOGGER.warn(
+      LOGGER.debug(
           "Use new batch size {} (original {})", batchSize, batchSizeThrottle.getOriginal());
     }
     final long lessThanEqualsSequence;
@@ -517,8 +518,11 @@ public class OpensearchRecordsReader implements RecordsReader {
   private Callable<Boolean> executeJob(final ImportJob job) {
     return () -> {
       try {
+        final var startTime = OffsetDateTime.now();
         final var imported = job.call();
         if (imported) {
+          // adapt the size of the next batches to how long it takes to import them
+          batchSizeThrottle.recordLatency(Duration.between(startTime, OffsetDateTime.now()));
           executeNext();
           rescheduleRecordsReaderIfNecessary();
         } else {
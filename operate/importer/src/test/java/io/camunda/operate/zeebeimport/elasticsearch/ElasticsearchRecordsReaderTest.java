@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.elasticsearch;
+
+import static io.camunda.operate.util.ElasticsearchUtil.QUERY_MAX_SIZE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.Metrics;
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.zeebe.ImportValueType;
+import io.camunda.operate.zeebeimport.ImportBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.search.DocValueFormat;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.SearchShardTarget;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ElasticsearchRecordsReaderTest {
+
+  private static final String INDEX = "zeebe-record_process-instance_8.5.0_2024-01-01";
+  private static final String OTHER_INDEX = "zeebe-record_process-instance_8.5.0_2024-01-02";
+
+  private final RestHighLevelClient zeebeEsClient = mock(RestHighLevelClient.class);
+  private ElasticsearchRecordsReader reader;
+
+  @Before
+  public void setUp() {
+    final Metrics metrics = mock(Metrics.class);
+    when(metrics.getTimer(anyString(), any(String[].class)))
+        .thenReturn(new SimpleMeterRegistry().timer("import.query"));
+
+    reader = new ElasticsearchRecordsReader(1, ImportValueType.PROCESS_INSTANCE, 1);
+    ReflectionTestUtils.setField(reader, "operateProperties", new OperateProperties());
+    ReflectionTestUtils.setField(reader, "zeebeEsClient", zeebeEsClient);
+    ReflectionTestUtils.setField(reader, "metrics", metrics);
+    ReflectionTestUtils.invokeMethod(reader, "postConstruct");
+  }
+
+  @Test
+  public void shouldPageThroughRecordsDuplicatedAcrossIndices() throws Exception {
+    // given
+    final SearchHit[] firstPage =
+        LongStream.rangeClosed(1, QUERY_MAX_SIZE)
+            .mapToObj(sequence -> searchHit(INDEX, sequence))
+            .toArray(SearchHit[]::new);
+    // the last record of the first page was also exported to another index
+    final SearchHit[] secondPage =
+        Stream.concat(
+                Stream.of(searchHit(OTHER_INDEX, QUERY_MAX_SIZE)),
+                LongStream.rangeClosed(QUERY_MAX_SIZE + 1, QUERY_MAX_SIZE + 5)
+                    .mapToObj(sequence -> searchHit(INDEX, sequence)))
+            .toArray(SearchHit[]::new);
+    final SearchResponse firstResponse = searchResponse(firstPage);
+    final SearchResponse secondResponse = searchResponse(secondPage);
+    when(zeebeEsClient.search(any(SearchRequest.class), any(RequestOptions.class)))
+        .thenReturn(firstResponse);
+    doAnswer(
+            invocation -> {
+              final ActionListener<SearchResponse> listener = invocation.getArgument(2);
+              listener.onResponse(secondResponse);
+              return null;
+            })
+        .when(zeebeEsClient)
+        .searchAsync(any(SearchRequest.class), any(RequestOptions.class), any());
+
+    // when
+    final ImportBatch batch = reader.readNextBatchBySequence(0L, (long) QUERY_MAX_SIZE);
+
+    // then
+    final List<HitEntity> hits = batch.getHits();
+    assertEquals(QUERY_MAX_SIZE + 6, hits.size());
+    assertEquals(INDEX, hits.get(QUERY_MAX_SIZE - 1).getIndex());
+    assertEquals(OTHER_INDEX, hits.get(QUERY_MAX_SIZE).getIndex());
+    assertEquals(
+        hits.get(QUERY_MAX_SIZE - 1).getSourceAsString(),
+        hits.get(QUERY_MAX_SIZE).getSourceAsString());
+
+    final ArgumentCaptor<SearchRequest> nextPageRequest =
+        ArgumentCaptor.forClass(SearchRequest.class);
+    verify(zeebeEsClient, times(1))
+        .searchAsync(nextPageRequest.capture(), any(RequestOptions.class), any());
+    assertArrayEquals(
+        new Object[] {(long) QUERY_MAX_SIZE, INDEX},
+        nextPageRequest.getValue().source().searchAfter());
+    verify(zeebeEsClient, never()).scroll(any(), any());
+  }
+
+  private static SearchResponse searchResponse(final SearchHit[] hits) {
+    final SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(new SearchHits(hits, new TotalHits(hits.length, Relation.EQUAL_TO), 1.0f));
+    return response;
+  }
+
+  private static SearchHit searchHit(final String index, final long sequence) {
+    final SearchHit hit = new SearchHit((int) sequence);
+    hit.shard(new SearchShardTarget("node", new ShardId(index, "uuid", 0), null));
+    hit.sourceRef(new BytesArray("{\"sequence\":" + sequence + "}"));
+    hit.sortValues(
+        new Object[] {sequence, index},
+        new DocValueFormat[] {DocValueFormat.RAW, DocValueFormat.RAW});
+    return hit;
+  }
+}
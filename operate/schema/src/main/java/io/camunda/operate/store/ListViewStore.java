@@ -10,6 +10,7 @@ package io.camunda.operate.store;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface ListViewStore {
   Map<Long, String> getListViewIndicesForProcessInstances(List<Long> processInstanceIds)
@@ -17,5 +18,7 @@ public interface ListViewStore {
 
   String findProcessInstanceTreePathFor(final long processInstanceKey);
 
+  Map<Long, String> findProcessInstanceTreePathsFor(final Set<Long> processInstanceKeys);
+
   List<Long> getProcessInstanceKeysWithEmptyProcessVersionFor(Long processDefinitionKey);
 }
@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.QueryBuilder;
@@ -110,6 +111,48 @@ public class ElasticsearchListViewStore implements ListViewStore {
     }
   }
 
+  @Override
+  public Map<Long, String> findProcessInstanceTreePathsFor(final Set<Long> processInstanceKeys) {
+    final ElasticsearchUtil.QueryType queryType =
+        operateProperties.getImporter().isReadArchivedParents()
+            ? ElasticsearchUtil.QueryType.ALL
+            : ElasticsearchUtil.QueryType.ONLY_RUNTIME;
+    final SearchRequest searchRequest =
+        ElasticsearchUtil.createSearchRequest(listViewTemplate, queryType)
+            .source(
+                new SearchSourceBuilder()
+                    .query(termsQuery(ListViewTemplate.KEY, processInstanceKeys))
+                    .fetchSource(ListViewTemplate.TREE_PATH, null));
+
+    final Map<Long, String> treePaths = new HashMap<>();
+    try {
+      tenantAwareClient.search(
+          searchRequest,
+          () -> {
+            ElasticsearchUtil.scrollWith(
+                searchRequest,
+                esClient,
+                searchHits -> {
+                  for (final SearchHit searchHit : searchHits.getHits()) {
+                    final String treePath =
+                        (String) searchHit.getSourceAsMap().get(ListViewTemplate.TREE_PATH);
+                    if (treePath != null) {
+                      treePaths.put(Long.valueOf(searchHit.getId()), treePath);
+                    }
+                  }
+                });
+            return null;
+          });
+    } catch (final IOException e) {
+      final String message =
+          String.format(
+              "Exception occurred, while searching for process instance tree paths: %s",
+              e.getMessage());
+      throw new OperateRuntimeException(message, e);
+    }
+    return treePaths;
+  }
+
   @Override
   public List<Long> getProcessInstanceKeysWithEmptyProcessVersionFor(Long processDefinitionKey) {
     final QueryBuilder queryBuilder =
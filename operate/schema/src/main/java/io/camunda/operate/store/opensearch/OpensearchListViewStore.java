@@ -21,8 +21,11 @@ import io.camunda.operate.store.NotFoundException;
 import io.camunda.operate.store.opensearch.client.sync.RichOpenSearchClient;
 import io.camunda.operate.store.opensearch.dsl.RequestDSL;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -88,6 +91,29 @@ public class OpensearchListViewStore implements ListViewStore {
     return null;
   }
 
+  @Override
+  public Map<Long, String> findProcessInstanceTreePathsFor(final Set<Long> processInstanceKeys) {
+    record Result(String treePath) {}
+    final RequestDSL.QueryType queryType =
+        operateProperties.getImporter().isReadArchivedParents()
+            ? RequestDSL.QueryType.ALL
+            : RequestDSL.QueryType.ONLY_RUNTIME;
+    final var searchRequestBuilder =
+        searchRequestBuilder(listViewTemplate, queryType)
+            .query(withTenantCheck(longTerms(ListViewTemplate.KEY, processInstanceKeys)))
+            .source(sourceInclude(ListViewTemplate.TREE_PATH));
+
+    final Map<Long, String> treePaths = new HashMap<>();
+    final Consumer<List<Hit<Result>>> hitsConsumer =
+        hits ->
+            hits.stream()
+                .filter(hit -> hit.source() != null && hit.source().treePath() != null)
+                .forEach(hit -> treePaths.put(Long.valueOf(hit.id()), hit.source().treePath()));
+
+    richOpenSearchClient.doc().scrollWith(searchRequestBuilder, Result.class, hitsConsumer);
+    return treePaths;
+  }
+
   @Override
   public List<Long> getProcessInstanceKeysWithEmptyProcessVersionFor(Long processDefinitionKey) {
     final var searchRequestBuilder =
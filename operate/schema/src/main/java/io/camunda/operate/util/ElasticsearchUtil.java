@@ -88,11 +88,17 @@ public abstract class ElasticsearchUtil {
       final SearchRequest searchRequest,
       final Executor executor,
       final RestHighLevelClient esClient) {
+    return searchAsync(searchRequest, executor, esClient, RequestOptions.DEFAULT);
+  }
+
+  public static CompletableFuture<SearchResponse> searchAsync(
+      final SearchRequest searchRequest,
+      final Executor executor,
+      final RestHighLevelClient esClient,
+      final RequestOptions requestOptions) {
     final var searchFuture = new CompletableFuture<SearchResponse>();
     esClient.searchAsync(
-        searchRequest,
-        RequestOptions.DEFAULT,
-        new DelegatingActionListener<>(searchFuture, executor));
+        searchRequest, requestOptions, new DelegatingActionListener<>(searchFuture, executor));
     return searchFuture;
   }
 
@@ -16,6 +16,7 @@ import io.camunda.optimize.service.db.reader.ProcessInstanceReader;
 import io.camunda.optimize.service.db.writer.ProcessInstanceWriter;
 import io.camunda.optimize.service.db.writer.variable.ProcessVariableUpdateWriter;
 import io.camunda.optimize.service.db.writer.variable.VariableUpdateInstanceWriter;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import io.camunda.optimize.service.util.configuration.cleanup.CleanupConfiguration;
 import io.camunda.optimize.service.util.configuration.cleanup.ProcessDefinitionCleanupConfiguration;
@@ -37,6 +38,7 @@ public class EngineDataProcessCleanupService extends CleanupService {
   private final ProcessInstanceWriter processInstanceWriter;
   private final ProcessVariableUpdateWriter processVariableUpdateWriter;
   private final VariableUpdateInstanceWriter variableUpdateInstanceWriter;
+  private final ReportResultCache reportResultCache;
 
   @Override
   public boolean isEnabled() {
@@ -101,6 +103,7 @@ public class EngineDataProcessCleanupService extends CleanupService {
       final List<String> currentInstanceIds = currentPageOfProcessInstanceIds.getEntities();
       variableUpdateInstanceWriter.deleteByProcessInstanceIds(currentInstanceIds);
       processInstanceWriter.deleteByIds(definitionKey, currentInstanceIds);
+      reportResultCache.invalidate(List.of(definitionKey));
       currentPageOfProcessInstanceIds =
           processInstanceReader.getNextPageOfProcessInstanceIdsThatEndedBefore(
               definitionKey, endDate, batchSize, currentPageOfProcessInstanceIds);
@@ -117,6 +120,7 @@ public class EngineDataProcessCleanupService extends CleanupService {
       variableUpdateInstanceWriter.deleteByProcessInstanceIds(currentInstanceIds);
       processVariableUpdateWriter.deleteVariableDataByProcessInstanceIds(
           definitionKey, currentInstanceIds);
+      reportResultCache.invalidate(List.of(definitionKey));
 
       currentPageOfProcessInstanceIds =
           processInstanceReader.getNextPageOfProcessInstanceIdsThatHaveVariablesAndEndedBefore(
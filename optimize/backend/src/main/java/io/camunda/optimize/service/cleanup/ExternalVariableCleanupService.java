@@ -8,6 +8,7 @@
 package io.camunda.optimize.service.cleanup;
 
 import io.camunda.optimize.service.db.writer.variable.ExternalProcessVariableWriter;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import io.camunda.optimize.service.util.configuration.cleanup.CleanupConfiguration;
 import java.time.OffsetDateTime;
@@ -22,6 +23,7 @@ public class ExternalVariableCleanupService extends CleanupService {
 
   private final ConfigurationService configurationService;
   private final ExternalProcessVariableWriter externalProcessVariableWriter;
+  private final ReportResultCache reportResultCache;
 
   @Override
   public boolean isEnabled() {
@@ -33,6 +35,8 @@ public class ExternalVariableCleanupService extends CleanupService {
     final OffsetDateTime endDate = startTime.minus(getCleanupConfiguration().getTtl());
     log.info("Performing cleanup on external variables with a timestamp older than {}", endDate);
     externalProcessVariableWriter.deleteExternalVariablesIngestedBefore(endDate);
+    // the deleted variables can belong to any definition
+    reportResultCache.invalidateAll();
     log.info("Finished cleanup on external variables with a timestamp older than {}", endDate);
   }
 
@@ -10,6 +10,7 @@ package io.camunda.optimize.service.db.es.report;
 import io.camunda.optimize.dto.optimize.RoleType;
 import io.camunda.optimize.dto.optimize.query.report.ReportDefinitionDto;
 import io.camunda.optimize.service.DefinitionService;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.report.ReportService;
 import io.camunda.optimize.service.security.ReportAuthorizationService;
 import io.camunda.optimize.service.variable.ProcessVariableService;
@@ -27,13 +28,15 @@ public class AuthorizationCheckReportEvaluationHandler extends ReportEvaluationH
       final CombinedReportEvaluator combinedReportEvaluator,
       final ReportAuthorizationService authorizationService,
       final ProcessVariableService processVariableService,
-      final DefinitionService definitionService) {
+      final DefinitionService definitionService,
+      final ReportResultCache reportResultCache) {
     super(
         reportService,
         singleReportEvaluator,
         combinedReportEvaluator,
         processVariableService,
-        definitionService);
+        definitionService,
+        reportResultCache);
     this.authorizationService = authorizationService;
   }
 
@@ -36,6 +36,7 @@ import io.camunda.optimize.service.exceptions.OptimizeException;
 import io.camunda.optimize.service.exceptions.OptimizeValidationException;
 import io.camunda.optimize.service.exceptions.evaluation.ReportEvaluationException;
 import io.camunda.optimize.service.exceptions.evaluation.TooManyBucketsException;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.report.ReportService;
 import io.camunda.optimize.service.util.ValidationHelper;
 import io.camunda.optimize.service.variable.ProcessVariableService;
@@ -67,6 +68,7 @@ public abstract class ReportEvaluationHandler {
   private final CombinedReportEvaluator combinedReportEvaluator;
   private final ProcessVariableService processVariableService;
   private final DefinitionService definitionService;
+  private final ReportResultCache reportResultCache;
 
   public AuthorizedReportEvaluationResult evaluateReport(
       final ReportEvaluationInfo evaluationInfo) {
@@ -224,7 +226,8 @@ public abstract class ReportEvaluationHandler {
     try {
       ReportEvaluationContext<ReportDefinitionDto<?>> context =
           ReportEvaluationContext.fromReportEvaluation(evaluationInfo);
-      return singleReportEvaluator.evaluate(context);
+      return reportResultCache.getOrEvaluate(
+          context, evaluationInfo.getUserId(), () -> singleReportEvaluator.evaluate(context));
     } catch (OptimizeException | OptimizeValidationException e) {
       final AuthorizedReportDefinitionResponseDto authorizedReportDefinitionDto =
           new AuthorizedReportDefinitionResponseDto(evaluationInfo.getReport(), currentUserRole);
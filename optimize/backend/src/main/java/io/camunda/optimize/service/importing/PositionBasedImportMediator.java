@@ -13,6 +13,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import io.camunda.optimize.OptimizeMetrics;
 import io.camunda.optimize.dto.zeebe.ZeebeRecordDto;
 import io.camunda.optimize.service.importing.engine.service.ImportService;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.security.util.LocalDateUtil;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
@@ -21,8 +22,11 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +40,7 @@ public abstract class PositionBasedImportMediator<
   protected BackoffCalculator idleBackoffCalculator;
   protected T importIndexHandler;
   protected ImportService<DTO> importService;
+  protected ReportResultCache reportResultCache;
 
   @Override
   public CompletableFuture<Void> runImport() {
@@ -139,6 +144,7 @@ public abstract class PositionBasedImportMediator<
                 OffsetDateTime.ofInstant(
                     Instant.ofEpochMilli(lastImportedEntity.getTimestamp()),
                     ZoneId.systemDefault()));
+            reportResultCache.invalidate(getDefinitionKeys(entitiesNextPage));
             OptimizeMetrics.recordOverallEntitiesImportTime(entitiesNextPage);
             importCompleteCallback.run();
           });
@@ -156,10 +162,20 @@ public abstract class PositionBasedImportMediator<
     return OptimizeMetrics.getTimer(INDEXING_DURATION_METRIC, getRecordType(), getPartitionId());
   }
 
+  /** Returns the key of the definition which the imported record belongs to. */
+  protected abstract String getDefinitionKey(DTO entity);
+
   protected abstract String getRecordType();
 
   protected abstract Integer getPartitionId();
 
+  private Set<String> getDefinitionKeys(final List<DTO> entities) {
+    return entities.stream()
+        .map(this::getDefinitionKey)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
   private void calculateNewDateUntilIsBlocked() {
     if (idleBackoffCalculator.isMaximumBackoffReached()) {
       logger.debug(
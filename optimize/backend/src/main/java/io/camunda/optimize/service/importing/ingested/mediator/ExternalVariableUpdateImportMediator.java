@@ -14,6 +14,7 @@ import io.camunda.optimize.service.importing.engine.service.ImportService;
 import io.camunda.optimize.service.importing.ingested.fetcher.ExternalVariableUpdateInstanceFetcher;
 import io.camunda.optimize.service.importing.ingested.handler.ExternalVariableUpdateImportIndexHandler;
 import io.camunda.optimize.service.importing.ingested.service.ExternalVariableUpdateImportService;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.time.Instant;
@@ -21,7 +22,10 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
@@ -38,6 +42,7 @@ public class ExternalVariableUpdateImportMediator implements ImportMediator {
   private final ImportService<ExternalProcessVariableDto> importService;
   private final BackoffCalculator errorBackoffCalculator = new BackoffCalculator(10, 1000);
   private final ExternalVariableUpdateInstanceFetcher entityFetcher;
+  private final ReportResultCache reportResultCache;
   private int countOfImportedEntitiesWithLastEntityTimestamp = 0;
 
   public ExternalVariableUpdateImportMediator(
@@ -45,12 +50,14 @@ public class ExternalVariableUpdateImportMediator implements ImportMediator {
       final ExternalVariableUpdateInstanceFetcher entityFetcher,
       final ExternalVariableUpdateImportService importService,
       final ConfigurationService configurationService,
-      final BackoffCalculator idleBackoffCalculator) {
+      final BackoffCalculator idleBackoffCalculator,
+      final ReportResultCache reportResultCache) {
     this.importIndexHandler = importIndexHandler;
     this.entityFetcher = entityFetcher;
     this.importService = importService;
     this.configurationService = configurationService;
     this.idleBackoffCalculator = idleBackoffCalculator;
+    this.reportResultCache = reportResultCache;
   }
 
   @Override
@@ -104,6 +111,13 @@ public class ExternalVariableUpdateImportMediator implements ImportMediator {
         ZoneId.systemDefault());
   }
 
+  private Set<String> getDefinitionKeys(final List<ExternalProcessVariableDto> entities) {
+    return entities.stream()
+        .map(ExternalProcessVariableDto::getProcessDefinitionKey)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
   private List<ExternalProcessVariableDto> getEntitiesNextPage() {
     return entityFetcher.fetchVariableInstanceUpdates(importIndexHandler.getNextPage());
   }
@@ -147,6 +161,7 @@ public class ExternalVariableUpdateImportMediator implements ImportMediator {
           allEntities,
           () -> {
             importIndexHandler.updateTimestampOfLastEntity(currentPageLastEntityTimestamp);
+            reportResultCache.invalidate(getDefinitionKeys(allEntities));
             importCompleteCallback.run();
           });
       countOfImportedEntitiesWithLastEntityTimestamp =
@@ -157,7 +172,12 @@ public class ExternalVariableUpdateImportMediator implements ImportMediator {
       importIndexHandler.updatePendingTimestampOfLastEntity(currentPageLastEntityTimestamp);
     } else if (entitiesLastTimestamp.size() > countOfImportedEntitiesWithLastEntityTimestamp) {
       countOfImportedEntitiesWithLastEntityTimestamp = entitiesLastTimestamp.size();
-      importService.executeImport(entitiesLastTimestamp, importCompleteCallback);
+      importService.executeImport(
+          entitiesLastTimestamp,
+          () -> {
+            reportResultCache.invalidate(getDefinitionKeys(entitiesLastTimestamp));
+            importCompleteCallback.run();
+          });
     } else {
       importCompleteCallback.run();
     }
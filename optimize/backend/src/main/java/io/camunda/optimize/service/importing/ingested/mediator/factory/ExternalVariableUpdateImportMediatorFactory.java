@@ -15,6 +15,7 @@ import io.camunda.optimize.service.importing.engine.service.ObjectVariableServic
 import io.camunda.optimize.service.importing.ingested.fetcher.ExternalVariableUpdateInstanceFetcher;
 import io.camunda.optimize.service.importing.ingested.mediator.ExternalVariableUpdateImportMediator;
 import io.camunda.optimize.service.importing.ingested.service.ExternalVariableUpdateImportService;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.List;
@@ -54,6 +55,7 @@ public class ExternalVariableUpdateImportMediatorFactory
         new ExternalVariableUpdateImportService(
             configurationService, variableWriter, objectVariableService, databaseClient),
         configurationService,
-        new BackoffCalculator(configurationService));
+        new BackoffCalculator(configurationService),
+        beanFactory.getBean(ReportResultCache.class));
   }
 }
@@ -17,6 +17,7 @@ import io.camunda.optimize.service.importing.engine.mediator.MediatorRank;
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeIncidentImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeIncidentFetcher;
 import io.camunda.optimize.service.importing.zeebe.handler.ZeebeIncidentImportIndexHandler;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.List;
@@ -36,12 +37,14 @@ public class ZeebeIncidentImportMediator
       final ZeebeIncidentFetcher zeebeIncidentFetcher,
       final ZeebeIncidentImportService importService,
       final ConfigurationService configurationService,
-      final BackoffCalculator idleBackoffCalculator) {
+      final BackoffCalculator idleBackoffCalculator,
+      final ReportResultCache reportResultCache) {
     this.importIndexHandler = importIndexHandler;
     this.zeebeIncidentFetcher = zeebeIncidentFetcher;
     this.importService = importService;
     this.configurationService = configurationService;
     this.idleBackoffCalculator = idleBackoffCalculator;
+    this.reportResultCache = reportResultCache;
   }
 
   @Override
@@ -54,6 +57,11 @@ public class ZeebeIncidentImportMediator
     return importNextPagePositionBased(getIncidents(), importCompleteCallback);
   }
 
+  @Override
+  protected String getDefinitionKey(final ZeebeIncidentRecordDto entity) {
+    return entity.getValue().getBpmnProcessId();
+  }
+
   @Override
   protected String getRecordType() {
     return INCIDENT.name();
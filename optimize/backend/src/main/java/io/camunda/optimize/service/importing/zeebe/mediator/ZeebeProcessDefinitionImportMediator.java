@@ -17,6 +17,7 @@ import io.camunda.optimize.service.importing.engine.mediator.MediatorRank;
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeProcessDefinitionImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeProcessDefinitionFetcher;
 import io.camunda.optimize.service.importing.zeebe.handler.ZeebeProcessDefinitionImportIndexHandler;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.List;
@@ -37,12 +38,14 @@ public class ZeebeProcessDefinitionImportMediator
       final ZeebeProcessDefinitionFetcher zeebeProcessDefinitionFetcher,
       final ZeebeProcessDefinitionImportService importService,
       final ConfigurationService configurationService,
-      final BackoffCalculator idleBackoffCalculator) {
+      final BackoffCalculator idleBackoffCalculator,
+      final ReportResultCache reportResultCache) {
     this.importIndexHandler = importIndexHandler;
     this.zeebeProcessDefinitionFetcher = zeebeProcessDefinitionFetcher;
     this.importService = importService;
     this.configurationService = configurationService;
     this.idleBackoffCalculator = idleBackoffCalculator;
+    this.reportResultCache = reportResultCache;
   }
 
   @Override
@@ -55,6 +58,11 @@ public class ZeebeProcessDefinitionImportMediator
     return importNextPagePositionBased(getDefinitions(), importCompleteCallback);
   }
 
+  @Override
+  protected String getDefinitionKey(final ZeebeProcessDefinitionRecordDto entity) {
+    return entity.getValue().getBpmnProcessId();
+  }
+
   @Override
   protected String getRecordType() {
     return PROCESS.name();
@@ -17,6 +17,7 @@ import io.camunda.optimize.service.importing.engine.mediator.MediatorRank;
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeProcessInstanceImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeProcessInstanceFetcher;
 import io.camunda.optimize.service.importing.zeebe.handler.ZeebeProcessInstanceImportIndexHandler;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.List;
@@ -37,12 +38,14 @@ public class ZeebeProcessInstanceImportMediator
       final ZeebeProcessInstanceFetcher zeebeProcessInstanceFetcher,
       final ZeebeProcessInstanceImportService importService,
       final ConfigurationService configurationService,
-      final BackoffCalculator idleBackoffCalculator) {
+      final BackoffCalculator idleBackoffCalculator,
+      final ReportResultCache reportResultCache) {
     this.importIndexHandler = importIndexHandler;
     this.zeebeProcessInstanceFetcher = zeebeProcessInstanceFetcher;
     this.importService = importService;
     this.configurationService = configurationService;
     this.idleBackoffCalculator = idleBackoffCalculator;
+    this.reportResultCache = reportResultCache;
   }
 
   @Override
@@ -55,6 +58,11 @@ public class ZeebeProcessInstanceImportMediator
     return importNextPagePositionBased(getProcesses(), importCompleteCallback);
   }
 
+  @Override
+  protected String getDefinitionKey(final ZeebeProcessInstanceRecordDto entity) {
+    return entity.getValue().getBpmnProcessId();
+  }
+
   @Override
   protected String getRecordType() {
     return PROCESS_INSTANCE.name();
@@ -16,6 +16,7 @@ import io.camunda.optimize.service.importing.engine.mediator.MediatorRank;
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeUserTaskImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeUserTaskFetcher;
 import io.camunda.optimize.service.importing.zeebe.handler.ZeebeUserTaskImportIndexHandler;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -31,12 +32,14 @@ public class ZeebeUserTaskImportMediator
       final ZeebeUserTaskFetcher zeebeUserTaskFetcher,
       final ZeebeUserTaskImportService importService,
       final ConfigurationService configurationService,
-      final BackoffCalculator idleBackoffCalculator) {
+      final BackoffCalculator idleBackoffCalculator,
+      final ReportResultCache reportResultCache) {
     this.importIndexHandler = importIndexHandler;
     this.zeebeUserTaskFetcher = zeebeUserTaskFetcher;
     this.importService = importService;
     this.configurationService = configurationService;
     this.idleBackoffCalculator = idleBackoffCalculator;
+    this.reportResultCache = reportResultCache;
   }
 
   @Override
@@ -49,6 +52,11 @@ public class ZeebeUserTaskImportMediator
     return importNextPagePositionBased(getUserTasks(), importCompleteCallback);
   }
 
+  @Override
+  protected String getDefinitionKey(final ZeebeUserTaskRecordDto entity) {
+    return entity.getValue().getBpmnProcessId();
+  }
+
   @Override
   protected String getRecordType() {
     return ValueType.USER_TASK.name();
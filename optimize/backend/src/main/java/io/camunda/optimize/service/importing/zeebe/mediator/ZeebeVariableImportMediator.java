@@ -17,6 +17,7 @@ import io.camunda.optimize.service.importing.engine.mediator.MediatorRank;
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeVariableImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeVariableFetcher;
 import io.camunda.optimize.service.importing.zeebe.handler.ZeebeVariableImportIndexHandler;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.List;
@@ -31,12 +32,14 @@ public class ZeebeVariableImportMediator
       final ZeebeVariableFetcher zeebeVariableFetcher,
       final ZeebeVariableImportService importService,
       final ConfigurationService configurationService,
-      final BackoffCalculator idleBackoffCalculator) {
+      final BackoffCalculator idleBackoffCalculator,
+      final ReportResultCache reportResultCache) {
     this.importIndexHandler = importIndexHandler;
     this.zeebeVariableFetcher = zeebeVariableFetcher;
     this.importService = importService;
     this.configurationService = configurationService;
     this.idleBackoffCalculator = idleBackoffCalculator;
+    this.reportResultCache = reportResultCache;
   }
 
   @Override
@@ -49,6 +52,11 @@ public class ZeebeVariableImportMediator
     return importNextPagePositionBased(getVariables(), importCompleteCallback);
   }
 
+  @Override
+  protected String getDefinitionKey(final ZeebeVariableRecordDto entity) {
+    return entity.getValue().getBpmnProcessId();
+  }
+
   @Override
   protected String getRecordType() {
     return VARIABLE.name();
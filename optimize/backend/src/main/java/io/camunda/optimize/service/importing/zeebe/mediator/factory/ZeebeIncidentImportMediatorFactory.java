@@ -17,6 +17,7 @@ import io.camunda.optimize.service.importing.ImportMediator;
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeIncidentImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeIncidentFetcher;
 import io.camunda.optimize.service.importing.zeebe.mediator.ZeebeIncidentImportMediator;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.Collections;
@@ -67,6 +68,7 @@ public class ZeebeIncidentImportMediatorFactory extends AbstractZeebeImportMedia
                 processDefinitionReader,
                 databaseClient),
             configurationService,
-            new BackoffCalculator(configurationService)));
+            new BackoffCalculator(configurationService),
+            beanFactory.getBean(ReportResultCache.class)));
   }
 }
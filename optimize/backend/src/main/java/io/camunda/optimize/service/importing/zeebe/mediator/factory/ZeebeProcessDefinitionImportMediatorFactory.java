@@ -16,6 +16,7 @@ import io.camunda.optimize.service.importing.ImportMediator;
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeProcessDefinitionImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeProcessDefinitionFetcher;
 import io.camunda.optimize.service.importing.zeebe.mediator.ZeebeProcessDefinitionImportMediator;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.Collections;
@@ -63,6 +64,7 @@ public class ZeebeProcessDefinitionImportMediatorFactory
                 zeebeDataSourceDto.getPartitionId(),
                 databaseClient),
             configurationService,
-            new BackoffCalculator(configurationService)));
+            new BackoffCalculator(configurationService),
+            beanFactory.getBean(ReportResultCache.class)));
   }
 }
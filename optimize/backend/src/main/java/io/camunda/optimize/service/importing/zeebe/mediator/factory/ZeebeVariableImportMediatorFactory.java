@@ -18,6 +18,7 @@ import io.camunda.optimize.service.importing.engine.service.ObjectVariableServic
 import io.camunda.optimize.service.importing.engine.service.zeebe.ZeebeVariableImportService;
 import io.camunda.optimize.service.importing.zeebe.db.ZeebeVariableFetcher;
 import io.camunda.optimize.service.importing.zeebe.mediator.ZeebeVariableImportMediator;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import java.util.Collections;
@@ -73,6 +74,7 @@ public class ZeebeVariableImportMediatorFactory extends AbstractZeebeImportMedia
                 objectVariableService,
                 databaseClient),
             configurationService,
-            new BackoffCalculator(configurationService)));
+            new BackoffCalculator(configurationService),
+            beanFactory.getBean(ReportResultCache.class)));
   }
 }
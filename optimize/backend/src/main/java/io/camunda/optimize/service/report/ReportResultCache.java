@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.report;
+
+import static io.camunda.optimize.util.SuppressionConstants.UNCHECKED_CAST;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.camunda.optimize.dto.optimize.query.report.ReportDefinitionDto;
+import io.camunda.optimize.dto.optimize.query.report.SingleReportEvaluationResult;
+import io.camunda.optimize.dto.optimize.query.report.single.ReportDataDefinitionDto;
+import io.camunda.optimize.dto.optimize.query.report.single.ViewProperty;
+import io.camunda.optimize.dto.optimize.query.report.single.process.ProcessReportDataDto;
+import io.camunda.optimize.dto.optimize.query.report.single.process.SingleProcessReportDefinitionRequestDto;
+import io.camunda.optimize.service.db.es.report.ReportEvaluationContext;
+import io.camunda.optimize.service.exceptions.OptimizeConfigurationException;
+import io.camunda.optimize.service.exceptions.OptimizeException;
+import io.camunda.optimize.service.exceptions.OptimizeRuntimeException;
+import io.camunda.optimize.service.util.configuration.CacheConfiguration;
+import io.camunda.optimize.service.util.configuration.ConfigurationReloadable;
+import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the results of single process report evaluations, such that dashboards which are opened by
+ * many users at once don't evaluate the same report over and over again.
+ *
+ * <p>A result is cached by the report definition, including the filters added for the evaluation,
+ * the user and the timezone it was evaluated for, and the data version of the definitions the
+ * report is based on. The data version of a definition is increased whenever this Optimize instance
+ * imported or deleted data of that definition, see {@link #invalidate(Collection)} and {@link
+ * #invalidateAll()}, such that a cached result is not used anymore afterward.
+ *
+ * <p>The data versions are only kept in memory, so changes made by other Optimize instances, e.g.
+ * by the importing instance for an instance with the import disabled, don't invalidate the cached
+ * results. Results can also depend on the current time, e.g. relative date filters or the duration
+ * of running instances. Hence, every result expires after the configured ttl, which is mandatory.
+ *
+ * <p>Concurrent evaluations of the same report share the result of the first one, instead of
+ * sending identical queries to the database.
+ */
+@Component
+public class ReportResultCache implements ConfigurationReloadable {
+
+  public static final String CACHE_NAME = "optimize.report.results";
+
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final Cache<CacheKey, CompletableFuture<SingleReportEvaluationResult<?>>> results;
+  private final Map<String, AtomicLong> definitionDataVersions = new ConcurrentHashMap<>();
+  private final AtomicLong dataVersion = new AtomicLong();
+
+  public ReportResultCache(
+      final ConfigurationService configurationService, final ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    final CacheConfiguration cacheConfiguration =
+        configurationService.getCaches().getReportResults();
+    enabled = cacheConfiguration.getMaxSize() > 0;
+    if (enabled && cacheConfiguration.getDefaultTtlMillis() <= 0) {
+      throw new OptimizeConfigurationException(
+          String.format(
+              "The defaultTtlMillis of the report result cache must be positive, but was [%d].",
+              cacheConfiguration.getDefaultTtlMillis()));
+    }
+    results =
+        Caffeine.newBuilder()
+            .maximumSize(cacheConfiguration.getMaxSize())
+            .expireAfterWrite(cacheConfiguration.getDefaultTtlMillis(), TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(Metrics.globalRegistry, results, CACHE_NAME);
+  }
+
+  @Override
+  public void reloadConfiguration(final ApplicationContext context) {
+    results.invalidateAll();
+  }
+
+  /**
+   * Returns the cached result of the report, or evaluates it. If the same report is currently
+   * evaluated by another thread, its result is awaited instead.
+   */
+  public <T> SingleReportEvaluationResult<T> getOrEvaluate(
+      final ReportEvaluationContext<ReportDefinitionDto<?>> context,
+      final String userId,
+      final ReportEvaluation<T> evaluation)
+      throws OptimizeException {
+    if (!isCacheable(context)) {
+      return evaluation.evaluate();
+    }
+
+    final CacheKey key = createKey(context, userId);
+    final CompletableFuture<SingleReportEvaluationResult<?>> evaluating = new CompletableFuture<>();
+    final CompletableFuture<SingleReportEvaluationResult<?>> result =
+        results.get(key, ignored -> evaluating);
+    if (result != evaluating) {
+      return withReportDefinition(await(result), context.getReportDefinition());
+    }
+
+    try {
+      final SingleReportEvaluationResult<T> evaluated = evaluation.evaluate();
+      evaluating.complete(evaluated);
+      return evaluated;
+    } catch (final Throwable e) {
+      // failed evaluations are not cached, but the threads which await it fail with the same error
+      results.asMap().remove(key, evaluating);
+      evaluating.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Invalidates the cached results of all reports which are based on one of the given definitions.
+   * Must be called after data of the definitions was persisted or deleted.
+   */
+  public void invalidate(final Collection<String> definitionKeys) {
+    definitionKeys.forEach(
+        definitionKey ->
+            definitionDataVersions
+                .computeIfAbsent(definitionKey, key -> new AtomicLong())
+                .incrementAndGet());
+  }
+
+  /**
+   * Invalidates the cached results of all reports. Must be called after data was persisted or
+   * deleted without knowing which definitions it belongs to.
+   */
+  public void invalidateAll() {
+    dataVersion.incrementAndGet();
+    results.invalidateAll();
+  }
+
+  public CacheStats getStats() {
+    return results.stats();
+  }
+
+  private boolean isCacheable(final ReportEvaluationContext<ReportDefinitionDto<?>> context) {
+    if (!enabled
+        || context.isCsvExport()
+        || context.isJsonExport()
+        || !(context.getReportDefinition() instanceof SingleProcessReportDefinitionRequestDto)) {
+      return false;
+    }
+
+    final boolean isPaginated =
+        context
+            .getPagination()
+            .filter(pagination -> pagination.getLimit() != null || pagination.getOffset() != null)
+            .isPresent();
+    // raw data reports are paginated and usually only viewed once, so it's not worth caching them
+    final ProcessReportDataDto reportData =
+        (ProcessReportDataDto) context.getReportDefinition().getData();
+    return !isPaginated
+        && reportData.getView() != null
+        && !reportData.getViewProperties().contains(ViewProperty.RAW_DATA);
+  }
+
+  private CacheKey createKey(
+      final ReportEvaluationContext<ReportDefinitionDto<?>> context, final String userId) {
+    final ReportDefinitionDto<?> reportDefinition = context.getReportDefinition();
+    final ProcessReportDataDto reportData = (ProcessReportDataDto) reportDefinition.getData();
+    try {
+      return new CacheKey(
+          objectMapper.writeValueAsString(reportData),
+          userId,
+          context.getTimezone(),
+          getDataVersion(reportData));
+    } catch (final JsonProcessingException e) {
+      throw new OptimizeRuntimeException(
+          String.format(
+              "Could not create the result cache key of report [%s].", reportDefinition.getId()),
+          e);
+    }
+  }
+
+  private long getDataVersion(final ProcessReportDataDto reportData) {
+    // the versions only ever increase, so their sum changes whenever one of them changes
+    return dataVersion.get()
+        + reportData.getDefinitions().stream()
+            .map(ReportDataDefinitionDto::getKey)
+            .distinct()
+            .map(definitionDataVersions::get)
+            .mapToLong(version -> version == null ? 0L : version.get())
+            .sum();
+  }
+
+  private static SingleReportEvaluationResult<?> await(
+      final CompletableFuture<SingleReportEvaluationResult<?>> result) throws OptimizeException {
+    try {
+      return result.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final OptimizeException cause) {
+        throw cause;
+      } else if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      } else if (e.getCause() instanceof final Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @SuppressWarnings(UNCHECKED_CAST)
+  private static <T> SingleReportEvaluationResult<T> withReportDefinition(
+      final SingleReportEvaluationResult<?> result, final ReportDefinitionDto<?> reportDefinition) {
+    // the cached result references the report definition of the evaluation which created it, but
+    // the response must contain the report definition of the current evaluation, e.g. its name
+    return new SingleReportEvaluationResult<>(
+        reportDefinition, ((SingleReportEvaluationResult<T>) result).getCommandEvaluationResults());
+  }
+
+  /** Evaluates a report if its result isn't cached. */
+  @FunctionalInterface
+  public interface ReportEvaluation<T> {
+    SingleReportEvaluationResult<T> evaluate() throws OptimizeException;
+  }
+
+  private record CacheKey(String reportData, String userId, ZoneId timezone, long dataVersion) {}
+}
@@ -26,6 +26,7 @@ import io.camunda.optimize.service.db.reader.ProcessInstanceReader;
 import io.camunda.optimize.service.db.writer.ProcessInstanceWriter;
 import io.camunda.optimize.service.db.writer.variable.ProcessVariableUpdateWriter;
 import io.camunda.optimize.service.db.writer.variable.VariableUpdateInstanceWriter;
+import io.camunda.optimize.service.report.ReportResultCache;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import io.camunda.optimize.service.util.configuration.ConfigurationServiceBuilder;
 import io.camunda.optimize.service.util.configuration.cleanup.CleanupConfiguration;
@@ -67,6 +68,7 @@ public class OptimizeProcessCleanupServiceTest {
   @Mock private ProcessInstanceWriter processInstanceWriter;
   @Mock private ProcessVariableUpdateWriter processVariableUpdateWriter;
   @Mock private VariableUpdateInstanceWriter variableUpdateInstanceWriter;
+  @Mock private ReportResultCache reportResultCache;
   private ConfigurationService configurationService;
 
   @BeforeEach
@@ -91,6 +93,22 @@ public class OptimizeProcessCleanupServiceTest {
         processDefinitionKeys, getCleanupConfiguration().getTtl());
   }
 
+  @Test
+  public void testCleanupInvalidatesCachedReportResultsOfDefinition() {
+    // given
+    final List<String> processDefinitionKeys = generateRandomDefinitionsKeys(1);
+    mockProcessDefinitions(processDefinitionKeys);
+    mockGetProcessInstanceIdsForProcessInstanceDelete(processDefinitionKeys);
+    mockNextPageOfEntities();
+
+    // when
+    final CleanupService underTest = createOptimizeCleanupServiceToTest();
+    doCleanup(underTest);
+
+    // then
+    verify(reportResultCache, times(2)).invalidate(processDefinitionKeys);
+  }
+
   @Test
   public void testCleanupRunForMultipleProcessDefinitionsDifferentDefaultMode() {
     // given
@@ -396,6 +414,7 @@ public class OptimizeProcessCleanupServiceTest {
         processInstanceReader,
         processInstanceWriter,
         processVariableUpdateWriter,
-        variableUpdateInstanceWriter);
+        variableUpdateInstanceWriter,
+        reportResultCache);
   }
 }
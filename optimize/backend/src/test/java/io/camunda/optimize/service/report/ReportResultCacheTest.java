@@ -0,0 +1,277 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.optimize.dto.optimize.query.report.ReportDefinitionDto;
+import io.camunda.optimize.dto.optimize.query.report.SingleReportEvaluationResult;
+import io.camunda.optimize.dto.optimize.query.report.single.process.ProcessReportDataDto;
+import io.camunda.optimize.dto.optimize.query.report.single.process.SingleProcessReportDefinitionRequestDto;
+import io.camunda.optimize.service.db.es.report.ReportEvaluationContext;
+import io.camunda.optimize.service.db.es.report.result.NumberCommandResult;
+import io.camunda.optimize.service.exceptions.OptimizeConfigurationException;
+import io.camunda.optimize.service.exceptions.OptimizeException;
+import io.camunda.optimize.service.util.ProcessReportDataType;
+import io.camunda.optimize.service.util.TemplatedProcessReportDataBuilder;
+import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import io.camunda.optimize.service.util.configuration.ConfigurationServiceBuilder;
+import io.camunda.optimize.service.util.mapper.ObjectMapperFactory;
+import io.camunda.optimize.service.util.mapper.OptimizeDateTimeFormatterFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReportResultCacheTest {
+
+  private static final String DEFINITION_KEY = "aProcess";
+  private static final String DEFINITION_IDENTIFIER = "aProcessIdentifier";
+  private static final String USER_ID = "demo";
+
+  private final AtomicInteger evaluations = new AtomicInteger();
+  private ReportResultCache underTest;
+
+  @BeforeEach
+  public void setUp() {
+    underTest = createCache(createConfiguration());
+  }
+
+  @Test
+  public void shouldReturnCachedResultOfSameReport() throws OptimizeException {
+    // given
+    final ReportEvaluationContext<ReportDefinitionDto<?>> firstContext =
+        createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE);
+    final ReportEvaluationContext<ReportDefinitionDto<?>> secondContext =
+        createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE);
+    secondContext.getReportDefinition().setName("another report");
+    final SingleReportEvaluationResult<Double> firstResult = evaluate(firstContext, USER_ID);
+
+    // when
+    final SingleReportEvaluationResult<Double> secondResult = evaluate(secondContext, USER_ID);
+
+    // then
+    assertThat(evaluations).hasValue(1);
+    assertThat(underTest.getStats().hitCount()).isEqualTo(1);
+    assertThat(secondResult.getReportDefinition()).isSameAs(secondContext.getReportDefinition());
+    assertThat(secondResult.getCommandEvaluationResults())
+        .isSameAs(firstResult.getCommandEvaluationResults());
+  }
+
+  @Test
+  public void shouldEvaluateReportAgainAfterDataOfItsDefinitionWasImported()
+      throws OptimizeException {
+    // given
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+
+    // when
+    underTest.invalidate(Set.of(DEFINITION_KEY));
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldKeepCachedResultAfterDataOfOtherDefinitionWasImported()
+      throws OptimizeException {
+    // given
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+
+    // when
+    underTest.invalidate(Set.of("anotherProcess"));
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+
+    // then
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  public void shouldEvaluateReportSeparatelyForEachUser() throws OptimizeException {
+    // given
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+
+    // when
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), "anotherUser");
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldEvaluateReportAgainAfterAllResultsWereInvalidated() throws OptimizeException {
+    // given
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+
+    // when
+    underTest.invalidateAll();
+    evaluate(createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldRejectTtlOfZero() {
+    // given
+    final ConfigurationService configurationService = createConfiguration();
+    configurationService.getCaches().getReportResults().setDefaultTtlMillis(0);
+
+    // when/then
+    assertThatThrownBy(() -> createCache(configurationService))
+        .isInstanceOf(OptimizeConfigurationException.class)
+        .hasMessageContaining("defaultTtlMillis");
+  }
+
+  @Test
+  public void shouldNotCacheRawDataReports() throws OptimizeException {
+    // given
+    evaluate(createContext(ProcessReportDataType.RAW_DATA), USER_ID);
+
+    // when
+    evaluate(createContext(ProcessReportDataType.RAW_DATA), USER_ID);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldNotCacheFailedEvaluation() throws OptimizeException {
+    // given
+    final ReportEvaluationContext<ReportDefinitionDto<?>> context =
+        createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE);
+    assertThatThrownBy(
+            () ->
+                underTest.getOrEvaluate(
+                    context,
+                    USER_ID,
+                    () -> {
+                      evaluations.incrementAndGet();
+                      throw new OptimizeException("failed");
+                    }))
+        .isInstanceOf(OptimizeException.class);
+
+    // when
+    evaluate(context, USER_ID);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldShareResultOfConcurrentEvaluation() throws Exception {
+    // given
+    final CountDownLatch evaluationStarted = new CountDownLatch(1);
+    final CountDownLatch evaluationReleased = new CountDownLatch(1);
+    final CompletableFuture<SingleReportEvaluationResult<Double>> firstResult =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return underTest.getOrEvaluate(
+                    createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE),
+                    USER_ID,
+                    () -> {
+                      evaluations.incrementAndGet();
+                      evaluationStarted.countDown();
+                      awaitUninterruptibly(evaluationReleased);
+                      return createResult(
+                          createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE));
+                    });
+              } catch (final OptimizeException e) {
+                throw new CompletionException(e);
+              }
+            });
+    evaluationStarted.await();
+
+    // when
+    final CompletableFuture<SingleReportEvaluationResult<Double>> secondResult =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return evaluate(
+                    createContext(ProcessReportDataType.PROC_INST_FREQ_GROUP_BY_NONE), USER_ID);
+              } catch (final OptimizeException e) {
+                throw new CompletionException(e);
+              }
+            });
+    evaluationReleased.countDown();
+
+    // then
+    assertThat(secondResult.join().getCommandEvaluationResults())
+        .isSameAs(firstResult.join().getCommandEvaluationResults());
+    assertThat(evaluations).hasValue(1);
+  }
+
+  private static ConfigurationService createConfiguration() {
+    return ConfigurationServiceBuilder.createConfiguration()
+        .loadConfigurationFrom("service-config.yaml")
+        .build();
+  }
+
+  private static ReportResultCache createCache(final ConfigurationService configurationService) {
+    return new ReportResultCache(
+        configurationService,
+        new ObjectMapperFactory(
+                new OptimizeDateTimeFormatterFactory().getObject(), configurationService)
+            .createOptimizeMapper());
+  }
+
+  private SingleReportEvaluationResult<Double> evaluate(
+      final ReportEvaluationContext<ReportDefinitionDto<?>> context, final String userId)
+      throws OptimizeException {
+    return underTest.getOrEvaluate(
+        context,
+        userId,
+        () -> {
+          evaluations.incrementAndGet();
+          return createResult(context);
+        });
+  }
+
+  private static SingleReportEvaluationResult<Double> createResult(
+      final ReportEvaluationContext<ReportDefinitionDto<?>> context) {
+    return new SingleReportEvaluationResult<>(
+        context.getReportDefinition(),
+        List.of(
+            new NumberCommandResult(
+                (ProcessReportDataDto) context.getReportDefinition().getData())));
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static ReportEvaluationContext<ReportDefinitionDto<?>> createContext(
+      final ProcessReportDataType reportDataType) {
+    final ProcessReportDataDto reportData =
+        TemplatedProcessReportDataBuilder.createReportData()
+            .setProcessDefinitionKey(DEFINITION_KEY)
+            .setProcessDefinitionVersion("1")
+            .setReportDataType(reportDataType)
+            .build();
+    // the definitions of a stored report keep their identifier, which is part of the cache key
+    reportData
+        .getDefinitions()
+        .forEach(definition -> definition.setIdentifier(DEFINITION_IDENTIFIER));
+    final SingleProcessReportDefinitionRequestDto reportDefinition =
+        new SingleProcessReportDefinitionRequestDto(reportData);
+    final ReportEvaluationContext<ReportDefinitionDto<?>> context = new ReportEvaluationContext<>();
+    context.setReportDefinition(reportDefinition);
+    return context;
+  }
+}
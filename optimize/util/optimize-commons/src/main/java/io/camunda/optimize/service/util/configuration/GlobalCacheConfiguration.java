@@ -17,4 +17,5 @@ public class GlobalCacheConfiguration {
   private CloudUserCacheConfiguration cloudUsers;
   private CacheConfiguration cloudTenantAuthorizations;
   private CacheConfiguration users;
+  private CacheConfiguration reportResults;
 }
@@ -20,18 +20,17 @@ import io.camunda.tasklist.schema.indices.ImportPositionIndex;
 import io.camunda.tasklist.zeebe.ImportValueType;
 import io.camunda.tasklist.zeebeimport.ImportBatch;
 import io.camunda.tasklist.zeebeimport.RecordsReaderAbstract;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.search.SearchHit;
@@ -57,6 +56,8 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RecordsReaderElasticSearch.class);
 
+  private static final String INDEX_FIELD = "_index";
+
   @Autowired
   @Qualifier("tasklistZeebeEsClient")
   private RestHighLevelClient zeebeEsClient;
@@ -96,36 +97,45 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
         partitionId, importValueType, Arrays.asList(hits), indexName);
   }
 
-  private SearchHit[] read(final SearchRequest searchRequest, final boolean scrollNeeded)
-      throws IOException {
-    String scrollId = null;
-    try {
-      final List<SearchHit> searchHits = new ArrayList<>();
+  /**
+   * Reads the hits of the given request. If paging is needed, the hits are read page by page, by
+   * searching after the sort values of the last hit of the previous page. The next page is already
+   * requested while the hits of the current page are collected. Unlike a scroll, this doesn't keep
+   * a search context open in Elasticsearch between the pages.
+   */
+  private SearchHit[] read(final SearchRequest searchRequest, final boolean pagingNeeded)
+      throws Exception {
+    final List<SearchHit> searchHits = new ArrayList<>();
+    final int pageSize = searchRequest.source().size();
 
-      if (scrollNeeded) {
-        searchRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
-      }
-      SearchResponse response = zeebeEsClient.search(searchRequest, RequestOptions.DEFAULT);
+    SearchResponse response = zeebeEsClient.search(searchRequest, RequestOptions.DEFAULT);
+    while (true) {
+      final SearchHit[] hits = response.getHits().getHits();
 
-      searchHits.addAll(List.of(response.getHits().getHits()));
-
-      if (scrollNeeded) {
-        scrollId = response.getScrollId();
-        do {
-          final SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
-          scrollRequest.scroll(TimeValue.timeValueMillis(SCROLL_KEEP_ALIVE_MS));
+      CompletableFuture<SearchResponse> nextPage = null;
+      if (pagingNeeded && hits.length == pageSize) {
+        searchRequest.source().searchAfter(hits[hits.length - 1].getSortValues());
+        nextPage = searchAsync(searchRequest, Runnable::run, zeebeEsClient);
+      }
 
-          response = zeebeEsClient.scroll(scrollRequest, RequestOptions.DEFAULT);
+      searchHits.addAll(List.of(hits));
 
-          scrollId = response.getScrollId();
-          searchHits.addAll(List.of(response.getHits().getHits()));
-        } while (response.getHits().getHits().length != 0);
+      if (nextPage == null) {
+        return searchHits.toArray(new SearchHit[0]);
       }
-      return searchHits.toArray(new SearchHit[0]);
-    } finally {
-      if (scrollId != null) {
-        clearScroll(scrollId, zeebeEsClient);
+      response = awaitPage(nextPage);
+    }
+  }
+
+  private SearchResponse awaitPage(final CompletableFuture<SearchResponse> page)
+      throws Exception {
+    try {
+      return page.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final Exception cause) {
+        throw cause;
       }
+      throw e;
     }
   }
 
@@ -200,6 +210,7 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
       }
     }
 
+    final boolean pagingNeeded = maxNumberOfHits >= QUERY_MAX_SIZE;
     final SearchSourceBuilder searchSourceBuilder =
         new SearchSourceBuilder()
             .sort(ImportPositionIndex.SEQUENCE, SortOrder.ASC)
@@ -207,7 +218,12 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
                 rangeQuery(ImportPositionIndex.SEQUENCE)
                     .gt(fromSequence)
                     .lte(lessThanEqualsSequence))
-            .size(maxNumberOfHits >= QUERY_MAX_SIZE ? QUERY_MAX_SIZE : maxNumberOfHits);
+            .size(pagingNeeded ? QUERY_MAX_SIZE : maxNumberOfHits);
+    if (pagingNeeded) {
+      // the same record may exist in several indices, e.g. after a reindex, so the index breaks the
+      // tie to page through all of them
+      searchSourceBuilder.sort(INDEX_FIELD, SortOrder.ASC);
+    }
 
     final SearchRequest searchRequest =
         new SearchRequest(aliasName)
@@ -217,7 +233,7 @@ public class RecordsReaderElasticSearch extends RecordsReaderAbstract {
 
     try {
       final SearchHit[] hits =
-          withTimerSearchHits(() -> read(searchRequest, maxNumberOfHits >= QUERY_MAX_SIZE));
+          withTimerSearchHits(() -> read(searchRequest, pagingNeeded));
       if (hits.length == 0) {
         countEmptyRuns++;
       } else {
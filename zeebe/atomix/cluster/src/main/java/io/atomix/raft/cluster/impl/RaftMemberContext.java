@@ -25,6 +25,9 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,12 +38,19 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInFlightSnapshotChunks;
+  private final NavigableMap<Long, InFlightSnapshotChunk> inFlightSnapshotChunks =
+      new TreeMap<>();
   private boolean open = true;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private ByteBuffer nextSnapshotChunkToSend;
+  private boolean lastSnapshotChunkSent;
+  private long nextSnapshotChunkSequence;
+  private Set<String> reusableSnapshotFiles = Set.of();
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
@@ -48,7 +58,6 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,23 +67,24 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInFlightSnapshotChunks) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
   }
 
   /** Resets the member state. */
   public void resetState(final RaftLog log) {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
-    nextSnapshotChunk = null;
+    restartInstall();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -226,22 +236,89 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Up to
+   * {@code maxInFlightSnapshotChunks} chunks are sent to the member without awaiting their
+   * acknowledgement. The first chunk of a snapshot is sent alone, as its response tells which
+   * snapshot files the member can reuse.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    final int window = nextSnapshotChunk == null ? 1 : maxInFlightSnapshotChunks;
+    return open && !lastSnapshotChunkSent && inFlightSnapshotChunks.size() < window;
+  }
+
+  /**
+   * Starts an install request to the member, and advances the next snapshot chunk to send.
+   *
+   * @param nextChunkId The ID of the chunk following the sent chunk, or null if it is the last one.
+   * @return The sequence number of the install request, to acknowledge it.
+   */
+  public long startInstall(final ByteBuffer nextChunkId) {
+    final long sequence = nextSnapshotChunkSequence++;
+    inFlightSnapshotChunks.put(sequence, new InFlightSnapshotChunk(nextChunkId));
+    nextSnapshotChunkToSend = nextChunkId;
+    lastSnapshotChunkSent = nextChunkId == null;
+    return sequence;
+  }
+
+  /**
+   * Returns whether the install request is still in flight. The chunks in flight are abandoned when
+   * the install is restarted or rewound, and the responses to abandoned requests must be ignored.
+   *
+   * @param sequence The sequence number of the install request.
+   * @return Indicates whether the install request is still in flight.
+   */
+  public boolean isInstallInFlight(final long sequence) {
+    return inFlightSnapshotChunks.containsKey(sequence);
+  }
+
+  /**
+   * Returns whether the install request is the first in flight which was not acknowledged yet,
+   * i.e. whether the member is expected to apply its chunk next.
+   *
+   * @param sequence The sequence number of the install request.
+   * @return Indicates whether the install request is the first unacknowledged one.
+   */
+  public boolean isFirstUnacknowledgedInstall(final long sequence) {
+    return !inFlightSnapshotChunks.isEmpty() && inFlightSnapshotChunks.firstKey() == sequence;
+  }
+
+  /**
+   * Acknowledges an install request to the member. The acknowledgements may arrive in a different
+   * order than the requests were sent, so the member's next expected snapshot chunk only advances
+   * once all chunks sent before are acknowledged as well.
+   *
+   * @param sequence The sequence number of the install request.
+   */
+  public void acknowledgeInstall(final long sequence) {
+    final var chunk = inFlightSnapshotChunks.get(sequence);
+    if (chunk == null) {
+      return;
+    }
+
+    chunk.acknowledged = true;
+    while (!inFlightSnapshotChunks.isEmpty()
+        && inFlightSnapshotChunks.firstEntry().getValue().acknowledged) {
+      nextSnapshotChunk = inFlightSnapshotChunks.pollFirstEntry().getValue().nextChunkId;
+    }
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Abandons the install requests in flight, and resends the snapshot from the member's next
+   * expected snapshot chunk, i.e. the first chunk which was not acknowledged.
+   */
+  public void rewindInstall() {
+    inFlightSnapshotChunks.clear();
+    nextSnapshotChunkToSend = nextSnapshotChunk;
+    lastSnapshotChunkSent = false;
   }
 
-  /** Completes an install request to the member. */
-  public void completeInstall() {
-    installing = false;
+  /** Abandons the install requests in flight, and resends the snapshot from the first chunk. */
+  public void restartInstall() {
+    nextSnapshotChunk = null;
+    reusableSnapshotFiles = Set.of();
+    rewindInstall();
   }
 
   /**
@@ -277,7 +354,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightSnapshotChunks.size())
         .add("failures", failures)
         .toString();
   }
@@ -410,12 +487,13 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Sets the member's next expected snapshot chunk ID.
+   * Returns the ID of the next snapshot chunk to send to the member. It is ahead of the member's
+   * next expected snapshot chunk while install requests are in flight.
    *
-   * @param nextSnapshotChunk The member's next expected snapshot chunk ID.
+   * @return The ID of the next snapshot chunk to send, or null if it is the first chunk.
    */
-  public void setNextSnapshotChunkId(final ByteBuffer nextSnapshotChunk) {
-    this.nextSnapshotChunk = nextSnapshotChunk;
+  public ByteBuffer getNextSnapshotChunkToSend() {
+    return nextSnapshotChunkToSend;
   }
 
   /**
@@ -454,6 +532,20 @@ public final class RaftMemberContext {
     this.snapshotIndex = snapshotIndex;
   }
 
+  /**
+   * Returns the names of the snapshot files which the member has already with the same content, as
+   * advertised in response to the first chunk of the snapshot. These files are not sent again.
+   *
+   * @return The names of the reusable snapshot files.
+   */
+  public Set<String> getReusableSnapshotFiles() {
+    return reusableSnapshotFiles;
+  }
+
+  public void setReusableSnapshotFiles(final Set<String> reusableSnapshotFiles) {
+    this.reusableSnapshotFiles = reusableSnapshotFiles;
+  }
+
   public SnapshotChunkReader getSnapshotChunkReader() {
     return snapshotChunkReader;
   }
@@ -487,4 +579,13 @@ public final class RaftMemberContext {
       currentEntry = null;
     }
   }
+
+  private static final class InFlightSnapshotChunk {
+    private final ByteBuffer nextChunkId;
+    private boolean acknowledged;
+
+    private InFlightSnapshotChunk(final ByteBuffer nextChunkId) {
+      this.nextChunkId = nextChunkId;
+    }
+  }
 }
@@ -15,6 +15,7 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public class SnapshotReplicationMetrics extends RaftMetrics {
@@ -32,14 +33,50 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Counter SENT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of bytes of snapshot chunks sent to followers, including resent chunks")
+          .name("snapshot_replication_sent_bytes")
+          .register();
+  private static final Counter RECEIVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of bytes of snapshot chunks received and written to the pending snapshot")
+          .name("snapshot_replication_received_bytes")
+          .register();
+  private static final Counter REUSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of bytes of snapshot files reused from the previous snapshot")
+          .name("snapshot_replication_reused_bytes")
+          .register();
+  private static final Gauge THROUGHPUT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Approximate throughput of the last received snapshot in bytes per second")
+          .name("snapshot_replication_throughput_bytes_per_second")
+          .register();
 
   private final Gauge.Child count;
   private final Gauge.Child duration;
+  private final Counter.Child sentBytes;
+  private final Counter.Child receivedBytes;
+  private final Counter.Child reusedBytes;
+  private final Gauge.Child throughput;
 
   public SnapshotReplicationMetrics(final String partitionName) {
     super(partitionName);
     count = COUNT.labels(partitionGroupName, partition);
     duration = DURATION.labels(partitionGroupName, partition);
+    sentBytes = SENT_BYTES.labels(partitionGroupName, partition);
+    receivedBytes = RECEIVED_BYTES.labels(partitionGroupName, partition);
+    reusedBytes = REUSED_BYTES.labels(partitionGroupName, partition);
+    throughput = THROUGHPUT.labels(partitionGroupName, partition);
   }
 
   public void incrementCount() {
@@ -57,4 +94,20 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     duration.set(durationMillis);
   }
+
+  public void chunkSent(final int bytes) {
+    sentBytes.inc(bytes);
+  }
+
+  public void chunkReceived(final int bytes) {
+    receivedBytes.inc(bytes);
+  }
+
+  public void chunkReused(final long bytes) {
+    reusedBytes.inc(bytes);
+  }
+
+  public void observeThroughput(final long bytes, final long durationMillis) {
+    throughput.set(bytes * 1000.0 / Math.max(durationMillis, 1));
+  }
 }
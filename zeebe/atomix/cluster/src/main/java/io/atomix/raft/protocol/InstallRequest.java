@@ -58,6 +58,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // true if the receiver should reuse the file of the chunk from its latest snapshot
+  private final boolean reuse;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +71,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final boolean reuse) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -79,6 +82,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.data = data;
     this.initial = initial;
     this.complete = complete;
+    this.reuse = reuse;
     this.term = term;
   }
 
@@ -170,10 +174,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns whether the receiver should reuse the file of this chunk from its latest snapshot,
+   * instead of writing the data of the chunk. Such a chunk has no data.
+   *
+   * @return true if the file of the chunk should be reused
+   */
+  public boolean reuse() {
+    return reuse;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reuse);
   }
 
   @Override
@@ -191,6 +215,7 @@ public class InstallRequest extends AbstractRaftRequest {
         && version == that.version
         && initial == that.initial
         && complete == that.complete
+        && reuse == that.reuse
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
@@ -212,6 +237,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reuse", reuse)
         .toString();
   }
 
@@ -232,6 +258,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private ByteBuffer data;
     private boolean complete;
     private boolean initial;
+    private boolean reuse;
     private long term;
 
     /**
@@ -346,6 +373,17 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets whether the receiver should reuse the file of the chunk from its latest snapshot.
+     *
+     * @param reuse whether the file of the chunk should be reused
+     * @return the request builder
+     */
+    public Builder withReuse(final boolean reuse) {
+      this.reuse = reuse;
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +391,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reuse);
     }
 
     @Override
@@ -20,6 +20,7 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -31,22 +32,41 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the checksums of the files of the receiver's latest snapshot, or null if not advertised
+  protected Map<String, Long> snapshotChecksums;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Map<String, Long> snapshotChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotChecksums = snapshotChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the checksums of the files of the receiver's latest snapshot, by file name. They are
+   * only sent in response to the first chunk of a snapshot, such that the sender can skip the files
+   * which the receiver has already.
+   *
+   * @return the checksums of the receiver's snapshot files, or null if there are none
+   */
+  public Map<String, Long> snapshotChecksums() {
+    return snapshotChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("snapshotFiles", snapshotChecksums == null ? 0 : snapshotChecksums.size())
         .toString();
   }
 
@@ -62,17 +82,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Map<String, Long> snapshotChecksums;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, snapshotChecksums);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withSnapshotChecksums(final Map<String, Long> snapshotChecksums) {
+      this.snapshotChecksums = snapshotChecksums;
+      return this;
+    }
   }
 }
@@ -26,6 +26,7 @@ import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
@@ -43,14 +44,18 @@ import io.atomix.utils.logging.LoggerContext;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -70,6 +75,7 @@ final class LeaderAppender {
   private boolean open = true;
 
   private final LeaderMetrics metrics;
+  private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private final long leaderTime;
   private final long leaderIndex;
   private final long electionTimeout;
@@ -85,6 +91,7 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
+    snapshotReplicationMetrics = new SnapshotReplicationMetrics(raft.getName());
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
@@ -394,27 +401,30 @@ final class LeaderAppender {
         return Optional.empty();
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
-      member.setNextSnapshotChunkId(null);
+      member.restartInstall();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
 
     try {
-      // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
-      // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
+      // Usually the reader has advanced to the next chunk to send already. But if chunks are
+      // resent, e.g. after a timeout, the reader must seek back to the first chunk to resend.
+      final ByteBuffer chunkIdToSend = member.getNextSnapshotChunkToSend();
+      if (chunkIdToSend == null) {
+        // the next chunk to send is null when it is the first chunk.
         reader.reset();
+      } else if (!chunkIdToSend.equals(reader.nextId())) {
+        reader.seek(chunkIdToSend);
       }
 
       if (!reader.hasNext()) {
         return Optional.empty();
       }
       final ByteBuffer currentChunkId = reader.nextId();
-      final SnapshotChunk chunk = reader.next();
+      // The member hard-links a file which it has already instead of receiving it again, so only a
+      // chunk without content is sent to keep the chunk sequence intact.
+      final boolean reuse = canReuseSnapshotFile(member, currentChunkId);
+      final SnapshotChunk chunk = reuse ? reader.skipFile() : reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -429,9 +439,10 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(chunkIdToSend == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReuse(reuse)
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -442,15 +453,52 @@ final class LeaderAppender {
           e);
       // If snapshot was deleted, a new reader should be created with the new snapshot
       member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      member.restartInstall();
       return Optional.empty();
     }
   }
 
+  private boolean canReuseSnapshotFile(final RaftMemberContext member, final ByteBuffer chunkId) {
+    final Set<String> reusableFiles = member.getReusableSnapshotFiles();
+    if (reusableFiles.isEmpty()) {
+      return false;
+    }
+
+    final var snapshotChunkId = new SnapshotChunkId(chunkId);
+    return snapshotChunkId.offset() == 0 && reusableFiles.contains(snapshotChunkId.fileName());
+  }
+
+  /**
+   * Returns the names of the files of the snapshot which the member has already with the same
+   * checksum, as advertised in its response to the first chunk.
+   */
+  private Set<String> getReusableSnapshotFiles(
+      final InstallRequest request, final Map<String, Long> memberChecksums) {
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()
+        || persistedSnapshot.getChecksums() == null) {
+      return Set.of();
+    }
+
+    final Set<String> reusableFiles = new HashSet<>();
+    persistedSnapshot
+        .getChecksums()
+        .getChecksums()
+        .forEach(
+            (fileName, checksum) -> {
+              if (checksum.equals(memberChecksums.get(fileName))) {
+                reusableFiles.add(fileName);
+              }
+            });
+    return reusableFiles;
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
-    member.startInstall();
+    final long sequence = member.startInstall(request.nextChunkId());
+    snapshotReplicationMetrics.chunkSent(request.data().remaining());
 
     final long timestamp = System.currentTimeMillis();
 
@@ -460,12 +508,19 @@ final class LeaderAppender {
         .whenCompleteAsync(
             (response, error) -> {
               if (open) {
-                // Complete the install to the member.
-                member.completeInstall();
+                if (!member.isInstallInFlight(sequence)) {
+                  // The chunks in flight were abandoned in the meantime, e.g. because an earlier
+                  // chunk timed out, and are resent.
+                  log.trace(
+                      "Ignoring outdated response to {} from {}",
+                      request,
+                      member.getMember().memberId());
+                  return;
+                }
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleInstallResponse(member, request, response, timestamp);
+                  handleInstallResponse(member, request, sequence, response, timestamp);
                 } else {
                   // Trigger reactions to the install response failure.
                   handleInstallResponseFailure(member, request, error);
@@ -478,15 +533,19 @@ final class LeaderAppender {
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
     final boolean isTimeout =
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
-    if (!isTimeout) {
+    if (isTimeout) {
+      // The member may have applied the chunk anyway. Resend the chunks from the first one which
+      // was not acknowledged; the member acknowledges the chunks it applied already again.
+      member.rewindInstall();
+    } else {
+      // Reset the member's snapshot index and offset to resend the snapshot from the start
+      // once a connection to the member is re-established.
       member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      member.restartInstall();
     }
 
     // Log the failed attempt to contact the member.
@@ -497,6 +556,7 @@ final class LeaderAppender {
   private void handleInstallResponseOk(
       final RaftMemberContext member,
       final InstallRequest request,
+      final long sequence,
       final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
@@ -507,15 +567,20 @@ final class LeaderAppender {
     }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
+    // The member applies the chunks in order, so all chunks sent before were applied as well.
     if (request.complete()) {
       member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      member.restartInstall();
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
     // If more install requests remain, increment the member's snapshot offset.
     else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
+      if (request.isInitial() && response.snapshotChecksums() != null) {
+        member.setReusableSnapshotFiles(
+            getReusableSnapshotFiles(request, response.snapshotChecksums()));
+      }
+      member.acknowledgeInstall(sequence);
     }
 
     // Recursively append entries to the member.
@@ -523,19 +588,31 @@ final class LeaderAppender {
   }
 
   /** Handles an ERROR install response. */
-  @SuppressWarnings("unused")
   private void handleInstallResponseError(
       final RaftMemberContext member,
       final InstallRequest request,
+      final long sequence,
       final InstallResponse response) {
-    log.warn(
-        "Failed to send {} to member {}, with {}. Restart sending snapshot.",
-        request,
-        member.getMember().memberId(),
-        response.error().toString());
-
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunkId(null);
+    if (member.isFirstUnacknowledgedInstall(sequence)) {
+      log.warn(
+          "Failed to send {} to member {}, with {}. Restart sending snapshot.",
+          request,
+          member.getMember().memberId(),
+          response.error().toString());
+
+      member.setNextSnapshotIndex(0);
+      member.restartInstall();
+    } else {
+      // The member rejects the chunks which arrive before an earlier chunk, e.g. because the
+      // earlier chunk was lost, so resend the chunks from the first one which was not acknowledged.
+      log.debug(
+          "Failed to send {} to member {}, with {}. Resend snapshot from the first unacknowledged chunk.",
+          request,
+          member.getMember().memberId(),
+          response.error().toString());
+
+      member.rewindInstall();
+    }
   }
 
   /**
@@ -847,12 +924,13 @@ final class LeaderAppender {
   private void handleInstallResponse(
       final RaftMemberContext member,
       final InstallRequest request,
+      final long sequence,
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request, response);
+      handleInstallResponseOk(member, request, sequence, response);
     } else {
-      handleInstallResponseError(member, request, response);
+      handleInstallResponseError(member, request, sequence, response);
     }
     recordHeartbeat(member, timestamp);
   }
@@ -908,8 +986,15 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // Send chunks until the window of chunks in flight is full, to not await the round trip to
+    // the member for every chunk.
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -57,7 +57,9 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -69,9 +71,11 @@ public class PassiveRole extends InactiveRole {
   private final ThrottledLogger throttledLogger = new ThrottledLogger(log, Duration.ofSeconds(5));
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private long pendingSnapshotStartTimestamp;
+  private long pendingSnapshotReceivedBytes;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
-  private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // the ids of the chunks applied to the pending snapshot, mapped to the ids of their next chunks
+  private final Map<ByteBuffer, ByteBuffer> receivedSnapshotChunkIds = new HashMap<>();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -206,7 +210,14 @@ public class PassiveRole extends InactiveRole {
     }
 
     try {
-      pendingSnapshot.apply(snapshotChunk).join();
+      if (request.reuse()) {
+        pendingSnapshot.reuse(snapshotChunk).join();
+        snapshotReplicationMetrics.chunkReused(snapshotChunk.getTotalFileSize());
+      } else {
+        pendingSnapshot.apply(snapshotChunk).join();
+        pendingSnapshotReceivedBytes += snapshotChunk.getContent().length;
+        snapshotReplicationMetrics.chunkReceived(snapshotChunk.getContent().length);
+      }
     } catch (final Exception e) {
       log.warn(
           "Failed to write pending snapshot chunk {}, rolling back snapshot {}",
@@ -249,17 +260,19 @@ public class PassiveRole extends InactiveRole {
                     .build()));
       }
 
+      snapshotReplicationMetrics.decrementCount();
+      snapshotReplicationMetrics.observeDuration(elapsed);
+      snapshotReplicationMetrics.observeThroughput(pendingSnapshotReceivedBytes, elapsed);
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
+      pendingSnapshotReceivedBytes = 0L;
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
-      snapshotReplicationMetrics.decrementCount();
-      snapshotReplicationMetrics.observeDuration(elapsed);
+      receivedSnapshotChunkIds.clear();
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
       setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
+      receivedSnapshotChunkIds.put(request.chunkId(), request.nextChunkId());
     }
 
     return CompletableFuture.completedFuture(
@@ -267,6 +280,7 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withSnapshotChecksums(getSnapshotChecksums(request))
                 .build()));
   }
 
@@ -421,16 +435,34 @@ public class PassiveRole extends InactiveRole {
                 .build()));
   }
 
+  /**
+   * Returns the checksums of the files of the latest snapshot in response to the first chunk of a
+   * snapshot, such that the leader can let this follower reuse the files which didn't change
+   * instead of sending them again.
+   */
+  private Map<String, Long> getSnapshotChecksums(final InstallRequest request) {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    if (!request.isInitial() || currentSnapshot == null || currentSnapshot.getChecksums() == null) {
+      return null;
+    }
+
+    return new HashMap<>(currentSnapshot.getChecksums().getChecksums());
+  }
+
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
+    if (receivedSnapshotChunkIds.containsKey(request.chunkId())
+        && Objects.equals(
+            receivedSnapshotChunkIds.get(request.chunkId()), request.nextChunkId())) {
+      // Duplicate request for a chunk that was previously processed, e.g. because the leader
+      // resends the chunks in flight after one of them timed out. The chunk is not applied again.
       return Either.left(
           logResponse(
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withSnapshotChecksums(getSnapshotChecksums(request))
                   .build()));
     }
 
@@ -443,7 +475,13 @@ public class PassiveRole extends InactiveRole {
               + "] got ["
               + new SnapshotChunkId(request.chunkId())
               + "].";
-      abortPendingSnapshots();
+      if (request.isInitial()) {
+        // The leader restarted sending the snapshot, e.g. with a different chunk size.
+        abortPendingSnapshots();
+      }
+      // Otherwise keep the pending snapshot: as the leader sends several chunks without awaiting
+      // their acknowledgement, a chunk may arrive after an earlier chunk was lost. The leader
+      // resends the chunks from the first one which was not acknowledged.
       return Either.left(
           logResponse(
               InstallResponse.builder()
@@ -544,7 +582,7 @@ public class PassiveRole extends InactiveRole {
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -553,6 +591,7 @@ public class PassiveRole extends InactiveRole {
       }
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
+      pendingSnapshotReceivedBytes = 0L;
 
       snapshotReplicationMetrics.decrementCount();
       onSnapshotReceiveCompletedOrAborted();
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private static final int MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 3;
+
+  private final RaftMemberContext member =
+      new RaftMemberContext(
+          new DefaultRaftMember(new MemberId("1"), Type.ACTIVE, Instant.now()),
+          null,
+          2,
+          MAX_IN_FLIGHT_SNAPSHOT_CHUNKS);
+
+  @Test
+  void shouldInstallOnlyFirstSnapshotChunkUntilAcknowledged() {
+    // when
+    member.startInstall(chunkId("file1"));
+
+    // then
+    assertThat(member.canInstall()).isFalse();
+    assertThat(member.getNextSnapshotChunk()).isNull();
+  }
+
+  @Test
+  void shouldInstallUpToMaxInFlightSnapshotChunks() {
+    // given
+    member.acknowledgeInstall(member.startInstall(chunkId("file1")));
+
+    // when
+    member.startInstall(chunkId("file2"));
+    member.startInstall(chunkId("file3"));
+    member.startInstall(chunkId("file4"));
+
+    // then
+    assertThat(member.canInstall()).isFalse();
+    assertThat(member.getNextSnapshotChunkToSend()).isEqualTo(chunkId("file4"));
+    assertThat(member.getNextSnapshotChunk()).isEqualTo(chunkId("file1"));
+  }
+
+  @Test
+  void shouldNotInstallAfterLastSnapshotChunkWasSent() {
+    // when
+    member.startInstall(null);
+
+    // then
+    assertThat(member.canInstall()).isFalse();
+  }
+
+  @Test
+  void shouldAdvanceNextSnapshotChunkOnAcknowledgement() {
+    // given
+    final long first = member.startInstall(chunkId("file1"));
+    member.startInstall(chunkId("file2"));
+    member.startInstall(chunkId("file3"));
+
+    // when
+    member.acknowledgeInstall(first);
+
+    // then
+    assertThat(member.canInstall()).isTrue();
+    assertThat(member.getNextSnapshotChunk()).isEqualTo(chunkId("file1"));
+  }
+
+  @Test
+  void shouldTrackAcknowledgementsOutOfOrder() {
+    // given
+    final long first = member.startInstall(chunkId("file1"));
+    final long second = member.startInstall(chunkId("file2"));
+    member.startInstall(chunkId("file3"));
+
+    // when
+    member.acknowledgeInstall(second);
+
+    // then
+    assertThat(member.getNextSnapshotChunk()).isNull();
+    assertThat(member.isFirstUnacknowledgedInstall(first)).isTrue();
+    assertThat(member.isFirstUnacknowledgedInstall(second)).isFalse();
+
+    // when
+    member.acknowledgeInstall(first);
+
+    // then
+    assertThat(member.getNextSnapshotChunk()).isEqualTo(chunkId("file2"));
+    assertThat(member.isInstallInFlight(first)).isFalse();
+    assertThat(member.isInstallInFlight(second)).isFalse();
+  }
+
+  @Test
+  void shouldRewindToFirstUnacknowledgedChunk() {
+    // given
+    final long first = member.startInstall(chunkId("file1"));
+    final long second = member.startInstall(chunkId("file2"));
+    member.startInstall(null);
+    member.acknowledgeInstall(first);
+
+    // when
+    member.rewindInstall();
+
+    // then
+    assertThat(member.isInstallInFlight(second)).isFalse();
+    assertThat(member.canInstall()).isTrue();
+    assertThat(member.getNextSnapshotChunkToSend()).isEqualTo(chunkId("file1"));
+  }
+
+  @Test
+  void shouldRestartFromFirstChunk() {
+    // given
+    final long first = member.startInstall(chunkId("file1"));
+    final long second = member.startInstall(chunkId("file2"));
+    member.acknowledgeInstall(first);
+
+    // when
+    member.restartInstall();
+
+    // then
+    assertThat(member.isInstallInFlight(second)).isFalse();
+    assertThat(member.canInstall()).isTrue();
+    assertThat(member.getNextSnapshotChunk()).isNull();
+    assertThat(member.getNextSnapshotChunkToSend()).isNull();
+  }
+
+  @Test
+  void shouldForgetReusableSnapshotFilesOnRestart() {
+    // given
+    member.setReusableSnapshotFiles(Set.of("file1"));
+
+    // when
+    member.restartInstall();
+
+    // then
+    assertThat(member.getReusableSnapshotFiles()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepReusableSnapshotFilesOnRewind() {
+    // given
+    member.acknowledgeInstall(member.startInstall(chunkId("file1")));
+    member.setReusableSnapshotFiles(Set.of("file1"));
+
+    // when
+    member.rewindInstall();
+
+    // then
+    assertThat(member.getReusableSnapshotFiles()).containsExactly("file1");
+  }
+
+  private static ByteBuffer chunkId(final String fileName) {
+    return ByteBuffer.wrap((fileName + "__0").getBytes(StandardCharsets.UTF_8));
+  }
+}
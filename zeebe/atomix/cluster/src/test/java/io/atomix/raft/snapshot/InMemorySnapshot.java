@@ -148,6 +148,13 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
         return new TestSnapshotChunkImpl(
             id, nextEntry.getKey(), StringUtil.getBytes(nextEntry.getValue()), chunks.size());
       }
+
+      @Override
+      public SnapshotChunk skipFile() {
+        final var nextEntry = iterator.firstEntry();
+        iterator = chunks.tailMap(nextEntry.getKey(), false);
+        return new TestSnapshotChunkImpl(id, nextEntry.getKey(), new byte[0], chunks.size());
+      }
     };
   }
 
@@ -211,6 +218,12 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final SnapshotChunk chunk) {
+    return CompletableActorFuture.completedExceptionally(
+        new UnsupportedOperationException("Reusing files of other snapshots is not supported"));
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -12,14 +12,8 @@ import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
-import io.camunda.zeebe.logstreams.log.LogStreamReader;
-import io.camunda.zeebe.logstreams.log.LoggedEvent;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
@@ -27,8 +21,6 @@ import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -38,47 +30,38 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
-  private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
-      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final Duration LANE_LAG_UPDATE_INTERVAL = Duration.ofSeconds(5);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
 
   // Use concrete type because it must be modifiable
   private final ArrayList<ExporterContainer> containers;
+  private final List<ExporterLane> lanes = new ArrayList<>();
+  private final Map<String, String> exporterLanes;
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
-  private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
   private ExportersState state;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
-  private boolean inExportingPhase;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -86,6 +69,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final Duration distributionInterval;
   private ExporterStateDistributionService exporterDistributionService;
   private ScheduledTimer exporterDistributionTimer;
+  private ScheduledTimer laneLagTimer;
   private final int partitionId;
   private final EventFilter positionsToSkipFilter;
   private final MeterRegistry meterRegistry;
@@ -115,9 +99,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(partitionId);
     metrics.initializeExporterState(exporterPhase);
-    recordExporter = new RecordExporter(metrics, containers, partitionId, clock);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    exporterLanes = context.getExporterLanes();
+    containers.forEach(this::addToLane);
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -200,7 +183,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
           if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+            lanes.forEach(lane -> actor.submit(lane::readNextEvent));
           }
         });
   }
@@ -233,9 +216,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     container.close();
     containers.remove(container);
     state.removeExporterState(exporterId);
-    // After removing this exporter, the exporter index has changed. Reset it so that we don't
-    // miss to export the record to any of the exporters whose index has changed.
-    recordExporter.resetExporterIndex();
+    removeFromLane(container);
     LOG.debug("Exporter '{}' is removed.", exporterId);
 
     if (containers.isEmpty()) {
@@ -325,10 +306,60 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.openExporter();
     }
     containers.add(container);
-    LOG.debug("Exporter '{}' is enabled.", exporterId);
+    final var lane = addToLane(container);
+    lane.updateEventFilter(positionsToSkipFilter);
+    LOG.debug("Exporter '{}' is enabled in lane '{}'.", exporterId, lane.getName());
 
     if (idle) {
       becomeLive();
+    } else if (exporterMode == ExporterMode.ACTIVE && lane.getContainers().size() == 1) {
+      // a new lane has no reader yet, start it from where its exporter left off
+      lane.openReader();
+      lane.startFrom(lane.getLowestPosition(state));
+    }
+  }
+
+  private ExporterLane addToLane(final ExporterContainer container) {
+    final var laneName = exporterLanes.getOrDefault(container.getId(), ExporterLane.DEFAULT_LANE);
+    final var lane =
+        lanes.stream()
+            .filter(l -> l.getName().equals(laneName))
+            .findFirst()
+            .orElseGet(() -> createLane(laneName));
+    lane.addContainer(container);
+    return lane;
+  }
+
+  private ExporterLane createLane(final String laneName) {
+    final var lane =
+        new ExporterLane(
+            laneName,
+            name,
+            partitionId,
+            actor,
+            logStream,
+            metrics,
+            clock,
+            this::canExport,
+            this::isClosed,
+            this::onLaneExported,
+            this::onFailure);
+    lanes.add(lane);
+    return lane;
+  }
+
+  private void removeFromLane(final ExporterContainer container) {
+    for (final var lane : lanes) {
+      if (lane.getContainers().contains(container)) {
+        lane.removeContainer(container);
+        if (lane.isEmpty()) {
+          lane.closeReader();
+          lanes.remove(lane);
+        } else {
+          lane.updateEventFilter(positionsToSkipFilter);
+        }
+        return;
+      }
     }
   }
 
@@ -354,7 +385,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorStarting() {
     if (exporterMode == ExporterMode.ACTIVE) {
-      logStreamReader = logStream.newLogStreamReader();
+      lanes.forEach(ExporterLane::openReader);
     }
   }
 
@@ -390,9 +421,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorClosing() {
-    if (logStreamReader != null) {
-      logStreamReader.close();
-    }
+    lanes.forEach(ExporterLane::closeReader);
     logStream.removeRecordAvailableListener(this);
   }
 
@@ -451,8 +480,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
-    LOG.debug("Set event filter for exporters: {}", eventFilter);
+    for (final ExporterLane lane : lanes) {
+      lane.updateEventFilter(positionsToSkipFilter);
+    }
   }
 
   private void recoverFromSnapshot() {
@@ -464,28 +494,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
-  }
-
   private void onFailure() {
     isOpened.set(false);
     actor.close();
@@ -501,11 +509,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
-    if (logStreamReader != null) {
-      // We have to close it, otherwise it will prevent journal segment deletion
-      logStreamReader.close();
-      logStreamReader = null;
+    if (laneLagTimer != null) {
+      laneLagTimer.cancel();
+      laneLagTimer = null;
     }
+    lanes.forEach(ExporterLane::closeReader);
   }
 
   private void becomeLive() {
@@ -544,9 +552,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         containerOpenFutures,
         (error) -> {
           if (state.hasExporters()) {
-            final long snapshotPosition = state.getLowestPosition();
-            // start reading and exporting
-            startActiveExportingFrom(snapshotPosition);
+            // start reading and exporting, each lane from the lowest position of its exporters
+            startActiveExporting(false);
           } else {
             becomeIdle();
           }
@@ -554,23 +561,21 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void restartActiveExportingMode() {
-    logStreamReader = logStream.newLogStreamReader();
-    startActiveExportingFrom(-1);
+    lanes.forEach(ExporterLane::openReader);
+    startActiveExporting(true);
   }
 
-  private void startActiveExportingFrom(final long snapshotPosition) {
-    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
-    if (failedToRecoverReader) {
-      throw new IllegalStateException(
-          String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, -1, getName()));
+  private void startActiveExporting(final boolean fromStart) {
+    for (final ExporterLane lane : lanes) {
+      lane.startFrom(fromStart ? -1 : lane.getLowestPosition(state));
     }
     logStream.registerRecordAvailableListener(this);
-    if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
-    }
 
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+    laneLagTimer =
+        actor.runAtFixedRate(
+            LANE_LAG_UPDATE_INTERVAL, () -> lanes.forEach(ExporterLane::updateLag));
   }
 
   private void startPassiveExportingMode() {
@@ -599,75 +604,20 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
-    }
-
-    actor.submit(this::readNextEvent);
+  private boolean canExport() {
+    return isOpened.get() && !idle && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
+  /**
+   * Flow control only learns about the position up to which all lanes have exported, as the log can
+   * only be compacted up to the slowest exporter.
+   */
+  private void onLaneExported(final long position) {
+    long lowestPosition = position;
+    for (final ExporterLane lane : lanes) {
+      lowestPosition = Math.min(lowestPosition, lane.getPosition());
     }
-  }
-
-  private boolean shouldExport() {
-    return isOpened.get()
-        && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
-        && !exporterPhase.equals(ExporterPhase.PAUSED);
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
+    logStream.getFlowControl().onExported(lowestPosition);
   }
 
   private void clearExporterState() {
@@ -706,7 +656,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(() -> lanes.forEach(ExporterLane::readNextEvent));
   }
 
   public ActorFuture<Long> getLowestPosition() {
@@ -721,38 +671,4 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    * @param initializeFrom the id of the exporter to initialize the metadata of the exporter from
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
-
-  private static class ExporterEventFilter implements EventFilter {
-
-    private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
-
-    ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
-    }
-
-    @Override
-    public boolean applies(final LoggedEvent event) {
-      event.readMetadata(metadata);
-
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
-
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
-    }
-
-    @Override
-    public String toString() {
-      return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
-          + '}';
-    }
-  }
 }
@@ -33,6 +33,7 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private Map<String, String> exporterLanes = Map.of();
 
   public int getId() {
     return id;
@@ -78,6 +79,10 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public Map<String, String> getExporterLanes() {
+    return exporterLanes;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +140,16 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * Assigns exporters to lanes, by exporter id. Each lane reads the log independently, such that a
+   * slow exporter only holds back the exporters in its own lane. Exporters which are not assigned
+   * share the default lane.
+   */
+  public ExporterDirectorContext exporterLanes(final Map<String, String> exporterLanes) {
+    this.exporterLanes = exporterLanes;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -0,0 +1,319 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+
+/**
+ * A lane reads the log with its own reader and exports the records to its own subset of the
+ * exporters. Lanes share the actor of the {@link ExporterDirector}, but each lane waits for and
+ * retries its exporters independently, such that an exporter which is backing off (e.g. during a
+ * bulk retry) does not hold back the exporters of other lanes.
+ *
+ * <p>The exported positions are still tracked per exporter in the {@link ExportersState}, so log
+ * compaction is bound by the slowest exporter, regardless of its lane.
+ */
+final class ExporterLane {
+
+  static final String DEFAULT_LANE = "default";
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the position %d in log stream, but nothing was found. Failed to recover lane '%s' of '%s'.";
+
+  private final String name;
+  private final String directorName;
+  // Use concrete type because it must be modifiable
+  private final ArrayList<ExporterContainer> containers = new ArrayList<>();
+  private final ActorControl actor;
+  private final LogStream logStream;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final InstantSource clock;
+  private final BooleanSupplier canExport;
+  private final BooleanSupplier isClosed;
+  private final LongConsumer onExported;
+  private final Runnable onFailure;
+
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private boolean inExportingPhase;
+  private long position = -1;
+  private long currentTimestamp;
+
+  ExporterLane(
+      final String name,
+      final String directorName,
+      final int partitionId,
+      final ActorControl actor,
+      final LogStream logStream,
+      final ExporterMetrics metrics,
+      final InstantSource clock,
+      final BooleanSupplier canExport,
+      final BooleanSupplier isClosed,
+      final LongConsumer onExported,
+      final Runnable onFailure) {
+    this.name = name;
+    this.directorName = directorName;
+    this.actor = actor;
+    this.logStream = logStream;
+    this.metrics = metrics;
+    this.clock = clock;
+    this.canExport = canExport;
+    this.isClosed = isClosed;
+    this.onExported = onExported;
+    this.onFailure = onFailure;
+    recordExporter = new RecordExporter(metrics, containers, partitionId, clock);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  String getName() {
+    return name;
+  }
+
+  List<ExporterContainer> getContainers() {
+    return containers;
+  }
+
+  boolean isEmpty() {
+    return containers.isEmpty();
+  }
+
+  /**
+   * @return the position of the last record this lane has exported or skipped, or -1 if it has not
+   *     handled any record yet
+   */
+  long getPosition() {
+    return position;
+  }
+
+  void addContainer(final ExporterContainer container) {
+    containers.add(container);
+  }
+
+  void removeContainer(final ExporterContainer container) {
+    containers.remove(container);
+    // After removing this exporter, the exporter index has changed. Reset it so that we don't
+    // miss to export the record to any of the exporters whose index has changed.
+    recordExporter.resetExporterIndex();
+  }
+
+  void updateEventFilter(final EventFilter positionsToSkipFilter) {
+    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    LOG.debug("Set event filter for exporters of lane '{}': {}", name, eventFilter);
+  }
+
+  /**
+   * @return the lowest exported position of this lane's exporters, which is where the lane has to
+   *     continue reading after a restart
+   */
+  long getLowestPosition(final ExportersState state) {
+    return containers.stream()
+        .mapToLong(container -> state.getPosition(container.getId()))
+        .min()
+        .orElse(ExportersState.VALUE_NOT_FOUND);
+  }
+
+  void openReader() {
+    if (logStreamReader == null) {
+      logStreamReader = logStream.newLogStreamReader();
+    }
+  }
+
+  void closeReader() {
+    if (logStreamReader != null) {
+      // We have to close it, otherwise it will prevent journal segment deletion
+      logStreamReader.close();
+      logStreamReader = null;
+    }
+    metrics.removeLaneLag(name);
+  }
+
+  void startFrom(final long position) {
+    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(position);
+    if (failedToRecoverReader) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FAILED, position, name, directorName));
+    }
+    this.position = position;
+    actor.submit(this::readNextEvent);
+  }
+
+  void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      currentTimestamp = currentEvent.getTimestamp();
+      if (eventFilter == null || eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+    updateLag();
+  }
+
+  /**
+   * Updates the lag of this lane: the time since the record it is currently at was written, or zero
+   * if it has caught up with the log.
+   */
+  void updateLag() {
+    if (logStreamReader == null) {
+      return;
+    }
+
+    final boolean caughtUp = !inExportingPhase && !logStreamReader.hasNext();
+    metrics.setLaneLag(name, caughtUp ? 0 : clock.millis() - currentTimestamp);
+  }
+
+  private boolean shouldExport() {
+    return logStreamReader != null
+        && canExport.getAsBoolean()
+        && !inExportingPhase
+        && logStreamReader.hasNext();
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final long eventPosition = currentEvent.getPosition();
+
+    // every lane reads every record, so the events are counted per lane; a record may be skipped
+    // by one lane and exported by another
+    final RecordMetadata metadata = new RecordMetadata();
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(name, metadata.getValueType());
+
+    // increase position of all up to date exporters - an up to date exporter is one which has
+    // acknowledged the last record we passed to it
+    for (final ExporterContainer container : containers) {
+      container.updatePositionOnSkipIfUpToDate(eventPosition);
+    }
+    position = eventPosition;
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  onFailure.run();
+                } else {
+                  final var typedEvent = recordExporter.getTypedEvent();
+                  position = typedEvent.getPosition();
+                  onExported.accept(position);
+                  metrics.eventExported(name, typedEvent.getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private static ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
+
+    final List<Context.RecordFilter> recordFilters =
+        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
+
+    final Map<RecordType, Boolean> acceptRecordTypes =
+        Arrays.stream(RecordType.values())
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
+
+    final Map<ValueType, Boolean> acceptValueTypes =
+        Arrays.stream(ValueType.values())
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
+
+    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+  }
+
+  private static class ExporterEventFilter implements EventFilter {
+
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<RecordType, Boolean> acceptRecordTypes;
+    private final Map<ValueType, Boolean> acceptValueTypes;
+
+    ExporterEventFilter(
+        final Map<RecordType, Boolean> acceptRecordTypes,
+        final Map<ValueType, Boolean> acceptValueTypes) {
+      this.acceptRecordTypes = acceptRecordTypes;
+      this.acceptValueTypes = acceptValueTypes;
+    }
+
+    @Override
+    public boolean applies(final LoggedEvent event) {
+      event.readMetadata(metadata);
+
+      final RecordType recordType = metadata.getRecordType();
+      final ValueType valueType = metadata.getValueType();
+
+      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+    }
+
+    @Override
+    public String toString() {
+      return "ExporterEventFilter{"
+          + "acceptRecordTypes="
+          + acceptRecordTypes
+          + ", acceptValueTypes="
+          + acceptValueTypes
+          + '}';
+    }
+  }
+}
@@ -18,6 +18,7 @@ public final class ExporterMetrics {
   private static final String LABEL_NAME_EXPORTER = "exporter";
   private static final String LABEL_NAME_ACTION = "action";
   private static final String LABEL_NAME_VALUE_TYPE = "valueType";
+  private static final String LABEL_NAME_LANE = "lane";
   private static final String NAMESPACE_ZEEBE = "zeebe";
 
   private static final Histogram EXPORTING_LATENCY =
@@ -40,8 +41,9 @@ public final class ExporterMetrics {
       Counter.build()
           .namespace(NAMESPACE_ZEEBE)
           .name("exporter_events_total")
-          .help("Number of events processed by exporter")
-          .labelNames(LABEL_NAME_ACTION, LABEL_NAME_PARTITION, LABEL_NAME_VALUE_TYPE)
+          .help("Number of events processed by exporter, per exporter lane")
+          .labelNames(
+              LABEL_NAME_ACTION, LABEL_NAME_PARTITION, LABEL_NAME_VALUE_TYPE, LABEL_NAME_LANE)
           .register();
 
   private static final Gauge LAST_EXPORTED_POSITION =
@@ -68,6 +70,15 @@ public final class ExporterMetrics {
               "Describes the phase of the exporter, namely if it is exporting, paused or soft paused.")
           .labelNames(LABEL_NAME_PARTITION)
           .register();
+
+  private static final Gauge EXPORTER_LANE_LAG =
+      Gauge.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_lane_lag")
+          .help(
+              "Time between the record an exporter lane is currently at was written and now, or zero if the lane is caught up (in seconds)")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_LANE)
+          .register();
   private final String partitionIdLabel;
 
   private final Gauge.Child exporterPhase;
@@ -77,8 +88,8 @@ public final class ExporterMetrics {
     exporterPhase = EXPORTER_PHASE.labels(partitionIdLabel);
   }
 
-  private void event(final String action, final ValueType valueType) {
-    EXPORTER_EVENTS.labels(action, partitionIdLabel, valueType.name()).inc();
+  private void event(final String action, final String lane, final ValueType valueType) {
+    EXPORTER_EVENTS.labels(action, partitionIdLabel, valueType.name(), lane).inc();
   }
 
   public void setExporterActive() {
@@ -93,12 +104,12 @@ public final class ExporterMetrics {
     exporterPhase.set(2);
   }
 
-  public void eventExported(final ValueType valueType) {
-    event("exported", valueType);
+  public void eventExported(final String lane, final ValueType valueType) {
+    event("exported", lane, valueType);
   }
 
-  public void eventSkipped(final ValueType valueType) {
-    event("skipped", valueType);
+  public void eventSkipped(final String lane, final ValueType valueType) {
+    event("skipped", lane, valueType);
   }
 
   public void setLastUpdatedExportedPosition(final String exporter, final long position) {
@@ -123,6 +134,14 @@ public final class ExporterMetrics {
         .startTimer();
   }
 
+  public void setLaneLag(final String lane, final long lagMillis) {
+    EXPORTER_LANE_LAG.labels(partitionIdLabel, lane).set(lagMillis / 1000f);
+  }
+
+  public void removeLaneLag(final String lane) {
+    EXPORTER_LANE_LAG.remove(partitionIdLabel, lane);
+  }
+
   public void initializeExporterState(final ExporterPhase state) {
     switch (state) {
       case PAUSED:
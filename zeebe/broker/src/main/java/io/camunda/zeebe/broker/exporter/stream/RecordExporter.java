@@ -18,7 +18,8 @@ import java.util.List;
 
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
+  // exporters and their filters usually access only a few properties of most records
+  private final RecordValues recordValues = new RecordValues(true);
   private final RecordMetadata rawMetadata = new RecordMetadata();
   private final List<ExporterContainer> containers;
   private final TypedRecordImpl typedEvent;
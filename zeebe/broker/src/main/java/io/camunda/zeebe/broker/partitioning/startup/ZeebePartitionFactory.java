@@ -49,6 +49,7 @@ import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -101,6 +102,7 @@ public final class ZeebePartitionFactory {
   private final FeatureFlags featureFlags;
   private final List<PartitionRaftListener> partitionRaftListeners;
   private final MeterRegistry meterRegistry;
+  private final ExecutableProcessCache executableProcessCache;
 
   public ZeebePartitionFactory(
       final ActorSchedulingService actorSchedulingService,
@@ -131,6 +133,9 @@ public final class ZeebePartitionFactory {
     this.topologyManager = topologyManager;
     this.featureFlags = featureFlags;
     this.meterRegistry = meterRegistry;
+    final var cachesCfg = brokerCfg.getExperimental().getEngine().getCaches();
+    executableProcessCache =
+        new ExecutableProcessCache(cachesCfg.getSharedProcessCacheSize().toBytes());
   }
 
   public ZeebePartition constructPartition(
@@ -164,7 +169,8 @@ public final class ZeebePartitionFactory {
             diskSpaceUsageMonitor,
             gatewayBrokerTransport,
             topologyManager,
-            meterRegistry);
+            meterRegistry,
+            executableProcessCache);
     context.setDynamicPartitionConfig(initialPartitionConfig);
 
     final PartitionTransition newTransitionBehavior = new PartitionTransitionImpl(TRANSITION_STEPS);
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -17,6 +18,13 @@ import java.util.Set;
 public final class ExportingCfg implements ConfigurationEntry {
   private Set<Long> skipRecords;
 
+  /**
+   * Assigns exporters (by id) to named lanes. Each lane reads and exports the log independently, so
+   * a slow exporter only delays the exporters of its own lane. Unassigned exporters share the
+   * default lane, which matches the behavior without any lanes configured.
+   */
+  private Map<String, String> lanes;
+
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
   }
@@ -25,9 +33,17 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  public Map<String, String> getLanes() {
+    return lanes != null ? lanes : Map.of();
+  }
+
+  public void setLanes(final Map<String, String> lanes) {
+    this.lanes = lanes;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, lanes);
   }
 
   @Override
@@ -39,11 +55,11 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return Objects.equals(skipRecords, that.skipRecords) && Objects.equals(lanes, that.lanes);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{" + "skipRecords='" + skipRecords + ", lanes=" + lanes + '}';
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.NativeColumnFamilyConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.NativeColumnFamilyConfiguration.CompactionStyle;
+import java.time.Duration;
+
+/** Tuning options of a single native RocksDB column family, see {@link RocksdbCfg}. */
+public final class NativeColumnFamilyCfg {
+
+  private int prefixLength = NativeColumnFamilyConfiguration.DEFAULT_PREFIX_LENGTH;
+  private double bloomFilterBitsPerKey =
+      NativeColumnFamilyConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private CompactionStyle compactionStyle =
+      NativeColumnFamilyConfiguration.DEFAULT_COMPACTION_STYLE;
+  private Duration ttl = NativeColumnFamilyConfiguration.DEFAULT_TTL;
+
+  public int getPrefixLength() {
+    return prefixLength;
+  }
+
+  public void setPrefixLength(final int prefixLength) {
+    this.prefixLength = prefixLength;
+  }
+
+  public double getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public void setBloomFilterBitsPerKey(final double bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+  }
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public void setCompactionStyle(final CompactionStyle compactionStyle) {
+    this.compactionStyle = compactionStyle;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public void setTtl(final Duration ttl) {
+    this.ttl = ttl;
+  }
+
+  public NativeColumnFamilyConfiguration createNativeColumnFamilyConfiguration() {
+    return new NativeColumnFamilyConfiguration()
+        .setPrefixLength(prefixLength)
+        .setBloomFilterBitsPerKey(bloomFilterBitsPerKey)
+        .setCompactionStyle(compactionStyle)
+        .setTtl(ttl);
+  }
+
+  @Override
+  public String toString() {
+    return "NativeColumnFamilyCfg{"
+        + "prefixLength="
+        + prefixLength
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", compactionStyle="
+        + compactionStyle
+        + ", ttl="
+        + ttl
+        + '}';
+  }
+}
@@ -7,13 +7,18 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.stream.impl.StreamProcessorContext;
 import java.time.Duration;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private int maxLogCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_LOG_COMMANDS_IN_BATCH;
+  private DataSize maxLogCommandsBatchSize =
+      DataSize.ofBytes(StreamProcessorContext.DEFAULT_MAX_LOG_COMMANDS_BATCH_SIZE);
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
@@ -24,6 +29,16 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxLogCommandsInBatch < 1) {
+      throw new IllegalArgumentException(
+          "maxLogCommandsInBatch must be >= 1 but was %s".formatted(maxLogCommandsInBatch));
+    }
+    if (maxLogCommandsBatchSize.toBytes() < 1
+        || maxLogCommandsBatchSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "maxLogCommandsBatchSize must be between 1 byte and 2GB but was %s"
+              .formatted(maxLogCommandsBatchSize));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +54,30 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  /**
+   * @return how many commands read from the log may be processed in one transaction, with their
+   *     follow-up records appended as one batch; 1 processes every command in its own transaction
+   */
+  public int getMaxLogCommandsInBatch() {
+    return maxLogCommandsInBatch;
+  }
+
+  public void setMaxLogCommandsInBatch(final int maxLogCommandsInBatch) {
+    this.maxLogCommandsInBatch = maxLogCommandsInBatch;
+  }
+
+  /**
+   * @return the size of the follow-up records after which no further commands are read from the log
+   *     into the current transaction
+   */
+  public DataSize getMaxLogCommandsBatchSize() {
+    return maxLogCommandsBatchSize;
+  }
+
+  public void setMaxLogCommandsBatchSize(final DataSize maxLogCommandsBatchSize) {
+    this.maxLogCommandsBatchSize = maxLogCommandsBatchSize;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -60,6 +99,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxLogCommandsInBatch="
+        + maxLogCommandsInBatch
+        + ", maxLogCommandsBatchSize="
+        + maxLogCommandsBatchSize
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
@@ -8,10 +8,15 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.NativeColumnFamilyConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -28,6 +33,13 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableNativeColumnFamilies =
+      RocksDbConfiguration.DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, String> nativeColumnFamilyGroups = new HashMap<>();
+  private Map<String, NativeColumnFamilyCfg> nativeColumnFamilyOptions = new HashMap<>();
+  private Set<String> cachedColumnFamilies = new HashSet<>();
+  private DataSize columnFamilyCacheSize =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE);
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +133,47 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableNativeColumnFamilies() {
+    return enableNativeColumnFamilies;
+  }
+
+  public void setEnableNativeColumnFamilies(final boolean enableNativeColumnFamilies) {
+    this.enableNativeColumnFamilies = enableNativeColumnFamilies;
+  }
+
+  public Map<String, String> getNativeColumnFamilyGroups() {
+    return nativeColumnFamilyGroups;
+  }
+
+  public void setNativeColumnFamilyGroups(final Map<String, String> nativeColumnFamilyGroups) {
+    this.nativeColumnFamilyGroups = nativeColumnFamilyGroups;
+  }
+
+  public Map<String, NativeColumnFamilyCfg> getNativeColumnFamilyOptions() {
+    return nativeColumnFamilyOptions;
+  }
+
+  public void setNativeColumnFamilyOptions(
+      final Map<String, NativeColumnFamilyCfg> nativeColumnFamilyOptions) {
+    this.nativeColumnFamilyOptions = nativeColumnFamilyOptions;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public DataSize getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final DataSize columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +192,19 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setNativeColumnFamiliesEnabled(enableNativeColumnFamilies)
+        .setNativeColumnFamilyGroups(new HashMap<>(nativeColumnFamilyGroups))
+        .setNativeColumnFamilyOptions(createNativeColumnFamilyOptions())
+        .setCachedColumnFamilies(new HashSet<>(cachedColumnFamilies))
+        .setColumnFamilyCacheSize(columnFamilyCacheSize.toBytes());
+  }
+
+  private Map<String, NativeColumnFamilyConfiguration> createNativeColumnFamilyOptions() {
+    final Map<String, NativeColumnFamilyConfiguration> options = new HashMap<>();
+    nativeColumnFamilyOptions.forEach(
+        (name, cfg) -> options.put(name, cfg.createNativeColumnFamilyConfiguration()));
+    return options;
   }
 
   @Override
@@ -165,6 +230,16 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableNativeColumnFamilies="
+        + enableNativeColumnFamilies
+        + ", nativeColumnFamilyGroups="
+        + nativeColumnFamilyGroups
+        + ", nativeColumnFamilyOptions="
+        + nativeColumnFamilyOptions
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
         + '}';
   }
 
@@ -9,11 +9,16 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
+  private static final DataSize DEFAULT_SHARED_PROCESS_CACHE_SIZE = DataSize.ofMegabytes(64);
+
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int processCacheWarmUpCount = EngineConfiguration.DEFAULT_PROCESS_CACHE_WARM_UP_COUNT;
+  private DataSize sharedProcessCacheSize = DEFAULT_SHARED_PROCESS_CACHE_SIZE;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +44,22 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public int getProcessCacheWarmUpCount() {
+    return processCacheWarmUpCount;
+  }
+
+  public void setProcessCacheWarmUpCount(final int processCacheWarmUpCount) {
+    this.processCacheWarmUpCount = processCacheWarmUpCount;
+  }
+
+  public DataSize getSharedProcessCacheSize() {
+    return sharedProcessCacheSize;
+  }
+
+  public void setSharedProcessCacheSize(final DataSize sharedProcessCacheSize) {
+    this.sharedProcessCacheSize = sharedProcessCacheSize;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +69,10 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", processCacheWarmUpCount="
+        + processCacheWarmUpCount
+        + ", sharedProcessCacheSize="
+        + sharedProcessCacheSize
         + '}';
   }
 }
@@ -27,6 +27,7 @@ import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSende
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -128,4 +129,7 @@ public interface PartitionTransitionContext extends PartitionContext {
   void setBackupStore(BackupStore backupStore);
 
   MeterRegistry getMeterRegistry();
+
+  /** The cache of transformed processes, shared by all partitions of the broker. */
+  ExecutableProcessCache getExecutableProcessCache();
 }
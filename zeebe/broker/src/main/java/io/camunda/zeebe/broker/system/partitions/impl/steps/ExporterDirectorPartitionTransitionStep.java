@@ -111,6 +111,10 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             context.getBrokerCfg() != null
                 ? context.getBrokerCfg().getExporting().getSkipRecords()
                 : Set.of());
+    final var exporterLanes =
+        context.getBrokerCfg() != null
+            ? context.getBrokerCfg().getExporting().getLanes()
+            : Map.<String, String>of();
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
     final ExporterDirectorContext exporterCtx =
@@ -124,6 +128,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .exporterLanes(exporterLanes)
             .meterRegistry(context.getMeterRegistry());
 
     final ExporterDirector director =
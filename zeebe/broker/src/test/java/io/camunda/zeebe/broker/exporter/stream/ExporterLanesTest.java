@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static io.camunda.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterLanesTest {
+
+  private static final String SLOW_EXPORTER_ID = "slow";
+  private static final String FAST_EXPORTER_ID = "fast";
+
+  @Rule
+  public final ExporterRule rule =
+      ExporterRule.activeExporter().withExporterLanes(Map.of(SLOW_EXPORTER_ID, "slow-lane"));
+
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+  private ControlledTestExporter slowExporter;
+  private ControlledTestExporter fastExporter;
+
+  @Before
+  public void init() {
+    slowExporter = createExporter(SLOW_EXPORTER_ID);
+    fastExporter = createExporter(FAST_EXPORTER_ID);
+  }
+
+  @Test
+  public void shouldNotBlockOtherLanesWhileRetrying() {
+    // given
+    final var failing = new AtomicBoolean(true);
+    slowExporter.onExport(
+        record -> {
+          if (failing.get()) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+    fastExporter.shouldAutoUpdatePosition(true);
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("fast exporter has exported all records while the slow one retries")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(fastExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition));
+    assertThat(slowExporter.getExportedRecords()).isEmpty();
+    assertThat(rule.getExportersState().getPosition(FAST_EXPORTER_ID)).isEqualTo(secondPosition);
+    assertThat(rule.getExportersState().getLowestPosition()).isLessThan(firstPosition);
+
+    // when
+    failing.set(false);
+    rule.getClock().addTime(Duration.ofSeconds(10));
+
+    // then
+    Awaitility.await("slow exporter has caught up")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(slowExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition));
+  }
+
+  @Test
+  public void shouldRecoverEachLaneFromItsOwnPosition() throws Exception {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+    waitUntil(() -> slowExporter.getExportedRecords().size() == 2);
+    waitUntil(() -> fastExporter.getExportedRecords().size() == 2);
+
+    fastExporter.getController().updateLastExportedRecordPosition(secondPosition);
+    slowExporter.getController().updateLastExportedRecordPosition(firstPosition);
+    rule.closeExporterDirector();
+    slowExporter.getExportedRecords().clear();
+    fastExporter.getExportedRecords().clear();
+
+    // when
+    rule.startExporterDirector(exporterDescriptors);
+    final long thirdPosition = writeEvent();
+
+    // then
+    Awaitility.await("both lanes have exported the new record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(slowExporter.getExportedRecords())
+                  .extracting(Record::getPosition)
+                  .containsExactly(secondPosition, thirdPosition);
+              assertThat(fastExporter.getExportedRecords())
+                  .extracting(Record::getPosition)
+                  .containsExactly(thirdPosition);
+            });
+  }
+
+  @Test
+  public void shouldCountEventsPerLane() {
+    // given
+    final double exportedBySlowLane = getExportedEvents("slow-lane");
+    final double exportedByDefaultLane = getExportedEvents(ExporterLane.DEFAULT_LANE);
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    writeEvent();
+    writeEvent();
+
+    // then
+    Awaitility.await("both lanes have counted the exported records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(getExportedEvents("slow-lane")).isEqualTo(exportedBySlowLane + 2);
+              assertThat(getExportedEvents(ExporterLane.DEFAULT_LANE))
+                  .isEqualTo(exportedByDefaultLane + 2);
+            });
+  }
+
+  private double getExportedEvents(final String lane) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_exporter_events_total",
+            new String[] {"action", "partition", "valueType", "lane"},
+            new String[] {"exported", "1", ValueType.DEPLOYMENT.name(), lane});
+    return value == null ? 0 : value;
+  }
+
+  private ControlledTestExporter createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporterDescriptors.add(descriptor);
+    return exporter;
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+  }
+}
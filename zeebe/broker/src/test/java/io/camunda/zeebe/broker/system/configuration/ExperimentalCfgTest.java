@@ -113,6 +113,29 @@ final class ExperimentalCfgTest {
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
 
+  @Test
+  void shouldSetMaxInFlightSnapshotChunksFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxInFlightSnapshotChunks()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetMaxInFlightSnapshotChunksFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxInFlightSnapshotChunks", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxInFlightSnapshotChunks()).isEqualTo(8);
+  }
+
   @Test
   void shouldSetEnablePreconditionsFromConfig() {
     // when
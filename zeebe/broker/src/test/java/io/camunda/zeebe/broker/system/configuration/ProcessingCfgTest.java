@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class ProcessingCfgTest {
 
@@ -80,6 +81,45 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldNotProcessLogCommandsInBatchByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxLogCommandsInBatch();
+
+    // then
+    assertThat(limit).isOne();
+  }
+
+  @Test
+  void shouldSetMaxLogCommandsInBatchFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxLogCommandsInBatch();
+    final var size = cfg.getMaxLogCommandsBatchSize();
+
+    // then
+    assertThat(limit).isEqualTo(20);
+    assertThat(size).isEqualTo(DataSize.ofMegabytes(2));
+  }
+
+  @Test
+  void shouldRejectInvalidMaxLogCommandsInBatch() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxLogCommandsInBatch", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxLogCommandsInBatch must be >= 1");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -23,6 +24,7 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_PROCESS_CACHE_WARM_UP_COUNT = 0;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -32,6 +34,8 @@ public final class EngineConfiguration {
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int processCacheWarmUpCount = DEFAULT_PROCESS_CACHE_WARM_UP_COUNT;
+  private ExecutableProcessCache executableProcessCache;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -85,6 +89,33 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getProcessCacheWarmUpCount() {
+    return processCacheWarmUpCount;
+  }
+
+  /**
+   * @param processCacheWarmUpCount the number of processes whose latest version is loaded into the
+   *     process cache when the partition starts processing, or 0 to load processes only when used
+   */
+  public EngineConfiguration setProcessCacheWarmUpCount(final int processCacheWarmUpCount) {
+    this.processCacheWarmUpCount = processCacheWarmUpCount;
+    return this;
+  }
+
+  /**
+   * @return the cache of transformed processes shared with the other partitions, or null if every
+   *     partition transforms its processes on its own
+   */
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
+  public EngineConfiguration setExecutableProcessCache(
+      final ExecutableProcessCache executableProcessCache) {
+    this.executableProcessCache = executableProcessCache;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+/**
+ * Metrics of the executable process cache, which is shared by all partitions of a broker, and
+ * therefore not labeled by partition.
+ */
+public final class ExecutableProcessCacheMetrics {
+
+  private static final Gauge CACHED_PROCESSES =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("executable_process_cache_entries")
+          .help("Number of transformed processes in the broker-wide process cache")
+          .register();
+
+  private static final Gauge CACHED_RESOURCES_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("executable_process_cache_weight_bytes")
+          .help(
+              "Size in bytes of the BPMN resources of the transformed processes in the broker-wide"
+                  + " process cache, which approximates the memory used by the cache")
+          .register();
+
+  private static final Counter CACHE_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("executable_process_cache_requests_total")
+          .help("Number of lookups in the broker-wide process cache, by result (hit or miss)")
+          .labelNames("result")
+          .register();
+
+  public void processCached(final int resourceSize) {
+    CACHED_PROCESSES.inc();
+    CACHED_RESOURCES_SIZE.inc(resourceSize);
+  }
+
+  public void processEvicted(final int resourceSize) {
+    CACHED_PROCESSES.dec();
+    CACHED_RESOURCES_SIZE.dec(resourceSize);
+  }
+
+  public void cacheHit() {
+    CACHE_REQUESTS.labels("hit").inc();
+  }
+
+  public void cacheMiss() {
+    CACHE_REQUESTS.labels("miss").inc();
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.metrics;
 
 import io.camunda.zeebe.protocol.record.value.JobKind;
 import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 
 public final class JobMetrics {
 
@@ -20,6 +21,15 @@ public final class JobMetrics {
           .labelNames("action", "partition", "type", "job_kind")
           .register();
 
+  private static final Histogram ACTIVATED_JOB_VARIABLES_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("job_activated_variables_bytes")
+          .help("Size in bytes of the variables copied into each activated job")
+          .labelNames("partition")
+          .exponentialBuckets(64, 4, 10)
+          .register();
+
   private final String partitionIdLabel;
 
   public JobMetrics(final int partitionId) {
@@ -38,6 +48,10 @@ public final class JobMetrics {
     JOB_EVENTS.labels("activated", partitionIdLabel, type, jobKind.name()).inc(activatedJobs);
   }
 
+  public void observeActivatedJobVariablesSize(final int variablesSize) {
+    ACTIVATED_JOB_VARIABLES_SIZE.labels(partitionIdLabel).observe(variablesSize);
+  }
+
   public void jobTimedOut(final String type, final JobKind jobKind) {
     jobEvent("timed out", type, jobKind);
   }
@@ -69,5 +83,6 @@ public final class JobMetrics {
   /** Clears the metrics counter. You probably only want to use this during testing. */
   static void clear() {
     JOB_EVENTS.clear();
+    ACTIVATED_JOB_VARIABLES_SIZE.clear();
   }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class TimerMetrics {
+
+  private static final Histogram TRIGGER_LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("timer_trigger_lag_seconds")
+          .help(
+              "Time between the due date of a timer and the command to trigger it, which is"
+                  + " written by the due date checker")
+          .labelNames("partition")
+          .buckets(.01, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60, 300)
+          .register();
+
+  private final String partitionIdLabel;
+
+  public TimerMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void timerTriggered(final long dueDate, final long triggeredAt) {
+    final long lagMillis = Math.max(0, triggeredAt - dueDate);
+    TRIGGER_LAG.labels(partitionIdLabel).observe(lagMillis / 1000.0);
+  }
+}
@@ -86,6 +86,7 @@ public class BpmnJobActivationBehavior {
       stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, jobBatchRecord);
 
       jobVariablesCollector.setJobVariables(properties.fetchVariables(), wrappedJobRecord);
+      jobMetrics.observeActivatedJobVariablesSize(wrappedJobRecord.getVariablesBuffer().capacity());
       final var pushableJobRecord = new JobRecord();
       cloneJob(wrappedJobRecord, pushableJobRecord);
       final var activatedJob = new ActivatedJobImpl();
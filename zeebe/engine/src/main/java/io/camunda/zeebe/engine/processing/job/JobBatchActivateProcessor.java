@@ -58,7 +58,10 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     responseWriter = writers.response();
     jobBatchCollector =
         new JobBatchCollector(
-            state.getJobState(), state.getVariableState(), stateWriter::canWriteEventOfLength);
+            state.getJobState(),
+            state.getVariableState(),
+            stateWriter::canWriteEventOfLength,
+            jobMetrics);
 
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
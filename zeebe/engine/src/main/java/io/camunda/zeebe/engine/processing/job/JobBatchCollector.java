@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.msgpack.value.LongValue;
@@ -41,6 +42,7 @@ final class JobBatchCollector {
   private final JobState jobState;
   private final JobVariablesCollector jobVariablesCollector;
   private final Predicate<Integer> canWriteEventOfLength;
+  private final JobMetrics jobMetrics;
 
   /**
    * @param jobState the state from which jobs are collected
@@ -49,13 +51,16 @@ final class JobBatchCollector {
    *     TypedRecord} containing the {@link JobBatchRecord} will be writable or not. The predicate
    *     takes in the size of the record, and should return true if it can write such a record, and
    *     false otherwise
+   * @param jobMetrics the metrics to which the size of the variables of activated jobs is reported
    */
   JobBatchCollector(
       final JobState jobState,
       final VariableState variableState,
-      final Predicate<Integer> canWriteEventOfLength) {
+      final Predicate<Integer> canWriteEventOfLength,
+      final JobMetrics jobMetrics) {
     this.jobState = jobState;
     this.canWriteEventOfLength = canWriteEventOfLength;
+    this.jobMetrics = jobMetrics;
     jobVariablesCollector = new JobVariablesCollector(variableState);
   }
 
@@ -86,45 +91,54 @@ final class JobBatchCollector {
             : value.getTenantIds();
     final Map<JobKind, Integer> jobCountPerJobKind = new EnumMap<>(JobKind.class);
 
-    jobState.forEachActivatableJobs(
-        value.getTypeBuffer(),
-        tenantIds,
-        (key, jobRecord) -> {
-          // fill in the job record properties first in order to accurately estimate its size before
-          // adding it to the batch
-          final var deadline = record.getTimestamp() + value.getTimeout();
-          jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
-          jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
-
-          // the expected length is based on the current record's length plus the length of the job
-          // record we would add to the batch, the number of bytes taken by the additional job key,
-          // as well as an 8 KB buffer.
-          final var jobRecordLength = jobRecord.getLength();
-          final var expectedEventLength =
-              record.getLength()
-                  + jobRecordLength
-                  + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
-          if (activatedCount.value <= maxActivatedCount
-              && canWriteEventOfLength.test(expectedEventLength)) {
-            appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
-            activatedCount.increment();
-
-            // track the count of activated jobs by their JobKind
-            jobCountPerJobKind.merge(jobRecord.getJobKind(), 1, Integer::sum);
-
-          } else {
-            // if no jobs were activated, then the current job is simply too large, and we cannot
-            // activate it
-            if (activatedCount.value == 0) {
-              unwritableJob.set(new TooLargeJob(key, jobRecord, expectedEventLength));
+    // the jobs of a batch often share parent scopes, e.g. a multi-instance body or the process
+    // instance, whose variables are then only read once
+    jobVariablesCollector.startBatch();
+    try {
+      jobState.forEachActivatableJobs(
+          value.getTypeBuffer(),
+          tenantIds,
+          (key, jobRecord) -> {
+            // fill in the job record properties first in order to accurately estimate its size
+            // before adding it to the batch
+            final var deadline = record.getTimestamp() + value.getTimeout();
+            jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
+            jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
+
+            // the expected length is based on the current record's length plus the length of the
+            // job record we would add to the batch, the number of bytes taken by the additional job
+            // key, as well as an 8 KB buffer.
+            final var jobRecordLength = jobRecord.getLength();
+            final var expectedEventLength =
+                record.getLength()
+                    + jobRecordLength
+                    + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+            if (activatedCount.value <= maxActivatedCount
+                && canWriteEventOfLength.test(expectedEventLength)) {
+              appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
+              activatedCount.increment();
+              jobMetrics.observeActivatedJobVariablesSize(
+                  jobRecord.getVariablesBuffer().capacity());
+
+              // track the count of activated jobs by their JobKind
+              jobCountPerJobKind.merge(jobRecord.getJobKind(), 1, Integer::sum);
+
+            } else {
+              // if no jobs were activated, then the current job is simply too large, and we cannot
+              // activate it
+              if (activatedCount.value == 0) {
+                unwritableJob.set(new TooLargeJob(key, jobRecord, expectedEventLength));
+              }
+
+              value.setTruncated(true);
+              return false;
             }
 
-            value.setTruncated(true);
-            return false;
-          }
-
-          return activatedCount.value < maxActivatedCount;
-        });
+            return activatedCount.value < maxActivatedCount;
+          });
+    } finally {
+      jobVariablesCollector.finishBatch();
+    }
 
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import java.util.List;
+
+/**
+ * Completes a batch of jobs of the same partition with a single command, instead of a command per
+ * job. The jobs are completed in the order of the command, like separate {@link JobIntent#COMPLETE}
+ * commands would, and the response contains the keys of the completed jobs. A job which can't be
+ * completed, e.g. because it doesn't exist anymore, doesn't prevent completing the other jobs of
+ * the batch.
+ */
+public final class JobBatchCompleteProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final String INVALID_BATCH_MESSAGE =
+      "Expected to complete a batch of jobs with the variables of each job, but got %d jobs and %d variable documents";
+
+  private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final KeyGenerator keyGenerator;
+  private final JobState jobState;
+  private final JobMetrics jobMetrics;
+  private final JobCompleteProcessor jobCompleteProcessor;
+  private final JobCommandPreconditionChecker preconditionChecker =
+      new JobCommandPreconditionChecker("complete", List.of(State.ACTIVATABLE, State.ACTIVATED));
+
+  public JobBatchCompleteProcessor(
+      final Writers writers,
+      final ProcessingState state,
+      final KeyGenerator keyGenerator,
+      final JobMetrics jobMetrics,
+      final JobCompleteProcessor jobCompleteProcessor) {
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.keyGenerator = keyGenerator;
+    jobState = state.getJobState();
+    this.jobMetrics = jobMetrics;
+    this.jobCompleteProcessor = jobCompleteProcessor;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<JobBatchRecord> record) {
+    final JobBatchRecord value = record.getValue();
+    final List<Long> jobKeys = value.getJobKeys();
+    final long variablesCount = value.jobs().stream().count();
+    if (jobKeys.isEmpty() || jobKeys.size() != variablesCount) {
+      final var reason = String.format(INVALID_BATCH_MESSAGE, jobKeys.size(), variablesCount);
+      rejectionWriter.appendRejection(record, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(record, RejectionType.INVALID_ARGUMENT, reason);
+      return;
+    }
+
+    final var completedBatch =
+        new JobBatchRecord()
+            .setType(value.getTypeBuffer())
+            .setWorker(value.getWorkerBuffer())
+            .setTenantIds(value.getTenantIds());
+
+    final var variables = value.jobs().iterator();
+    for (final long jobKey : jobKeys) {
+      if (tryCompleteJob(record, jobKey, variables.next(), completedBatch)) {
+        completedBatch.jobKeys().add().setValue(jobKey);
+      }
+    }
+
+    final long jobBatchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.COMPLETED, completedBatch);
+    responseWriter.writeEventOnCommand(
+        jobBatchKey, JobBatchIntent.COMPLETED, completedBatch, record);
+  }
+
+  /**
+   * Completes the job like a single {@link JobIntent#COMPLETE} command. The job is not completed if
+   * the command would be rejected, or if its records don't fit into the batch of records written
+   * for this command anymore.
+   *
+   * @return true if the job was completed
+   */
+  private boolean tryCompleteJob(
+      final TypedRecord<JobBatchRecord> record,
+      final long jobKey,
+      final JobRecord variables,
+      final JobBatchRecord completedBatch) {
+    if (preconditionChecker.check(jobState.getState(jobKey), jobKey).isLeft()) {
+      return false;
+    }
+
+    final JobRecord job = jobState.getJob(jobKey, record.getAuthorizations());
+    if (job == null) {
+      return false;
+    }
+
+    job.setVariables(variables.getVariablesBuffer());
+
+    // the follow-up command which continues the element instance is smaller than the job, so the
+    // length of the job is reserved for it as well
+    final int expectedLength = 2 * job.getLength() + completedBatch.getLength() + Long.BYTES;
+    if (!stateWriter.canWriteEventOfLength(expectedLength)) {
+      return false;
+    }
+
+    stateWriter.appendFollowUpEvent(jobKey, JobIntent.COMPLETED, job);
+    jobMetrics.jobCompleted(job.getType(), job.getJobKind());
+    jobCompleteProcessor.continueElementInstance(commandWriter, job);
+    return true;
+  }
+}
@@ -58,7 +58,14 @@ public final class JobCompleteProcessor implements CommandProcessor<JobRecord> {
       final long key,
       final Intent intent,
       final JobRecord value) {
+    continueElementInstance(commandWriter, value);
+  }
 
+  /**
+   * Continues the element instance of the completed job, i.e. completes the element or its
+   * execution listener, if the element instance still exists.
+   */
+  void continueElementInstance(final TypedCommandWriter commandWriter, final JobRecord value) {
     final var serviceTaskKey = value.getElementInstanceKey();
 
     final ElementInstance serviceTask = elementInstanceState.getInstance(serviceTaskKey);
@@ -46,11 +46,10 @@ public final class JobEventProcessors {
 
     final var jobBackoffChecker =
         new JobBackoffChecker(clock, scheduledTaskStateFactory.get().getJobState());
+    final var jobCompleteProcessor =
+        new JobCompleteProcessor(processingState, jobMetrics, eventHandle);
     typedRecordProcessors
-        .onCommand(
-            ValueType.JOB,
-            JobIntent.COMPLETE,
-            new JobCompleteProcessor(processingState, jobMetrics, eventHandle))
+        .onCommand(ValueType.JOB, JobIntent.COMPLETE, jobCompleteProcessor)
         .onCommand(
             ValueType.JOB,
             JobIntent.FAIL,
@@ -102,6 +101,15 @@ public final class JobEventProcessors {
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
                 writers, processingState, processingState.getKeyGenerator(), jobMetrics))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCompleteProcessor(
+                writers,
+                processingState,
+                processingState.getKeyGenerator(),
+                jobMetrics,
+                jobCompleteProcessor))
         .withListener(
             new JobTimeoutCheckerScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
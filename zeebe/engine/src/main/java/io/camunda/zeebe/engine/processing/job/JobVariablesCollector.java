@@ -8,19 +8,52 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.immutable.VariableState.Variable;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import java.util.Collection;
+import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Collects the variables of a job from its scope hierarchy.
+ *
+ * <p>Between {@link #startBatch()} and {@link #finishBatch()}, the variables of every scope which
+ * is visited are memoized, such that the parent scopes shared by many jobs of a batch, e.g. the
+ * process instance of a multi-instance body, are read only once. As the memoized variables are not
+ * updated, the variable state must not be modified while a batch is collected.
+ */
 public class JobVariablesCollector {
 
   private final VariableState variableState;
 
+  private final Long2ObjectHashMap<ScopeVariables> scopeCache = new Long2ObjectHashMap<>();
+  private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer documentBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer documentView = new UnsafeBuffer(0, 0);
+  private boolean isCollectingBatch;
+
   public JobVariablesCollector(final VariableState variableState) {
     this.variableState = variableState;
   }
 
+  /** Starts memoizing the variables of the visited scopes, until {@link #finishBatch()}. */
+  public void startBatch() {
+    isCollectingBatch = true;
+  }
+
+  /** Stops memoizing the variables of the visited scopes, and releases the memoized variables. */
+  public void finishBatch() {
+    isCollectingBatch = false;
+    scopeCache.clear();
+  }
+
   public void setJobVariables(
       final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
     final long elementInstanceKey = jobRecord.getElementInstanceKey();
@@ -36,7 +69,9 @@ public class JobVariablesCollector {
       final Collection<DirectBuffer> variableNames, final long elementInstanceKey) {
     final DirectBuffer variables;
 
-    if (variableNames.isEmpty()) {
+    if (isCollectingBatch) {
+      variables = collectMemoizedVariables(variableNames, elementInstanceKey);
+    } else if (variableNames.isEmpty()) {
       variables = variableState.getVariablesAsDocument(elementInstanceKey);
     } else {
       variables = variableState.getVariablesAsDocument(elementInstanceKey, variableNames);
@@ -44,4 +79,53 @@ public class JobVariablesCollector {
 
     return variables;
   }
+
+  /**
+   * Writes the variables of the scope hierarchy into a document, in the same order as the {@link
+   * VariableState} would: starting with the given scope, where a variable shadows the variables of
+   * the same name in the parent scopes.
+   */
+  private DirectBuffer collectMemoizedVariables(
+      final Collection<DirectBuffer> variableNames, final long scopeKey) {
+    final boolean collectAll = variableNames.isEmpty();
+    collectedVariables.clear();
+
+    writer.wrap(documentBuffer, 0);
+    writer.reserveMapHeader();
+
+    long currentScopeKey = scopeKey;
+    while (currentScopeKey >= 0
+        && (collectAll || collectedVariables.size() < variableNames.size())) {
+      final ScopeVariables scope = getScopeVariables(currentScopeKey);
+
+      for (final Variable variable : scope.variables()) {
+        final DirectBuffer name = variable.name();
+        if ((collectAll || variableNames.contains(name)) && collectedVariables.add(name)) {
+          writer.writeString(name);
+          writer.writeRaw(variable.value());
+        }
+      }
+
+      currentScopeKey = scope.parentKey();
+    }
+
+    writer.writeReservedMapHeader(0, collectedVariables.size());
+
+    documentView.wrap(documentBuffer, 0, writer.getOffset());
+    return documentView;
+  }
+
+  private ScopeVariables getScopeVariables(final long scopeKey) {
+    ScopeVariables scope = scopeCache.get(scopeKey);
+    if (scope == null) {
+      scope =
+          new ScopeVariables(
+              variableState.getParentScopeKey(scopeKey), variableState.getVariablesLocal(scopeKey));
+      scopeCache.put(scopeKey, scope);
+    }
+    return scope;
+  }
+
+  /** The local variables of a scope, copied from the state, and the key of its parent scope. */
+  private record ScopeVariables(long parentKey, List<Variable> variables) {}
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchInstance;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+
+/**
+ * Creates a batch of process instances of the same process with a single command, instead of a
+ * command per process instance. Each instance is created like by a separate {@link
+ * ProcessInstanceCreationIntent#CREATE} command, with the variables of its batch instance, and
+ * results in its own {@link ProcessInstanceCreationIntent#CREATED} event.
+ *
+ * <p>The instances are created in the order of the command, until the follow-up records of the next
+ * instance don't fit into the batch of records written for this command anymore. The remaining
+ * instances are not created, and the response contains the reason for each of them, such that the
+ * client can retry them with another command.
+ */
+public final class ProcessInstanceCreationCreateBatchProcessor
+    implements TypedRecordProcessor<ProcessInstanceCreationRecord> {
+
+  private static final String ERROR_MESSAGE_NO_INSTANCES =
+      "Expected to create a batch of process instances, but no instances were given";
+  private static final String ERROR_MESSAGE_BATCH_FULL =
+      "Expected to create process instance, but the batch of process instances exceeds the maximum batch size";
+
+  private final ProcessInstanceCreationRecord instanceRecord = new ProcessInstanceCreationRecord();
+  private final ProcessInstanceCreationRecord batchResult = new ProcessInstanceCreationRecord();
+
+  private final ProcessInstanceCreationCreateProcessor createProcessor;
+  private final KeyGenerator keyGenerator;
+  private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final ProcessEngineMetrics metrics;
+
+  public ProcessInstanceCreationCreateBatchProcessor(
+      final ProcessInstanceCreationCreateProcessor createProcessor,
+      final KeyGenerator keyGenerator,
+      final Writers writers,
+      final ProcessEngineMetrics metrics) {
+    this.createProcessor = createProcessor;
+    this.keyGenerator = keyGenerator;
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<ProcessInstanceCreationRecord> command) {
+    final ProcessInstanceCreationRecord record = command.getValue();
+    if (!record.hasBatchInstances()) {
+      reject(command, RejectionType.INVALID_ARGUMENT, ERROR_MESSAGE_NO_INSTANCES);
+      return;
+    }
+
+    createProcessor
+        .getValidProcess(record)
+        .ifRightOrLeft(
+            process -> createProcessInstances(command, process),
+            rejection -> reject(command, rejection.type(), rejection.reason()));
+  }
+
+  @Override
+  public ProcessingError tryHandleError(
+      final TypedRecord<ProcessInstanceCreationRecord> command, final Throwable error) {
+    return createProcessor.tryHandleError(command, error);
+  }
+
+  private void createProcessInstances(
+      final TypedRecord<ProcessInstanceCreationRecord> command, final DeployedProcess process) {
+    batchResult.reset();
+    batchResult
+        .setBpmnProcessId(process.getBpmnProcessId())
+        .setVersion(process.getVersion())
+        .setProcessDefinitionKey(process.getKey())
+        .setTenantId(process.getTenantId());
+
+    boolean isBatchFull = false;
+    for (final ProcessInstanceCreationBatchInstance instance :
+        command.getValue().batchInstances()) {
+      final ProcessInstanceCreationBatchInstance result = batchResult.batchInstances().add();
+      if (isBatchFull || !tryCreateProcessInstance(command.getValue(), instance, process)) {
+        isBatchFull = true;
+        result.setRejectionReason(ERROR_MESSAGE_BATCH_FULL);
+      } else {
+        result.setProcessInstanceKey(instanceRecord.getProcessInstanceKey());
+      }
+    }
+
+    responseWriter.writeEventOnCommand(
+        command.getKey(), ProcessInstanceCreationIntent.CREATED, batchResult, command);
+  }
+
+  /**
+   * Creates the process instance like a single {@link ProcessInstanceCreationIntent#CREATE}
+   * command, unless its follow-up records don't fit into the batch of records anymore.
+   *
+   * @return true if the process instance was created
+   */
+  private boolean tryCreateProcessInstance(
+      final ProcessInstanceCreationRecord command,
+      final ProcessInstanceCreationBatchInstance instance,
+      final DeployedProcess process) {
+    instanceRecord.reset();
+    instanceRecord
+        .setBpmnProcessId(command.getBpmnProcessIdBuffer())
+        .setVersion(command.getVersion())
+        .setProcessDefinitionKey(command.getProcessDefinitionKey())
+        .setTenantId(command.getTenantId())
+        .setVariables(instance.getVariablesBuffer());
+    command.startInstructions().forEach(instanceRecord::addStartInstruction);
+
+    // besides the created event, an instance results in the variable events of its variables and
+    // in the commands to activate its elements, which are each about as large as the record
+    if (!stateWriter.canWriteEventOfLength(3 * instanceRecord.getLength())) {
+      return false;
+    }
+
+    createProcessor.createProcessInstance(instanceRecord, process);
+    stateWriter.appendFollowUpEvent(
+        keyGenerator.nextKey(), ProcessInstanceCreationIntent.CREATED, instanceRecord);
+    metrics.processInstanceCreated(instanceRecord);
+    return true;
+  }
+
+  private void reject(
+      final TypedRecord<ProcessInstanceCreationRecord> command,
+      final RejectionType type,
+      final String reason) {
+    rejectionWriter.appendRejection(command, type, reason);
+    responseWriter.writeRejectionOnCommand(command, type, reason);
+  }
+}
@@ -103,8 +103,7 @@ public final class ProcessInstanceCreationCreateProcessor
 
     final ProcessInstanceCreationRecord record = command.getValue();
 
-    getProcess(record)
-        .flatMap(process -> validateCommand(command.getValue(), process))
+    getValidProcess(record)
         .ifRightOrLeft(
             process -> createProcessInstance(controller, record, process),
             rejection -> controller.reject(rejection.type, rejection.reason));
@@ -112,6 +111,11 @@ public final class ProcessInstanceCreationCreateProcessor
     return true;
   }
 
+  /** Returns the process to create an instance of, or the rejection if the command is invalid. */
+  Either<Rejection, DeployedProcess> getValidProcess(final ProcessInstanceCreationRecord record) {
+    return getProcess(record).flatMap(process -> validateCommand(record, process));
+  }
+
   @Override
   public ProcessingError tryHandleError(
       final TypedRecord<ProcessInstanceCreationRecord> typedCommand, final Throwable error) {
@@ -130,6 +134,20 @@ public final class ProcessInstanceCreationCreateProcessor
       final CommandControl<ProcessInstanceCreationRecord> controller,
       final ProcessInstanceCreationRecord record,
       final DeployedProcess process) {
+    createProcessInstance(record, process);
+    controller.accept(ProcessInstanceCreationIntent.CREATED, record);
+
+    metrics.processInstanceCreated(record);
+  }
+
+  /**
+   * Creates an instance of the given process, which must be valid for the record, and sets the key
+   * of the created process instance and of its process on the record.
+   *
+   * @return the key of the created process instance
+   */
+  long createProcessInstance(
+      final ProcessInstanceCreationRecord record, final DeployedProcess process) {
     final long processInstanceKey = keyGenerator.nextKey();
 
     setVariablesFromDocument(
@@ -152,9 +170,7 @@ public final class ProcessInstanceCreationCreateProcessor
         .setBpmnProcessId(process.getBpmnProcessId())
         .setVersion(process.getVersion())
         .setProcessDefinitionKey(process.getKey());
-    controller.accept(ProcessInstanceCreationIntent.CREATED, record);
-
-    metrics.processInstanceCreated(record);
+    return processInstanceKey;
   }
 
   private Either<Rejection, DeployedProcess> validateCommand(
@@ -402,7 +418,7 @@ public final class ProcessInstanceCreationCreateProcessor
         });
   }
 
-  private record Rejection(RejectionType type, String reason) {}
+  record Rejection(RejectionType type, String reason) {}
 
   private record ElementIdAndType(String elementId, BpmnElementType elementType) {}
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.common.CatchEventBehavior;
 import io.camunda.zeebe.engine.processing.common.EventHandle;
@@ -53,6 +54,7 @@ public final class TimerTriggerProcessor implements TypedRecordProcessor<TimerRe
   private final TypedRejectionWriter rejectionWriter;
 
   private final EventHandle eventHandle;
+  private final TimerMetrics timerMetrics;
 
   public TimerTriggerProcessor(
       final MutableProcessingState processingState,
@@ -67,6 +69,7 @@ public final class TimerTriggerProcessor implements TypedRecordProcessor<TimerRe
     elementInstanceState = processingState.getElementInstanceState();
     timerInstanceState = processingState.getTimerState();
     keyGenerator = processingState.getKeyGenerator();
+    timerMetrics = new TimerMetrics(processingState.getPartitionId());
     eventHandle =
         new EventHandle(
             keyGenerator,
@@ -116,6 +119,8 @@ public final class TimerTriggerProcessor implements TypedRecordProcessor<TimerRe
       eventHandle.activateElement(catchEvent, elementInstanceKey, elementInstance.getValue());
     }
 
+    timerMetrics.timerTriggered(timer.getDueDate(), record.getTimestamp());
+
     if (shouldReschedule(timer)) {
       rescheduleTimer(timer, catchEvent);
     }
@@ -35,8 +35,10 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -50,6 +52,8 @@ public final class DbProcessState implements MutableProcessState {
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer;
+  private final ExecutableProcessCache executableProcessCache;
+  private final int processCacheWarmUpCount;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
   private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
       processesByTenantAndProcessIdAndVersionCache;
@@ -115,6 +119,8 @@ public final class DbProcessState implements MutableProcessState {
       final EngineConfiguration config,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
+    executableProcessCache = config.getExecutableProcessCache();
+    processCacheWarmUpCount = config.getProcessCacheWarmUpCount();
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -188,6 +194,13 @@ public final class DbProcessState implements MutableProcessState {
         CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (processCacheWarmUpCount > 0) {
+      warmUpCache();
+    }
+  }
+
   @Override
   public void putDeployment(final DeploymentRecord deploymentRecord) {
     for (final ProcessMetadata metadata : deploymentRecord.processesMetadata()) {
@@ -284,6 +297,9 @@ public final class DbProcessState implements MutableProcessState {
         new TenantIdAndProcessDefinitionKey(
             processRecord.getTenantId(), processRecord.getProcessDefinitionKey());
     processByTenantAndKeyCache.invalidate(key);
+    if (executableProcessCache != null) {
+      executableProcessCache.invalidate(processRecord.getProcessDefinitionKey());
+    }
 
     final var tenantIdAndProcessIdAndDeploymentKey =
         new TenantIdAndProcessIdAndDeploymentKey(
@@ -338,22 +354,16 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+    final ExecutableProcess executableProcess;
+    if (executableProcessCache != null) {
+      executableProcess =
+          executableProcessCache.get(
+              copiedProcess.getKey(),
+              copiedProcess.getResource().capacity(),
+              () -> transformProcess(copiedProcess));
+    } else {
+      executableProcess = transformProcess(copiedProcess);
+    }
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
@@ -362,6 +372,46 @@ public final class DbProcessState implements MutableProcessState {
     return deployedProcess;
   }
 
+  private ExecutableProcess transformProcess(final PersistedProcess persistedProcess) {
+    final BpmnModelInstance modelInstance =
+        readModelInstanceFromBuffer(persistedProcess.getResource());
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
+  }
+
+  /**
+   * Loads the latest version of up to {@link #processCacheWarmUpCount} processes into the cache,
+   * such that the first instances created after a leader change don't have to wait for their
+   * process to be transformed. If the processes were already used on another partition of the
+   * broker, they are taken from the shared {@link ExecutableProcessCache}.
+   */
+  private void warmUpCache() {
+    final List<TenantIdAndProcessId> processIds = new ArrayList<>();
+    digestByIdColumnFamily.whileTrue(
+        (key, latestDigest) -> {
+          final var tenantAwareProcessId = key.inner();
+          processIds.add(
+              new TenantIdAndProcessId(
+                  tenantAwareProcessId.tenantKey().toString(),
+                  BufferUtil.cloneBuffer(tenantAwareProcessId.wrappedKey().getBuffer())));
+          return processIds.size() < processCacheWarmUpCount;
+        });
+
+    for (final var process : processIds) {
+      getLatestProcessVersionByProcessId(process.processId(), process.tenantId());
+    }
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
@@ -599,6 +649,8 @@ public final class DbProcessState implements MutableProcessState {
 
   record TenantIdAndProcessDefinitionKey(String tenantId, long processDefinitionKey) {}
 
+  record TenantIdAndProcessId(String tenantId, DirectBuffer processId) {}
+
   record TenantIdAndProcessIdAndDeploymentKey(
       String tenantId, DirectBuffer processId, long deploymentKey) {}
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.camunda.zeebe.engine.metrics.ExecutableProcessCacheMetrics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.agrona.collections.MutableBoolean;
+
+/**
+ * A cache of transformed processes, shared by the process states of all partitions of a broker.
+ * Every partition stores the deployed processes, and would otherwise parse and transform the same
+ * BPMN resource on its own when the process is first used, e.g. after a leader change.
+ *
+ * <p>The processes are keyed by their process definition key, which is unique in the cluster and
+ * never reused for a different resource. A transformed {@link ExecutableProcess} is not modified
+ * after the transformation, so it can be shared by the stream processors of different partitions.
+ *
+ * <p>The cache is bounded by the summed size of the BPMN resources of the cached processes, as an
+ * approximation of the memory used by the transformed processes.
+ *
+ * <p>The cache is thread-safe.
+ */
+public final class ExecutableProcessCache {
+
+  private final Cache<Long, CachedProcess> cache;
+  private final ExecutableProcessCacheMetrics metrics = new ExecutableProcessCacheMetrics();
+
+  /**
+   * @param maxResourcesSize the maximum summed size in bytes of the BPMN resources of the cached
+   *     processes
+   */
+  public ExecutableProcessCache(final long maxResourcesSize) {
+    cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxResourcesSize)
+            .<Long, CachedProcess>weigher((key, process) -> process.resourceSize())
+            .removalListener(this::onRemoval)
+            .build();
+  }
+
+  /**
+   * Returns the cached process with the given key, or transforms and caches it if it is not cached.
+   * Concurrent lookups of the same key wait for a single transformation.
+   *
+   * @param processDefinitionKey the key of the process
+   * @param resourceSize the size of the BPMN resource the process is transformed from
+   * @param transformation transforms the process; exceptions thrown by it are rethrown as is
+   * @return the transformed process
+   */
+  public ExecutableProcess get(
+      final long processDefinitionKey,
+      final int resourceSize,
+      final Supplier<ExecutableProcess> transformation) {
+    final var transformed = new MutableBoolean();
+    final CachedProcess cachedProcess;
+    try {
+      cachedProcess =
+          cache.get(
+              processDefinitionKey,
+              () -> {
+                transformed.set(true);
+                final var process = new CachedProcess(transformation.get(), resourceSize);
+                metrics.processCached(resourceSize);
+                return process;
+              });
+    } catch (final ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+
+    if (transformed.get()) {
+      metrics.cacheMiss();
+    } else {
+      metrics.cacheHit();
+    }
+    return cachedProcess.process();
+  }
+
+  /** Removes the process with the given key, e.g. because it was deleted. */
+  public void invalidate(final long processDefinitionKey) {
+    cache.invalidate(processDefinitionKey);
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  private void onRemoval(final RemovalNotification<Long, CachedProcess> notification) {
+    final var process = notification.getValue();
+    if (process != null) {
+      metrics.processEvicted(process.resourceSize());
+    }
+  }
+
+  private record CachedProcess(ExecutableProcess process, int resourceSize) {}
+}
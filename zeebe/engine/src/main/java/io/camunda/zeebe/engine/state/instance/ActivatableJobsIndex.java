@@ -0,0 +1,342 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.TreeSet;
+import java.util.function.LongPredicate;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayQueue;
+import org.agrona.collections.LongHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * An in-memory index of the activatable jobs, which mirrors the {@code JOB_ACTIVATABLE} column
+ * family. Activating jobs by iterating the column family has to skip over the tombstones of all the
+ * jobs which were activated before, which makes activation slower the more jobs of a type went
+ * through the queue. The index instead keeps the keys per type and tenant in memory, ordered by key
+ * like the column family, such that taking the next N jobs costs a lookup of the queue and then
+ * constant time per job, see {@link JobQueue}.
+ *
+ * <p>The index is not persisted. It is built from the column family on first use, e.g. after
+ * recovering the state from a snapshot, and kept up to date by the {@link DbJobState} afterward.
+ * Changes are applied immediately, such that they are visible within the current transaction, and
+ * are undone if the transaction is rolled back.
+ *
+ * <p>Like the rest of the state, the index must only be accessed by the stream processor's thread.
+ */
+final class ActivatableJobsIndex {
+
+  private final Map<DirectBuffer, Map<String, JobQueue>> jobsByType = new HashMap<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer(0, 0);
+  private final List<Change> undoLog = new ArrayList<>();
+  private final TransactionContext transactionContext;
+  private final TransactionListener transactionListener =
+      new TransactionListener() {
+        @Override
+        public void onCommit() {
+          undoLog.clear();
+          isListening = false;
+        }
+
+        @Override
+        public void onRollback() {
+          undo();
+          isListening = false;
+        }
+      };
+
+  private boolean isLoaded;
+  private boolean isListening;
+
+  ActivatableJobsIndex(final TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
+  }
+
+  boolean isLoaded() {
+    return isLoaded;
+  }
+
+  /** Marks the index as built, after all jobs of the column family were {@link #restore}d. */
+  void markLoaded() {
+    isLoaded = true;
+  }
+
+  /** Adds a job which is already activatable in the column family, e.g. when building the index. */
+  void restore(final DirectBuffer type, final String tenantId, final long key) {
+    jobs(type, tenantId).add(key);
+  }
+
+  void add(final DirectBuffer type, final String tenantId, final long key) {
+    final var jobs = jobs(type, tenantId);
+    if (jobs.add(key)) {
+      recordChange(new Change(jobs, key, true));
+    }
+  }
+
+  void remove(final DirectBuffer type, final String tenantId, final long key) {
+    final var jobsByTenant = jobsByType.get(view(type));
+    final var jobs = jobsByTenant != null ? jobsByTenant.get(tenantId) : null;
+    if (jobs != null && jobs.remove(key)) {
+      recordChange(new Change(jobs, key, false));
+    }
+  }
+
+  /**
+   * Visits the keys of the activatable jobs of the given type, which belong to one of the given
+   * tenants, in ascending order of their key. The visitor must not make jobs of this type
+   * activatable or not activatable while visiting.
+   *
+   * @param visitor returns true to continue with the next job, false to stop
+   */
+  void forEach(final DirectBuffer type, final List<String> tenantIds, final LongPredicate visitor) {
+    final var jobsByTenant = jobsByType.get(view(type));
+    if (jobsByTenant == null) {
+      return;
+    }
+
+    final List<JobQueue> queues = new ArrayList<>(tenantIds.size());
+    for (int i = 0; i < tenantIds.size(); i++) {
+      final String tenantId = tenantIds.get(i);
+      final var jobs = jobsByTenant.get(tenantId);
+      // skip duplicated tenant ids, to visit each job only once
+      if (jobs != null && !jobs.isEmpty() && tenantIds.indexOf(tenantId) == i) {
+        queues.add(jobs);
+      }
+    }
+
+    if (queues.size() == 1) {
+      final var jobs = queues.get(0).iterator();
+      while (jobs.hasNext()) {
+        if (!visitor.test(jobs.nextLong())) {
+          return;
+        }
+      }
+    } else if (queues.size() > 1) {
+      forEachMerged(queues, visitor);
+    }
+  }
+
+  /** Merges the queues of multiple tenants, such that their jobs are visited in key order. */
+  private void forEachMerged(final List<JobQueue> queues, final LongPredicate visitor) {
+    final int count = queues.size();
+    final List<PrimitiveIterator.OfLong> iterators = new ArrayList<>(count);
+    final long[] heads = new long[count];
+    for (int i = 0; i < count; i++) {
+      final var iterator = queues.get(i).iterator();
+      iterators.add(iterator);
+      heads[i] = iterator.nextLong();
+    }
+
+    int remaining = count;
+    while (remaining > 0) {
+      int next = -1;
+      for (int i = 0; i < count; i++) {
+        if (iterators.get(i) != null && (next < 0 || heads[i] < heads[next])) {
+          next = i;
+        }
+      }
+
+      if (!visitor.test(heads[next])) {
+        return;
+      }
+
+      final var iterator = iterators.get(next);
+      if (iterator.hasNext()) {
+        heads[next] = iterator.nextLong();
+      } else {
+        iterators.set(next, null);
+        remaining--;
+      }
+    }
+  }
+
+  private JobQueue jobs(final DirectBuffer type, final String tenantId) {
+    var jobsByTenant = jobsByType.get(view(type));
+    if (jobsByTenant == null) {
+      jobsByTenant = new HashMap<>();
+      jobsByType.put(new UnsafeBuffer(BufferUtil.bufferAsArray(type)), jobsByTenant);
+    }
+    return jobsByTenant.computeIfAbsent(tenantId, ignored -> new JobQueue());
+  }
+
+  private DirectBuffer view(final DirectBuffer type) {
+    typeView.wrap(type, 0, type.capacity());
+    return typeView;
+  }
+
+  private void recordChange(final Change change) {
+    if (!isListening) {
+      isListening = true;
+      // may notify the listener immediately, if the change was not made in a transaction
+      transactionContext.addTransactionListener(transactionListener);
+    }
+
+    if (isListening) {
+      undoLog.add(change);
+    }
+  }
+
+  private void undo() {
+    for (int i = undoLog.size() - 1; i >= 0; i--) {
+      undoLog.get(i).undo();
+    }
+    undoLog.clear();
+  }
+
+  private record Change(JobQueue jobs, long key, boolean added) {
+
+    void undo() {
+      if (added) {
+        jobs.remove(key);
+      } else {
+        jobs.add(key);
+      }
+    }
+  }
+
+  /**
+   * The activatable jobs of one type and tenant, in ascending order of their key. New jobs have a
+   * higher key than all jobs before them, so they are appended to a FIFO queue, and activating the
+   * next jobs takes them from its head in constant time. A job which is removed while it's not at
+   * the head, e.g. because it was canceled, is only marked as removed, and dropped once it reaches
+   * the head.
+   *
+   * <p>A job which becomes activatable again, e.g. after it timed out or failed, is unmarked if it
+   * is still in the queue. Otherwise, it's kept in a sorted set of reinserted jobs, which is merged
+   * with the queue when visiting the jobs. Only these jobs cost logarithmic time, and there are
+   * usually few of them.
+   */
+  private static final class JobQueue {
+
+    private final LongArrayQueue queue = new LongArrayQueue();
+    // the keys of all activatable jobs, whether they're in the queue or reinserted
+    private final LongHashSet jobs = new LongHashSet();
+    // the keys in the queue which are not activatable anymore; the head is never one of them
+    private final LongHashSet removed = new LongHashSet();
+    // the activatable jobs which are not in the queue, as their key is lower than its tail
+    private final NavigableSet<Long> reinserted = new TreeSet<>();
+    private long tail;
+
+    boolean isEmpty() {
+      return jobs.isEmpty();
+    }
+
+    boolean add(final long key) {
+      if (!jobs.add(key)) {
+        return false;
+      }
+
+      if (removed.remove(key)) {
+        // the job is still in the queue at the position of its key
+        return true;
+      }
+
+      if (queue.isEmpty() || key > tail) {
+        queue.offerLong(key);
+        tail = key;
+      } else {
+        reinserted.add(key);
+      }
+      return true;
+    }
+
+    boolean remove(final long key) {
+      if (!jobs.remove(key)) {
+        return false;
+      }
+
+      if (!queue.isEmpty() && queue.peekLong() == key) {
+        queue.pollLong();
+        while (!queue.isEmpty() && removed.remove(queue.peekLong())) {
+          queue.pollLong();
+        }
+      } else if (!reinserted.remove(key)) {
+        removed.add(key);
+      }
+      return true;
+    }
+
+    /** Returns an iterator over the keys of the jobs, in ascending order. */
+    PrimitiveIterator.OfLong iterator() {
+      return new MergingIterator(queue.iterator(), reinserted.iterator(), removed);
+    }
+  }
+
+  /** Merges the queued jobs, skipping the removed ones, with the reinserted jobs by their key. */
+  private static final class MergingIterator implements PrimitiveIterator.OfLong {
+
+    private final LongArrayQueue.LongIterator queued;
+    private final Iterator<Long> reinserted;
+    private final LongHashSet removed;
+    private boolean hasQueued;
+    private long nextQueued;
+    private boolean hasReinserted;
+    private long nextReinserted;
+
+    private MergingIterator(
+        final LongArrayQueue.LongIterator queued,
+        final Iterator<Long> reinserted,
+        final LongHashSet removed) {
+      this.queued = queued;
+      this.reinserted = reinserted;
+      this.removed = removed;
+      advanceQueued();
+      advanceReinserted();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return hasQueued || hasReinserted;
+    }
+
+    @Override
+    public long nextLong() {
+      final long next;
+      if (hasQueued && (!hasReinserted || nextQueued < nextReinserted)) {
+        next = nextQueued;
+        advanceQueued();
+      } else if (hasReinserted) {
+        next = nextReinserted;
+        advanceReinserted();
+      } else {
+        throw new NoSuchElementException();
+      }
+      return next;
+    }
+
+    private void advanceQueued() {
+      hasQueued = false;
+      while (queued.hasNext()) {
+        final long key = queued.nextValue();
+        if (!removed.contains(key)) {
+          nextQueued = key;
+          hasQueued = true;
+          return;
+        }
+      }
+    }
+
+    private void advanceReinserted() {
+      hasReinserted = reinserted.hasNext();
+      if (hasReinserted) {
+        nextReinserted = reinserted.next();
+      }
+    }
+  }
+}
@@ -60,6 +60,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
+  private final ActivatableJobsIndex activatableJobs;
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -96,6 +97,7 @@ public final class DbJobState implements JobState, MutableJobState {
             transactionContext,
             tenantAwareTypeJobKey,
             DbNil.INSTANCE);
+    activatableJobs = new ActivatableJobsIndex(transactionContext);
 
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
@@ -129,7 +131,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     addJobDeadline(key, deadline);
   }
@@ -164,13 +166,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
+    makeJobNotActivatable(record.getTypeBuffer(), key, record.getTenantId());
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
   }
 
   @Override
@@ -183,7 +185,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     removeJobDeadline(key, record.getDeadline());
     removeJobBackoff(key, record.getRecurringTime());
@@ -195,13 +197,13 @@ public final class DbJobState implements JobState, MutableJobState {
       if (updatedValue.getRetryBackoff() > 0) {
         addJobBackoff(key, updatedValue.getRecurringTime());
         updateJob(key, updatedValue, State.FAILED);
-        makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+        makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+      makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
     }
   }
 
@@ -407,20 +409,8 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
-
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((tenantAwareCompositeKey, zbNil) -> {
-          final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
-          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
-
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
-          }
-          // we want to continue with the iteration
-          return true;
-        }));
+    ensureActivatableJobsLoaded();
+    activatableJobs.forEach(type, tenantIds, key -> visitJob(key, callback::apply));
   }
 
   @Override
@@ -504,6 +494,9 @@ public final class DbJobState implements JobState, MutableJobState {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantId", tenantId);
 
+    ensureActivatableJobsLoaded();
+    activatableJobs.add(type, tenantId, key);
+
     jobTypeKey.wrapBuffer(type);
     jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
@@ -512,15 +505,39 @@ public final class DbJobState implements JobState, MutableJobState {
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
+  private void makeJobNotActivatable(
+      final DirectBuffer type, final long key, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
 
+    ensureActivatableJobsLoaded();
+    activatableJobs.remove(type, tenantId, key);
+
     jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
   }
 
+  /**
+   * Builds the in-memory index of activatable jobs from the column family, if not done yet. As this
+   * iterates over the column family with the shared key instances, it must be called before these
+   * are wrapped.
+   */
+  private void ensureActivatableJobsLoaded() {
+    if (activatableJobs.isLoaded()) {
+      return;
+    }
+
+    activatableColumnFamily.forEach(
+        (key, nil) ->
+            activatableJobs.restore(
+                key.wrappedKey().first().getBuffer(),
+                key.tenantKey().toString(),
+                key.wrappedKey().second().inner().getValue()));
+    activatableJobs.markLoaded();
+  }
+
   private void addJobDeadline(final long job, final long deadline) {
     if (deadline > 0) {
       jobKey.wrapLong(job);
@@ -9,14 +9,19 @@ package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel.Entry;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel.LoadRange;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
@@ -37,8 +42,39 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   private long nextDueDate;
 
+  /** Optional; if set, the due timers are looked up in the wheel instead of the column family. */
+  private final TimerDueDateWheel dueDateWheel;
+
+  private final TransactionContext transactionContext;
+  private final List<WheelChange> uncommittedWheelChanges = new ArrayList<>();
+  private final List<Entry> dueTimers = new ArrayList<>();
+  private final TransactionListener wheelUpdater =
+      new TransactionListener() {
+        @Override
+        public void onCommit() {
+          applyWheelChanges();
+          isListening = false;
+        }
+
+        @Override
+        public void onRollback() {
+          uncommittedWheelChanges.clear();
+          isListening = false;
+        }
+      };
+  private boolean isListening;
+
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, null);
+  }
+
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerDueDateWheel dueDateWheel) {
+    this.transactionContext = transactionContext;
+    this.dueDateWheel = dueDateWheel;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -71,6 +107,9 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    recordWheelChange(
+        new WheelChange(true, timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey()));
   }
 
   @Override
@@ -81,6 +120,9 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    recordWheelChange(
+        new WheelChange(false, timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey()));
   }
 
   @Override
@@ -92,6 +134,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateWheel != null) {
+      return processTimersInWheel(timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -122,6 +168,101 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processTimersInWheel(final long timestamp, final TimerVisitor consumer) {
+    final LoadRange loadRange = dueDateWheel.extendHorizon(timestamp);
+    if (loadRange != null) {
+      loadIntoWheel(loadRange);
+    }
+
+    dueTimers.clear();
+    final long nextDueDateInWheel = dueDateWheel.collectDue(timestamp, dueTimers);
+    for (int i = 0; i < dueTimers.size(); i++) {
+      final var dueTimer = dueTimers.get(i);
+      final var timer = get(dueTimer.elementInstanceKey, dueTimer.timerKey);
+      if (timer == null) {
+        // the timer was removed concurrently, while the wheel was filled from the column family
+        dueDateWheel.remove(dueTimer.timerKey);
+      } else if (!consumer.visit(timer)) {
+        dueTimers.clear();
+        return dueTimer.dueDate;
+      }
+    }
+    dueTimers.clear();
+
+    if (nextDueDateInWheel >= 0) {
+      return nextDueDateInWheel;
+    }
+    return findFirstDueDateFrom(dueDateWheel.loadedUntil());
+  }
+
+  private void loadIntoWheel(final LoadRange range) {
+    dueDateColumnFamily.whileTrue(
+        startAt(range.from()),
+        (key, nil) -> {
+          final long dueDate = key.first().getValue();
+          if (dueDate >= range.to()) {
+            return false;
+          }
+
+          final var elementAndTimerKey = key.second();
+          dueDateWheel.add(
+              dueDate,
+              elementAndTimerKey.first().inner().getValue(),
+              elementAndTimerKey.second().getValue());
+          return true;
+        });
+  }
+
+  /** Returns the first due date beyond the wheel, or -1 if there is none. */
+  private long findFirstDueDateFrom(final long from) {
+    nextDueDate = -1L;
+    dueDateColumnFamily.whileTrue(
+        startAt(from),
+        (key, nil) -> {
+          nextDueDate = key.first().getValue();
+          return false;
+        });
+    return nextDueDate;
+  }
+
+  private DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>> startAt(
+      final long fromDueDate) {
+    if (fromDueDate == TimerDueDateWheel.UNLOADED) {
+      return null;
+    }
+
+    // the smallest keys of the due date, as the keys are compared as unsigned bytes
+    dueDate.wrapLong(fromDueDate);
+    elementInstanceKey.inner().wrapLong(0);
+    timerKey.wrapLong(0);
+    return dueDateCompositeKey;
+  }
+
+  private void recordWheelChange(final WheelChange change) {
+    if (dueDateWheel == null) {
+      return;
+    }
+
+    uncommittedWheelChanges.add(change);
+    if (!isListening) {
+      isListening = true;
+      // may notify the listener immediately, if the change was not made in a transaction
+      transactionContext.addTransactionListener(wheelUpdater);
+    }
+  }
+
+  private void applyWheelChanges() {
+    for (int i = 0; i < uncommittedWheelChanges.size(); i++) {
+      final var change = uncommittedWheelChanges.get(i);
+      if (change.added()) {
+        dueDateWheel.add(change.dueDate(), change.elementInstanceKey(), change.timerKey());
+      } else {
+        dueDateWheel.remove(change.timerKey());
+      }
+    }
+    uncommittedWheelChanges.clear();
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
@@ -141,4 +282,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  /**
+   * A change of the timers, which is applied to the wheel once it is committed, such that the wheel
+   * only contains timers which can be read by the due date checker.
+   */
+  private record WheelChange(boolean added, long dueDate, long elementInstanceKey, long timerKey) {}
 }
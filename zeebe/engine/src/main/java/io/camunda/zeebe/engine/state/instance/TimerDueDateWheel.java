@@ -0,0 +1,309 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * A hierarchical timing wheel of the due dates of the timers which are due in the near future. It
+ * is used by the {@link DbTimerInstanceState} to find the due timers without iterating over the
+ * {@code TIMER_DUE_DATES} column family every time the timers are checked.
+ *
+ * <p>The wheel has three levels of 32 slots each. A slot of the lowest level covers one tick of 100
+ * ms, and a slot of every following level covers all the slots of the level below. When the wheel
+ * advances into the range of a slot of a higher level, its timers are moved down into the level
+ * below, until they end up in the overdue slot. Adding and removing a timer, and advancing the
+ * wheel by a tick, take constant time.
+ *
+ * <p>The wheel only contains the timers with a due date before {@link #loadedUntil()}, which is
+ * less than an hour ahead. It is filled from the column family in chunks, see {@link
+ * #extendHorizon(long)}, such that the column family is only consulted for the timers beyond the
+ * horizon of the wheel. After the wheel is filled, committed changes of the timers must be applied
+ * to it by {@link #add(long, long, long)} and {@link #remove(long)}.
+ *
+ * <p>This class is thread safe. It's intended use is that the stream processor applies the
+ * committed changes of the timers, while the due date checker, possibly on another thread, visits
+ * the due timers. The wheel may contain timers which were already removed from the state, e.g.
+ * because a timer was removed while the wheel was filled concurrently, so the state of the visited
+ * timers must be read from the column family.
+ */
+public final class TimerDueDateWheel {
+
+  static final long TICK_MILLIS = 100;
+  static final long UNLOADED = Long.MIN_VALUE;
+
+  private static final int SLOT_BITS = 5;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = 3;
+  private static final int TOP_LEVEL_SHIFT = SLOT_BITS * (LEVELS - 1);
+
+  private static final Comparator<Entry> DUE_DATE_ORDER =
+      Comparator.<Entry>comparingLong(entry -> entry.dueDate)
+          .thenComparingLong(entry -> entry.elementInstanceKey)
+          .thenComparingLong(entry -> entry.timerKey);
+
+  private final Slot[][] levels = new Slot[LEVELS][SLOTS];
+  private final Slot overdue = new Slot();
+  private final Long2ObjectHashMap<Entry> entriesByTimerKey = new Long2ObjectHashMap<>();
+
+  private long currentTick = UNLOADED;
+  private long loadedUntil = UNLOADED;
+
+  public TimerDueDateWheel() {
+    for (final Slot[] level : levels) {
+      for (int i = 0; i < SLOTS; i++) {
+        level[i] = new Slot();
+      }
+    }
+  }
+
+  /**
+   * Advances the wheel to the given time, and extends the range of due dates which it contains up
+   * to its horizon, if the horizon moved. The timers with a due date in the returned range must be
+   * {@link #add(long, long, long) added} to the wheel afterward. Timers which are committed
+   * concurrently are added to the wheel directly, if they fall into the extended range.
+   *
+   * @param now the current time in ms
+   * @return the range of due dates to load, or {@code null} if the wheel is already filled
+   */
+  synchronized LoadRange extendHorizon(final long now) {
+    advanceTo(tickOf(now));
+
+    // the end of the last block of the top level, such that every loaded timer fits into a slot
+    final long horizonTick = ((currentTick >> TOP_LEVEL_SHIFT) + SLOTS) << TOP_LEVEL_SHIFT;
+    final long horizon = horizonTick * TICK_MILLIS;
+    if (loadedUntil >= horizon) {
+      return null;
+    }
+
+    final var range = new LoadRange(loadedUntil, horizon);
+    loadedUntil = horizon;
+    return range;
+  }
+
+  /**
+   * Adds the timer to the wheel, if its due date is before {@link #loadedUntil()}. Otherwise, the
+   * timer is added when the wheel is extended. Adding a timer which is already contained has no
+   * effect, as the due date of a timer never changes.
+   */
+  synchronized void add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (dueDate >= loadedUntil || entriesByTimerKey.containsKey(timerKey)) {
+      return;
+    }
+
+    final var entry = new Entry(dueDate, elementInstanceKey, timerKey);
+    entriesByTimerKey.put(timerKey, entry);
+    place(entry);
+  }
+
+  synchronized void remove(final long timerKey) {
+    final var entry = entriesByTimerKey.remove(timerKey);
+    if (entry != null) {
+      entry.slot.remove(entry);
+    }
+  }
+
+  /**
+   * Advances the wheel to the given time and collects the timers which are due at that time,
+   * ordered by their due date.
+   *
+   * @param now the current time in ms
+   * @param dueTimers the list to add the due timers to
+   * @return the due date of the next timer in the wheel which is not due yet, or {@code -1} if
+   *     there is none
+   */
+  synchronized long collectDue(final long now, final List<Entry> dueTimers) {
+    advanceTo(tickOf(now));
+
+    long nextDueDate = -1L;
+    for (var entry = overdue.head; entry != null; entry = entry.next) {
+      if (entry.dueDate <= now) {
+        dueTimers.add(entry);
+      } else if (nextDueDate < 0 || entry.dueDate < nextDueDate) {
+        nextDueDate = entry.dueDate;
+      }
+    }
+    dueTimers.sort(DUE_DATE_ORDER);
+
+    return nextDueDate >= 0 ? nextDueDate : nextScheduledDueDate();
+  }
+
+  /** Returns the due date before which all timers are contained in the wheel. */
+  synchronized long loadedUntil() {
+    return loadedUntil;
+  }
+
+  synchronized int size() {
+    return entriesByTimerKey.size();
+  }
+
+  /**
+   * Returns the earliest due date of the timers which are not overdue. Within a level, the first
+   * non-empty slot holds the earliest timers of that level. However, timers are placed relative to
+   * the current tick, so a timer which was placed on a higher level may be due before a timer which
+   * was placed on a lower level later, e.g. a timer due at tick 40 is placed on level 1 at tick 0,
+   * while a timer due at tick 45 is placed on level 0 at tick 20. The earliest due dates of all
+   * levels are compared therefore.
+   */
+  private long nextScheduledDueDate() {
+    long nextDueDate = -1L;
+    for (int level = 0; level < LEVELS; level++) {
+      final long currentBlock = currentTick >> (SLOT_BITS * level);
+      for (int i = 1; i < SLOTS; i++) {
+        final var slot = levels[level][(int) ((currentBlock + i) & SLOT_MASK)];
+        if (slot.head != null) {
+          final long earliestDueDate = slot.earliestDueDate();
+          if (nextDueDate < 0 || earliestDueDate < nextDueDate) {
+            nextDueDate = earliestDueDate;
+          }
+          break;
+        }
+      }
+    }
+    return nextDueDate;
+  }
+
+  private void advanceTo(final long tick) {
+    if (currentTick == UNLOADED) {
+      // nothing can be placed before the wheel was extended for the first time
+      currentTick = tick;
+      return;
+    }
+
+    if (tick <= currentTick) {
+      return;
+    }
+
+    if (tick - currentTick > SLOTS * SLOTS) {
+      // skipping over many ticks, e.g. after the stream processor was paused
+      currentTick = tick;
+      replaceAll();
+      return;
+    }
+
+    while (currentTick < tick) {
+      currentTick++;
+      for (int level = LEVELS - 1; level > 0; level--) {
+        final int shift = SLOT_BITS * level;
+        if ((currentTick & ((1L << shift) - 1)) == 0) {
+          cascade(levels[level][(int) ((currentTick >> shift) & SLOT_MASK)]);
+        }
+      }
+      cascade(levels[0][(int) (currentTick & SLOT_MASK)]);
+    }
+  }
+
+  private void place(final Entry entry) {
+    final long dueTick = tickOf(entry.dueDate);
+    if (dueTick <= currentTick) {
+      overdue.add(entry);
+      return;
+    }
+
+    for (int level = 0; level < LEVELS; level++) {
+      final int shift = SLOT_BITS * level;
+      final long block = dueTick >> shift;
+      if (block - (currentTick >> shift) < SLOTS) {
+        levels[level][(int) (block & SLOT_MASK)].add(entry);
+        return;
+      }
+    }
+
+    throw new IllegalStateException(
+        "Expected due date %d to be within the horizon of the timing wheel, but it is not"
+            .formatted(entry.dueDate));
+  }
+
+  /** Moves the timers of the given slot down to the levels below, or into the overdue slot. */
+  private void cascade(final Slot slot) {
+    var entry = slot.head;
+    slot.head = null;
+    while (entry != null) {
+      final var next = entry.next;
+      place(entry);
+      entry = next;
+    }
+  }
+
+  private void replaceAll() {
+    overdue.head = null;
+    for (final Slot[] level : levels) {
+      for (final Slot slot : level) {
+        slot.head = null;
+      }
+    }
+
+    final List<Entry> entries = new ArrayList<>(entriesByTimerKey.values());
+    entries.forEach(this::place);
+  }
+
+  private static long tickOf(final long timestamp) {
+    return Math.floorDiv(timestamp, TICK_MILLIS);
+  }
+
+  /** The due dates of the timers to load into the wheel, from inclusive to exclusive. */
+  record LoadRange(long from, long to) {}
+
+  /** A timer in the wheel. */
+  static final class Entry {
+    final long dueDate;
+    final long elementInstanceKey;
+    final long timerKey;
+
+    private Slot slot;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(final long dueDate, final long elementInstanceKey, final long timerKey) {
+      this.dueDate = dueDate;
+      this.elementInstanceKey = elementInstanceKey;
+      this.timerKey = timerKey;
+    }
+  }
+
+  /** A doubly linked list of timers, such that a timer can be removed in constant time. */
+  private static final class Slot {
+    private Entry head;
+
+    private void add(final Entry entry) {
+      entry.slot = this;
+      entry.previous = null;
+      entry.next = head;
+      if (head != null) {
+        head.previous = entry;
+      }
+      head = entry;
+    }
+
+    private void remove(final Entry entry) {
+      if (entry.previous != null) {
+        entry.previous.next = entry.next;
+      } else {
+        head = entry.next;
+      }
+      if (entry.next != null) {
+        entry.next.previous = entry.previous;
+      }
+      entry.slot = null;
+      entry.previous = null;
+      entry.next = null;
+    }
+
+    private long earliestDueDate() {
+      long earliest = head.dueDate;
+      for (var entry = head.next; entry != null; entry = entry.next) {
+        earliest = Math.min(earliest, entry.dueDate);
+      }
+      return earliest;
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.processing.job;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.MockTypedRecord;
@@ -58,7 +59,8 @@ final class JobBatchCollectorTest {
   @BeforeEach
   void beforeEach() {
     collector =
-        new JobBatchCollector(state.getJobState(), state.getVariableState(), lengthEvaluator);
+        new JobBatchCollector(
+            state.getJobState(), state.getVariableState(), lengthEvaluator, new JobMetrics(1));
   }
 
   @Test
@@ -131,6 +133,89 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldCollectVariablesOfSharedParentScope() {
+    // given
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("shared", "parent", "foo", "parent"));
+    createJobWithVariables(firstScopeKey, Map.of("foo", "first"));
+    createJobWithVariables(secondScopeKey, Map.of("bar", "second"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("shared", "parent", "foo", "first"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("shared", "parent", "foo", "parent", "bar", "second"));
+            });
+  }
+
+  @Test
+  void shouldFetchOnlyRequestedVariablesOfSharedParentScope() {
+    // given
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("shared", "parent", "foo", "parent"));
+    createJobWithVariables(firstScopeKey, Map.of("foo", "first"));
+    createJobWithVariables(secondScopeKey, Map.of("bar", "second"));
+    record.getValue().variables().add().wrap(BufferUtil.wrapString("foo"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("foo", "first"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("foo", "parent"));
+            });
+  }
+
+  @Test
+  void shouldNotReuseVariablesOfPreviousBatch() {
+    // given
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(scopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "bar"));
+    final Job job = createJob(scopeKey);
+    collector.collectJobs(createRecord());
+
+    // when
+    setVariables(parentScopeKey, Map.of("foo", "baz"));
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    collector.collectJobs(record);
+
+    // then
+    JobBatchRecordValueAssert.assertThat(record.getValue())
+        .hasOnlyJobKeys(job.key)
+        .satisfies(
+            batch ->
+                RecordValueWithVariablesAssert.assertThat(batch.getJobs().getFirst())
+                    .hasVariables(Map.of("foo", "baz")));
+  }
+
   @Test
   void shouldAppendJobKeyToBatchRecord() {
     // given - multiple jobs to ensure variables are collected based on the scope
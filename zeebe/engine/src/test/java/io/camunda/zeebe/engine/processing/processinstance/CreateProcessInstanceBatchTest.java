@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CreateProcessInstanceBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldCreateProcessInstances() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // when
+    final var processInstanceKeys =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withBatchInstance(Map.of())
+            .withBatchInstance(Map.of())
+            .withBatchInstance(Map.of())
+            .createBatch();
+
+    // then
+    assertThat(processInstanceKeys).hasSize(3).doesNotHaveDuplicates();
+    assertThat(
+            RecordingExporter.processInstanceRecords()
+                .withBpmnProcessId(processId)
+                .withElementType(BpmnElementType.PROCESS)
+                .withIntent(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .limit(3))
+        .extracting(Record::getKey)
+        .containsExactlyInAnyOrderElementsOf(processInstanceKeys);
+  }
+
+  @Test
+  public void shouldCreateProcessInstancesWithVariables() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // when
+    final var processInstanceKeys =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(processId)
+            .withBatchInstance(Map.of("x", 1))
+            .withBatchInstance(Map.of("x", 2))
+            .createBatch();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withProcessInstanceKey(processInstanceKeys.get(0))
+                .getFirst()
+                .getValue())
+        .extracting(v -> tuple(v.getName(), v.getValue()))
+        .isEqualTo(tuple("x", "1"));
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withProcessInstanceKey(processInstanceKeys.get(1))
+                .getFirst()
+                .getValue())
+        .extracting(v -> tuple(v.getName(), v.getValue()))
+        .isEqualTo(tuple("x", "2"));
+  }
+
+  @Test
+  public void shouldRejectBatchWithoutInstances() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // when
+    ENGINE.processInstance().ofBpmnProcessId(processId).expectRejection().createBatch();
+
+    // then
+    final var rejection =
+        RecordingExporter.processInstanceCreationRecords()
+            .onlyCommandRejections()
+            .withIntent(ProcessInstanceCreationIntent.CREATE_BATCH)
+            .withBpmnProcessId(processId)
+            .getFirst();
+
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason(
+            "Expected to create a batch of process instances, but no instances were given");
+  }
+
+  @Test
+  public void shouldRejectBatchOfUnknownProcess() {
+    // given
+    final var processId = helper.getBpmnProcessId();
+
+    // when
+    ENGINE
+        .processInstance()
+        .ofBpmnProcessId(processId)
+        .withBatchInstance(Map.of())
+        .expectRejection()
+        .createBatch();
+
+    // then
+    final var rejection =
+        RecordingExporter.processInstanceCreationRecords()
+            .onlyCommandRejections()
+            .withIntent(ProcessInstanceCreationIntent.CREATE_BATCH)
+            .withBpmnProcessId(processId)
+            .getFirst();
+
+    Assertions.assertThat(rejection).hasRejectionType(RejectionType.NOT_FOUND);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class ExecutableProcessCacheTest {
+
+  private final ExecutableProcessCache cache = new ExecutableProcessCache(1024);
+
+  @Test
+  void shouldTransformProcessOnlyOnce() {
+    // given
+    final var transformations = new AtomicInteger();
+    final var process = new ExecutableProcess("process");
+    cache.get(
+        1L,
+        100,
+        () -> {
+          transformations.incrementAndGet();
+          return process;
+        });
+
+    // when
+    final var cachedProcess =
+        cache.get(
+            1L,
+            100,
+            () -> {
+              transformations.incrementAndGet();
+              return new ExecutableProcess("process");
+            });
+
+    // then
+    assertThat(cachedProcess).isSameAs(process);
+    assertThat(transformations).hasValue(1);
+  }
+
+  @Test
+  void shouldCacheProcessesByKey() {
+    // given
+    final var process = new ExecutableProcess("process");
+    final var otherProcess = new ExecutableProcess("other");
+
+    // when
+    cache.get(1L, 100, () -> process);
+    cache.get(2L, 100, () -> otherProcess);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(1L, 100, ExecutableProcessCacheTest::failTransformation))
+        .isSameAs(process);
+    assertThat(cache.get(2L, 100, ExecutableProcessCacheTest::failTransformation))
+        .isSameAs(otherProcess);
+  }
+
+  @Test
+  void shouldRethrowTransformationFailure() {
+    // when - then
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    1L,
+                    100,
+                    () -> {
+                      throw new NoSuchElementException("expected");
+                    }))
+        .isInstanceOf(NoSuchElementException.class)
+        .hasMessage("expected");
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldTransformProcessAgainAfterInvalidation() {
+    // given
+    cache.get(1L, 100, () -> new ExecutableProcess("process"));
+
+    // when
+    cache.invalidate(1L);
+
+    // then
+    final var process = new ExecutableProcess("process");
+    assertThat(cache.get(1L, 100, () -> process)).isSameAs(process);
+  }
+
+  @Test
+  void shouldEvictProcessesWhenExceedingMaxSize() {
+    // when
+    for (int key = 0; key < 100; key++) {
+      cache.get(key, 64, () -> new ExecutableProcess("process"));
+    }
+
+    // then
+    assertThat(cache.size()).isPositive().isLessThanOrEqualTo(1024 / 64);
+  }
+
+  private static ExecutableProcess failTransformation() {
+    throw new AssertionError("expected the process to be cached");
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.deployment;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
@@ -24,6 +25,7 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.test.util.Strings;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.InstantSource;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
@@ -1041,6 +1043,75 @@ public final class ProcessStateTest {
     assertThat(processState.getNextProcessVersion(processId, TENANT_ID)).isEqualTo(3);
   }
 
+  @Test
+  public void shouldShareTransformedProcessWithOtherPartitions() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    final var executableProcessCache = new ExecutableProcessCache(1024 * 1024);
+    final var partitionProcessState = createProcessState(executableProcessCache, 0);
+    final var otherPartitionProcessState = createProcessState(executableProcessCache, 0);
+
+    // when
+    final var deployedProcess =
+        partitionProcessState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    final var otherDeployedProcess =
+        otherPartitionProcessState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(otherDeployedProcess).isNotSameAs(deployedProcess);
+    assertThat(otherDeployedProcess.getProcess()).isSameAs(deployedProcess.getProcess());
+    assertThat(executableProcessCache.size()).isOne();
+  }
+
+  @Test
+  public void shouldRemoveDeletedProcessFromSharedCache() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    final var executableProcessCache = new ExecutableProcessCache(1024 * 1024);
+    final var partitionProcessState = createProcessState(executableProcessCache, 0);
+    partitionProcessState.putProcess(processRecord.getKey(), processRecord);
+    partitionProcessState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // when
+    partitionProcessState.deleteProcess(processRecord);
+
+    // then
+    assertThat(executableProcessCache.size()).isZero();
+  }
+
+  @Test
+  public void shouldWarmUpCacheWithLatestProcessVersions() {
+    // given
+    final var firstProcess = creatingProcessRecord(processingState, "process-a", 1);
+    final var secondProcess = creatingProcessRecord(processingState, "process-b", 1);
+    final var thirdProcess = creatingProcessRecord(processingState, "process-c", 1);
+    processState.putProcess(firstProcess.getKey(), firstProcess);
+    processState.putProcess(secondProcess.getKey(), secondProcess);
+    processState.putProcess(thirdProcess.getKey(), thirdProcess);
+
+    final var executableProcessCache = new ExecutableProcessCache(1024 * 1024);
+    final var partitionProcessState = createProcessState(executableProcessCache, 2);
+
+    // when
+    partitionProcessState.onRecovered(null);
+
+    // then
+    assertThat(executableProcessCache.size()).isEqualTo(2);
+  }
+
+  private DbProcessState createProcessState(
+      final ExecutableProcessCache executableProcessCache, final int warmUpCount) {
+    return new DbProcessState(
+        stateRule.getDb(),
+        stateRule.getTransactionContext(),
+        new EngineConfiguration()
+            .setExecutableProcessCache(executableProcessCache)
+            .setProcessCacheWarmUpCount(warmUpCount),
+        InstantSource.system());
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(
       final MutableProcessingState processingState) {
     return creatingDeploymentRecord(processingState, "processId");
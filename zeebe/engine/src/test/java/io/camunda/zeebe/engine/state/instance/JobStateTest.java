@@ -641,6 +641,129 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsOfMultipleTenantsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord("tenant-a").setType(type));
+    jobState.create(2L, newJobRecord("tenant-b").setType(type));
+    jobState.create(3L, newJobRecord("tenant-c").setType(type));
+    jobState.create(4L, newJobRecord("tenant-a").setType(type));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, "tenant-b", "tenant-a", "tenant-b");
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 4L);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsOfMultipleTenants() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord("tenant-a").setType(type));
+    jobState.create(2L, newJobRecord("tenant-b").setType(type));
+    jobState.create(3L, newJobRecord("tenant-a").setType(type));
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of("tenant-a", "tenant-b"),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 2;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsInOrderAfterTimeout() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord().setType(type));
+    jobState.create(2L, newJobRecord().setType(type));
+    jobState.create(3L, newJobRecord().setType(type));
+    jobState.create(4L, newJobRecord().setType(type));
+    jobState.activate(1L, newJobRecord().setType(type));
+    jobState.activate(3L, newJobRecord().setType(type));
+
+    // when
+    jobState.timeout(3L, newJobRecord().setType(type));
+    jobState.timeout(1L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldUndoActivatableJobChangesOnRollback() throws Exception {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord().setType(type));
+    jobState.create(2L, newJobRecord().setType(type));
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          jobState.activate(1L, newJobRecord().setType(type));
+          jobState.create(3L, newJobRecord().setType(type));
+          assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+              .containsExactly(2L, 3L);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldKeepActivatableJobChangesOnCommit() throws Exception {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord().setType(type));
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          jobState.activate(1L, newJobRecord().setType(type));
+          jobState.create(2L, newJobRecord().setType(type));
+        });
+    transaction.commit();
+    stateRule.getTransactionContext().getCurrentTransaction().rollback();
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsAfterRecovery() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord().setType(type));
+    createAndActivateJobRecord(2L, newJobRecord().setType(type));
+    jobState.create(3L, newJobRecord("tenant-a").setType(type));
+    jobState.create(4L, newJobRecord().setType("other"));
+
+    // when
+    final JobState recoveredState =
+        new DbJobState(stateRule.getDb(), stateRule.getTransactionContext());
+
+    // then
+    final List<Long> jobKeys = new ArrayList<>();
+    recoveredState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER, "tenant-a"),
+        (key, job) -> jobKeys.add(key));
+    assertThat(jobKeys).containsExactly(1L, 3L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
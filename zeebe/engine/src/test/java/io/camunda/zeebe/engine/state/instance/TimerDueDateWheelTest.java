@@ -0,0 +1,213 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel.Entry;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel.LoadRange;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class TimerDueDateWheelTest {
+
+  private static final long START = Duration.ofDays(1).toMillis();
+
+  private final TimerDueDateWheel wheel = new TimerDueDateWheel();
+  private LoadRange initialRange;
+
+  @BeforeEach
+  void setUp() {
+    initialRange = wheel.extendHorizon(START);
+  }
+
+  @Test
+  void shouldLoadEverythingUpToTheHorizonInitially() {
+    // then
+    assertThat(initialRange.from()).isEqualTo(TimerDueDateWheel.UNLOADED);
+    assertThat(initialRange.to())
+        .isGreaterThan(START + Duration.ofMinutes(50).toMillis())
+        .isLessThanOrEqualTo(START + Duration.ofHours(1).toMillis());
+    assertThat(wheel.loadedUntil()).isEqualTo(initialRange.to());
+  }
+
+  @Test
+  void shouldNotExtendHorizonWithinTheSameBlock() {
+    // when
+    final var range = wheel.extendHorizon(START + 1);
+
+    // then
+    assertThat(range).isNull();
+  }
+
+  @Test
+  void shouldExtendHorizonWhenTimeAdvances() {
+    // when
+    final var range = wheel.extendHorizon(initialRange.to());
+
+    // then
+    assertThat(range).isNotNull();
+    assertThat(range.from()).isEqualTo(initialRange.to());
+    assertThat(range.to()).isGreaterThan(initialRange.to());
+  }
+
+  @Test
+  void shouldIgnoreTimersBeyondTheLoadedRange() {
+    // when
+    wheel.add(wheel.loadedUntil(), 1, 1);
+
+    // then
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldCollectDueTimersOfAllLevelsInOrder() {
+    // given
+    final long inFirstLevel = START + 1_500;
+    final long inSecondLevel = START + Duration.ofSeconds(30).toMillis();
+    final long inThirdLevel = START + Duration.ofMinutes(20).toMillis();
+    wheel.add(inThirdLevel, 1, 1);
+    wheel.add(inSecondLevel, 2, 2);
+    wheel.add(inFirstLevel, 3, 3);
+    wheel.add(START - 1, 4, 4);
+
+    // when - then
+    assertThat(collectDueTimerKeys(START)).containsExactly(4L);
+    assertThat(collectDueTimerKeys(inFirstLevel)).containsExactly(4L, 3L);
+    assertThat(collectDueTimerKeys(inSecondLevel)).containsExactly(4L, 3L, 2L);
+    assertThat(collectDueTimerKeys(inThirdLevel - 1)).containsExactly(4L, 3L, 2L);
+    assertThat(collectDueTimerKeys(inThirdLevel)).containsExactly(4L, 3L, 2L, 1L);
+  }
+
+  @Test
+  void shouldReturnNextDueDate() {
+    // given
+    final long dueDate = START + Duration.ofMinutes(20).toMillis();
+    wheel.add(dueDate, 1, 1);
+    wheel.add(dueDate + 1, 2, 2);
+
+    // when
+    final long nextDueDate = wheel.collectDue(START, new ArrayList<>());
+
+    // then
+    assertThat(nextDueDate).isEqualTo(dueDate);
+  }
+
+  @Test
+  void shouldReturnNextDueDateOfHigherLevelIfTimerOfLowerLevelIsDueLater() {
+    // given - placed on the second level, as it's 40 ticks ahead
+    final long earlierDueDate = START + 40 * TimerDueDateWheel.TICK_MILLIS;
+    wheel.add(earlierDueDate, 1, 1);
+    wheel.collectDue(START + 20 * TimerDueDateWheel.TICK_MILLIS, new ArrayList<>());
+
+    // placed on the first level, as it's only 25 ticks ahead now
+    final long laterDueDate = START + 45 * TimerDueDateWheel.TICK_MILLIS;
+    wheel.add(laterDueDate, 2, 2);
+
+    // when
+    final long nextDueDate =
+        wheel.collectDue(START + 20 * TimerDueDateWheel.TICK_MILLIS, new ArrayList<>());
+
+    // then
+    assertThat(nextDueDate).isEqualTo(earlierDueDate);
+    assertThat(collectDueTimerKeys(earlierDueDate)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldReturnNextDueDateWithinTheCurrentTick() {
+    // given
+    wheel.add(START + 1, 1, 1);
+
+    // when
+    final List<Entry> dueTimers = new ArrayList<>();
+    final long nextDueDate = wheel.collectDue(START, dueTimers);
+
+    // then
+    assertThat(dueTimers).isEmpty();
+    assertThat(nextDueDate).isEqualTo(START + 1);
+  }
+
+  @Test
+  void shouldReturnNoNextDueDateIfEmpty() {
+    // when
+    final long nextDueDate = wheel.collectDue(START, new ArrayList<>());
+
+    // then
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  void shouldRemoveTimer() {
+    // given
+    wheel.add(START + 1_000, 1, 1);
+    wheel.add(START + 2_000, 2, 2);
+
+    // when
+    wheel.remove(1);
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(collectDueTimerKeys(START + 2_000)).containsExactly(2L);
+  }
+
+  @Test
+  void shouldNotAddTimerTwice() {
+    // given
+    wheel.add(START + 1_000, 1, 1);
+
+    // when
+    wheel.add(START + 1_000, 1, 1);
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(collectDueTimerKeys(START + 1_000)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldKeepTimersWhenSkippingManyTicks() {
+    // given
+    final long dueDate = START + Duration.ofMinutes(40).toMillis();
+    wheel.add(dueDate, 1, 1);
+    wheel.add(dueDate + 1_000, 2, 2);
+
+    // when
+    final var dueTimerKeys = collectDueTimerKeys(dueDate);
+
+    // then
+    assertThat(dueTimerKeys).containsExactly(1L);
+    assertThat(wheel.collectDue(dueDate, new ArrayList<>())).isEqualTo(dueDate + 1_000);
+  }
+
+  @Test
+  void shouldVisitTimersWhenAdvancingTickByTick() {
+    // given
+    final long dueDate = START + Duration.ofMinutes(5).toMillis();
+    wheel.add(dueDate, 1, 1);
+
+    // when
+    final List<Long> dueTimerKeys = new ArrayList<>();
+    for (long now = START; now <= dueDate && dueTimerKeys.isEmpty(); now += 100) {
+      dueTimerKeys.addAll(collectDueTimerKeys(now));
+      if (dueTimerKeys.isEmpty()) {
+        assertThat(wheel.collectDue(now, new ArrayList<>())).isEqualTo(dueDate);
+      }
+    }
+
+    // then
+    assertThat(dueTimerKeys).containsExactly(1L);
+  }
+
+  private List<Long> collectDueTimerKeys(final long now) {
+    final List<Entry> dueTimers = new ArrayList<>();
+    wheel.collectDue(now, dueTimers);
+    return dueTimers.stream().map(entry -> entry.timerKey).toList();
+  }
+}
@@ -14,6 +14,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.Assertions;
@@ -170,6 +171,38 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldReturnNextDueDateBeyondTheHorizonOfTheWheel() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    final var distantTimer = createTimerInstance(2, 2, Duration.ofDays(1).toMillis());
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(distantTimer.getDueDate());
+  }
+
+  @Test
+  public void shouldFindTimersStoredOrRemovedAfterTheWheelWasFilled() {
+    // given
+    final var removedTimer = createTimerInstance(1, 1, 1000L);
+    state.processTimersWithDueDateBefore(500L, t -> true);
+
+    // when
+    createTimerInstance(2, 2, 1500L);
+    state.remove(removedTimer);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(2L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
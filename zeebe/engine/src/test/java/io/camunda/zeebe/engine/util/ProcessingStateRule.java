@@ -7,10 +7,12 @@
  */
 package io.camunda.zeebe.engine.util;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.Protocol;
@@ -25,6 +27,7 @@ public final class ProcessingStateRule extends ExternalResource {
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
   private ZeebeDb<ZbColumnFamilies> db;
+  private TransactionContext context;
   private MutableProcessingState processingState;
 
   public ProcessingStateRule() {
@@ -40,7 +43,7 @@ public final class ProcessingStateRule extends ExternalResource {
     tempFolder.create();
     db = createNewDb();
 
-    final var context = db.createContext();
+    context = db.createContext();
     final var keyGenerator = new DbKeyGenerator(partition, db, context);
     processingState =
         new ProcessingDbState(
@@ -50,6 +53,7 @@ public final class ProcessingStateRule extends ExternalResource {
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
+            new TimerDueDateWheel(),
             new EngineConfiguration(),
             InstantSource.system());
   }
@@ -68,6 +72,14 @@ public final class ProcessingStateRule extends ExternalResource {
     return processingState;
   }
 
+  public ZeebeDb<ZbColumnFamilies> getDb() {
+    return db;
+  }
+
+  public TransactionContext getTransactionContext() {
+    return context;
+  }
+
   public ZeebeDb<ZbColumnFamilies> createNewDb() {
     try {
 
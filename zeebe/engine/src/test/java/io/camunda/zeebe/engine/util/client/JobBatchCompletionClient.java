@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.util.client;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class JobBatchCompletionClient {
+
+  private static final Function<Long, Record<JobBatchRecordValue>> SUCCESS_EXPECTATION_SUPPLIER =
+      position ->
+          RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED)
+              .withSourceRecordPosition(position)
+              .getFirst();
+
+  private static final Function<Long, Record<JobBatchRecordValue>> REJECTION_EXPECTATION_SUPPLIER =
+      position ->
+          RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETE)
+              .onlyCommandRejections()
+              .withSourceRecordPosition(position)
+              .getFirst();
+
+  private final CommandWriter writer;
+  private final JobBatchRecord jobBatchRecord = new JobBatchRecord().setType("");
+
+  private Function<Long, Record<JobBatchRecordValue>> expectation = SUCCESS_EXPECTATION_SUPPLIER;
+
+  public JobBatchCompletionClient(final CommandWriter writer) {
+    this.writer = writer;
+  }
+
+  public JobBatchCompletionClient withJob(final long jobKey) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord.jobs().add();
+    return this;
+  }
+
+  public JobBatchCompletionClient withJob(final long jobKey, final Map<String, Object> variables) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord.jobs().add().setVariables(MsgPackUtil.asMsgPack(variables));
+    return this;
+  }
+
+  public JobBatchCompletionClient expectRejection() {
+    expectation = REJECTION_EXPECTATION_SUPPLIER;
+    return this;
+  }
+
+  public Record<JobBatchRecordValue> complete() {
+    final long position = writer.writeCommand(JobBatchIntent.COMPLETE, jobBatchRecord);
+    return expectation.apply(position);
+  }
+}
@@ -81,6 +81,7 @@ public final class ProcessInstanceClient {
 
     private Function<Long, Record<ProcessInstanceCreationRecordValue>> expectation =
         SUCCESS_EXPECTATION;
+    private int batchInstancesCount;
 
     public ProcessInstanceCreationClient(final CommandWriter writer, final String bpmnProcessId) {
       this.writer = writer;
@@ -119,6 +120,15 @@ public final class ProcessInstanceClient {
       return this;
     }
 
+    public ProcessInstanceCreationClient withBatchInstance(final Map<String, Object> variables) {
+      processInstanceCreationRecord
+          .batchInstances()
+          .add()
+          .setVariables(MsgPackUtil.asMsgPack(variables));
+      batchInstancesCount++;
+      return this;
+    }
+
     public ProcessInstanceCreationWithResultClient withResult() {
       return new ProcessInstanceCreationWithResultClient(writer, processInstanceCreationRecord);
     }
@@ -131,6 +141,34 @@ public final class ProcessInstanceClient {
       return resultingRecord.getValue().getProcessInstanceKey();
     }
 
+    /**
+     * Creates the process instances of the batch with a single command.
+     *
+     * @return the keys of the created process instances, or an empty list if a rejection is
+     *     expected
+     */
+    public List<Long> createBatch() {
+      final long position =
+          writer.writeCommand(
+              ProcessInstanceCreationIntent.CREATE_BATCH, processInstanceCreationRecord);
+
+      if (expectation == REJECTION_EXPECTATION) {
+        RecordingExporter.processInstanceCreationRecords()
+            .onlyCommandRejections()
+            .withIntent(ProcessInstanceCreationIntent.CREATE_BATCH)
+            .withSourceRecordPosition(position)
+            .await();
+        return List.of();
+      }
+
+      return RecordingExporter.processInstanceCreationRecords()
+          .withIntent(ProcessInstanceCreationIntent.CREATED)
+          .withSourceRecordPosition(position)
+          .limit(batchInstancesCount)
+          .map(record -> record.getValue().getProcessInstanceKey())
+          .toList();
+    }
+
     public ProcessInstanceCreationClient expectRejection() {
       expectation = REJECTION_EXPECTATION;
       return this;
@@ -7,33 +7,45 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import org.apache.http.entity.ContentProducer;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 
 /**
- * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * Buffers indexing requests of records. Each bulk operation is serialized as nd-json straight into
+ * a single growable buffer when it is indexed, so it doesn't have to be serialized again on retry,
+ * and the buffer can be sent as is. The buffer is reused across bulks; it only grows, which is
+ * bounded by the bulk memory limit, after which the bulk is flushed.
  */
-final class BulkIndexRequest implements ContentProducer {
+final class BulkIndexRequest {
 
   private static final ObjectMapper MAPPER =
       new ObjectMapper()
           .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
+          .enable(Feature.ALLOW_SINGLE_QUOTES)
+          // the buffer is written to by multiple values, so it must not be closed after each
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  private static final ObjectWriter METADATA_WRITER = MAPPER.writerFor(BulkIndexAction.class);
+  private static final ContentType ND_JSON = ContentType.create("application/x-ndjson");
+  private static final int INITIAL_CAPACITY = 64 * 1024;
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final NdJsonBuffer buffer = new NdJsonBuffer(INITIAL_CAPACITY);
+  private final List<IndexedOperation> operations = new ArrayList<>();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -56,31 +68,37 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.size();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      METADATA_WRITER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.size();
+      serializeRecord(record, recordSequence);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop whatever was written of the failed operation, keeping the previous ones intact
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final int sourceLength = buffer.size() - 1 - sourceOffset;
+    memoryUsageBytes += sourceLength;
     lastIndexedMetadata = action;
-    operations.add(command);
+    operations.add(new IndexedOperation(action, sourceOffset, sourceLength));
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private void serializeRecord(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
+    MAPPER
         .writer()
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Elasticsearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/camunda/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(buffer, record);
   }
 
   /** Returns the number of operations indexed so far. */
@@ -98,9 +116,10 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely. Its capacity is kept to be reused by the next bulk. */
   void clear() {
     operations.clear();
+    buffer.truncate(0);
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -110,27 +129,89 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /**
+   * Returns a copy of the currently indexed operations. As this copies every source out of the
+   * buffer, it is meant for inspection only.
+   */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return operations.stream()
+        .map(
+            operation ->
+                new BulkOperation(
+                    operation.metadata(),
+                    Arrays.copyOfRange(
+                        buffer.array(),
+                        operation.sourceOffset(),
+                        operation.sourceOffset() + operation.sourceLength())))
+        .toList();
+  }
+
+  /**
+   * Returns an entity backed directly by the buffered nd-json, without copying it. The entity is
+   * only valid until the request is modified again, e.g. by {@link #index} or {@link #clear()}.
+   */
+  HttpEntity toHttpEntity() {
+    return new ByteArrayEntity(buffer.array(), 0, buffer.size(), ND_JSON);
   }
 
   /**
    * Writes the JSON serialized entries, separated by a line ending for each, effectively writing
    * nd-json.
    */
-  @Override
-  public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+  void writeTo(final OutputStream outStream) throws IOException {
+    outStream.write(buffer.array(), 0, buffer.size());
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
+  private record IndexedOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
+
+  /**
+   * A growable byte buffer which, unlike {@link java.io.ByteArrayOutputStream}, gives access to its
+   * backing array and can be truncated, so that it can be written to the client and reused without
+   * copying.
+   */
+  private static final class NdJsonBuffer extends OutputStream {
+
+    private byte[] array;
+    private int size;
+
+    private NdJsonBuffer(final int initialCapacity) {
+      array = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(final int b) {
+      ensureCapacity(size + 1);
+      array[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      ensureCapacity(size + length);
+      System.arraycopy(bytes, offset, array, size, length);
+      size += length;
+    }
+
+    private byte[] array() {
+      return array;
+    }
+
+    private int size() {
+      return size;
+    }
+
+    private void truncate(final int size) {
+      this.size = size;
+    }
+
+    private void ensureCapacity(final int capacity) {
+      if (capacity > array.length) {
+        array = Arrays.copyOf(array, Math.max(capacity, array.length << 1));
+      }
+    }
+  }
+
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static final class RecordSequenceMixin {}
 }
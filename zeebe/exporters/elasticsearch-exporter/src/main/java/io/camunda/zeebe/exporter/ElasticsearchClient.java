@@ -32,7 +32,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RestClient;
 
@@ -173,9 +172,7 @@ class ElasticsearchClient implements AutoCloseable {
     final BulkIndexResponse response;
     try {
       final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
+      request.setEntity(bulkIndexRequest.toHttpEntity());
 
       response = sendRequest(request, BulkIndexResponse.class);
     } catch (final IOException e) {
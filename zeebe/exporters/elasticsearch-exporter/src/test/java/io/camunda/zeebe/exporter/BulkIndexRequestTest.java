@@ -197,6 +197,51 @@ final class BulkIndexRequestTest {
               Tuple.tuple(actions.get(1), records.get(1)));
     }
 
+    @Test
+    void shouldCreateEntityFromBufferedOperations() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      request.index(
+          new BulkIndexAction("index", "id", "routing"),
+          records.get(0),
+          new RecordSequence(PARTITION_ID, 1));
+      request.index(
+          new BulkIndexAction("index2", "id2", "routing2"),
+          records.get(1),
+          new RecordSequence(PARTITION_ID, 2));
+
+      // when
+      final var entity = request.toHttpEntity();
+
+      // then
+      final byte[] expected;
+      try (final var output = new ByteArrayOutputStream()) {
+        request.writeTo(output);
+        expected = output.toByteArray();
+      }
+      assertThat(entity.getContentType().getValue()).startsWith("application/x-ndjson");
+      assertThat(entity.getContentLength()).isEqualTo(expected.length);
+      assertThat(entity.getContent().readAllBytes()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldReuseBufferAfterClear() {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      final var action = new BulkIndexAction("index", "id", "routing");
+      request.index(action, records.get(0), new RecordSequence(PARTITION_ID, 1));
+      request.clear();
+
+      // when
+      request.index(action, records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      assertThat(request.bulkOperations())
+          .hasSize(1)
+          .map(BulkOperation::metadata, this::deserializeSource)
+          .containsExactly(Tuple.tuple(action, records.get(1)));
+    }
+
     @Test
     void shouldIndexRecordWithSequence() {
       // given
@@ -18,6 +18,8 @@ import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
@@ -33,10 +35,15 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
@@ -68,6 +75,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
@@ -75,8 +83,13 @@ import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -216,6 +229,55 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  /**
+   * Completes the jobs with a command per partition. The commands are sent concurrently, and the
+   * response contains the result of every job, even if the command of a partition failed.
+   */
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final Collection<BrokerCompleteJobsRequest> brokerRequests;
+    try {
+      brokerRequests = RequestMapper.toCompleteJobsRequests(request);
+      for (final BrokerCompleteJobsRequest brokerRequest : brokerRequests) {
+        mapToBrokerRequest(brokerRequest, completeJobsRequest -> completeJobsRequest);
+      }
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    final Set<Long> completedJobKeys = ConcurrentHashMap.newKeySet();
+    final Map<Integer, String> failedPartitions = new ConcurrentHashMap<>();
+    final CompletableFuture<?>[] responses =
+        brokerRequests.stream()
+            .map(
+                brokerRequest ->
+                    brokerClient
+                        .sendRequestWithRetry(brokerRequest)
+                        .whenComplete(
+                            (response, error) -> {
+                              if (error == null) {
+                                final JobBatchRecord completedBatch = response.getResponse();
+                                completedJobKeys.addAll(completedBatch.getJobKeys());
+                              } else {
+                                failedPartitions.put(
+                                    brokerRequest.getPartitionId(), getErrorMessage(error));
+                              }
+                            }))
+            .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(responses)
+        .handle(
+            (ok, error) -> {
+              responseObserver.onNext(
+                  ResponseMapper.toCompleteJobsResponse(
+                      request, completedJobKeys, failedPartitions));
+              responseObserver.onCompleted();
+              return null;
+            });
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -245,6 +307,40 @@ public final class EndpointManager {
     }
   }
 
+  /**
+   * Creates the process instances in chunks, which are spread over the partitions like single
+   * process instance creations. The chunks are sent concurrently, and the response contains the
+   * result of every process instance, even if the command of a chunk failed.
+   */
+  public void createProcessInstances(
+      final CreateProcessInstancesRequest request,
+      final ServerStreamObserver<CreateProcessInstancesResponse> responseObserver) {
+    final List<BrokerCreateProcessInstanceBatchRequest> brokerRequests;
+    try {
+      brokerRequests =
+          RequestMapper.toCreateProcessInstanceBatchRequests(request, getPartitionsCount());
+      for (final BrokerCreateProcessInstanceBatchRequest brokerRequest : brokerRequests) {
+        mapToBrokerRequest(brokerRequest, batchRequest -> batchRequest);
+      }
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    final List<CompletableFuture<List<CreateProcessInstanceResult>>> chunkResults =
+        brokerRequests.stream().map(this::createProcessInstanceBatch).toList();
+
+    CompletableFuture.allOf(chunkResults.toArray(CompletableFuture[]::new))
+        .thenRun(
+            () -> {
+              final CreateProcessInstancesResponse.Builder response =
+                  CreateProcessInstancesResponse.newBuilder();
+              chunkResults.forEach(results -> response.addAllResults(results.join()));
+              responseObserver.onNext(response.build());
+              responseObserver.onCompleted();
+            });
+  }
+
   public void evaluateDecision(
       final EvaluateDecisionRequest request,
       final ServerStreamObserver<EvaluateDecisionResponse> responseObserver) {
@@ -507,6 +603,31 @@ public final class EndpointManager {
     return brokerRequest;
   }
 
+  private CompletableFuture<List<CreateProcessInstanceResult>> createProcessInstanceBatch(
+      final BrokerCreateProcessInstanceBatchRequest brokerRequest) {
+    final CompletableFuture<List<CreateProcessInstanceResult>> results = new CompletableFuture<>();
+    requestRetryHandler.sendRequest(
+        brokerRequest,
+        (key, response) ->
+            results.complete(ResponseMapper.toCreateProcessInstanceResults(response)),
+        error ->
+            results.complete(
+                ResponseMapper.toCreateProcessInstanceResults(
+                    getErrorMessage(error), brokerRequest.getInstancesCount())));
+    return results;
+  }
+
+  private int getPartitionsCount() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    return topology != null ? topology.getPartitionsCount() : 1;
+  }
+
+  private static String getErrorMessage(final Throwable error) {
+    final Throwable cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    return cause.getMessage();
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
@@ -15,6 +15,8 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerBroadcastSignalRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeleteResourceRequest;
@@ -34,8 +36,10 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployResourceRequest;
@@ -53,11 +57,16 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.grpc.Context;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 import org.agrona.DirectBuffer;
 import org.apache.commons.lang3.StringUtils;
@@ -65,6 +74,9 @@ import org.apache.commons.lang3.StringUtils;
 public final class RequestMapper extends RequestUtil {
 
   private static final Pattern TENANT_ID_MASK = Pattern.compile("^[\\w\\.-]{1,31}$");
+  // bounds the latency of a single command; instances which don't fit into the record batch of a
+  // command are rejected by the broker anyway
+  static final int MAX_PROCESS_INSTANCES_PER_COMMAND = 100;
   private static boolean isMultiTenancyEnabled = false;
 
   /**
@@ -158,6 +170,27 @@ public final class RequestMapper extends RequestUtil {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  /**
+   * Groups the jobs to complete by their partition, such that the jobs of a partition are completed
+   * with a single command.
+   */
+  public static Collection<BrokerCompleteJobsRequest> toCompleteJobsRequests(
+      final CompleteJobsRequest grpcRequest) {
+    if (grpcRequest.getJobsCount() == 0) {
+      throw new IllegalArgumentException(
+          "Expected to complete a batch of jobs, but no jobs were given");
+    }
+
+    final Map<Integer, BrokerCompleteJobsRequest> requestsByPartition = new TreeMap<>();
+    for (final CompleteJobRequest job : grpcRequest.getJobsList()) {
+      requestsByPartition
+          .computeIfAbsent(
+              Protocol.decodePartitionId(job.getJobKey()), BrokerCompleteJobsRequest::new)
+          .addJob(job.getJobKey(), ensureJsonSet(job.getVariables()));
+    }
+    return requestsByPartition.values();
+  }
+
   public static BrokerCreateProcessInstanceRequest toCreateProcessInstanceRequest(
       final CreateProcessInstanceRequest grpcRequest) {
     final var brokerRequest = new BrokerCreateProcessInstanceRequest();
@@ -177,6 +210,42 @@ public final class RequestMapper extends RequestUtil {
     return brokerRequest;
   }
 
+  /**
+   * Splits the process instances to create into chunks of consecutive instances, such that the
+   * chunks can be spread over the given number of partitions. Each chunk is created with a single
+   * command, which holds at most {@link #MAX_PROCESS_INSTANCES_PER_COMMAND} instances.
+   */
+  public static List<BrokerCreateProcessInstanceBatchRequest> toCreateProcessInstanceBatchRequests(
+      final CreateProcessInstancesRequest grpcRequest, final int partitionsCount) {
+    final int instancesCount = grpcRequest.getVariablesCount();
+    if (instancesCount == 0) {
+      throw new IllegalArgumentException(
+          "Expected to create a batch of process instances, but no variables were given");
+    }
+    final String tenantId = ensureTenantIdSet("CreateProcessInstances", grpcRequest.getTenantId());
+
+    final int chunkSize =
+        Math.min(
+            MAX_PROCESS_INSTANCES_PER_COMMAND,
+            (instancesCount + partitionsCount - 1) / Math.max(1, partitionsCount));
+    final List<BrokerCreateProcessInstanceBatchRequest> brokerRequests = new ArrayList<>();
+    BrokerCreateProcessInstanceBatchRequest brokerRequest = null;
+    for (int i = 0; i < instancesCount; i++) {
+      if (i % chunkSize == 0) {
+        brokerRequest =
+            new BrokerCreateProcessInstanceBatchRequest()
+                .setBpmnProcessId(grpcRequest.getBpmnProcessId())
+                .setKey(grpcRequest.getProcessDefinitionKey())
+                .setVersion(grpcRequest.getVersion())
+                .setTenantId(tenantId)
+                .setStartInstructions(grpcRequest.getStartInstructionsList());
+        brokerRequests.add(brokerRequest);
+      }
+      brokerRequest.addInstance(ensureJsonSet(grpcRequest.getVariables(i)));
+    }
+    return brokerRequests;
+  }
+
   public static BrokerCreateProcessInstanceWithResultRequest
       toCreateProcessInstanceWithResultRequest(
           final CreateProcessInstanceWithResultRequest grpcRequest) {
@@ -17,8 +17,13 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionRequirementsMetadata;
@@ -42,12 +47,14 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
 import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchInstance;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationRecord;
@@ -58,12 +65,18 @@ import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final String JOB_NOT_COMPLETED_MESSAGE =
+      "Expected to complete job with key '%d', but it was not found, is not activated, or didn't fit into the batch of completed jobs";
+
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployProcessResponse.Builder responseBuilder =
@@ -175,6 +188,37 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  /**
+   * Returns the result of every job of the request, in the order of the request. A job is completed
+   * if its key is contained in the completed job keys. Otherwise, it failed with the error of its
+   * partition, or it couldn't be completed on its own.
+   */
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final CompleteJobsRequest request,
+      final Set<Long> completedJobKeys,
+      final Map<Integer, String> failedPartitions) {
+    final CompleteJobsResponse.Builder responseBuilder = CompleteJobsResponse.newBuilder();
+    for (final CompleteJobRequest job : request.getJobsList()) {
+      final long jobKey = job.getJobKey();
+      final CompleteJobResult.Builder resultBuilder =
+          CompleteJobResult.newBuilder().setJobKey(jobKey);
+
+      if (completedJobKeys.contains(jobKey)) {
+        resultBuilder.setCompleted(true);
+      } else {
+        final String partitionError = failedPartitions.get(Protocol.decodePartitionId(jobKey));
+        resultBuilder
+            .setCompleted(false)
+            .setErrorMessage(
+                partitionError != null
+                    ? partitionError
+                    : String.format(JOB_NOT_COMPLETED_MESSAGE, jobKey));
+      }
+      responseBuilder.addResults(resultBuilder);
+    }
+    return responseBuilder.build();
+  }
+
   public static CreateProcessInstanceResponse toCreateProcessInstanceResponse(
       final long key, final ProcessInstanceCreationRecord brokerResponse) {
     return CreateProcessInstanceResponse.newBuilder()
@@ -186,6 +230,36 @@ public final class ResponseMapper {
         .build();
   }
 
+  /** Returns the result of each process instance of a batch, in the order of the batch. */
+  public static List<CreateProcessInstanceResult> toCreateProcessInstanceResults(
+      final ProcessInstanceCreationRecord brokerResponse) {
+    final List<CreateProcessInstanceResult> results = new ArrayList<>();
+    for (final ProcessInstanceCreationBatchInstance instance : brokerResponse.batchInstances()) {
+      final long processInstanceKey = instance.getProcessInstanceKey();
+      results.add(
+          CreateProcessInstanceResult.newBuilder()
+              .setCreated(processInstanceKey >= 0)
+              .setProcessInstanceKey(processInstanceKey)
+              .setProcessDefinitionKey(brokerResponse.getProcessDefinitionKey())
+              .setErrorMessage(instance.getRejectionReason())
+              .build());
+    }
+    return results;
+  }
+
+  /** Returns the results of a batch of process instances which failed as a whole. */
+  public static List<CreateProcessInstanceResult> toCreateProcessInstanceResults(
+      final String errorMessage, final int instancesCount) {
+    final CreateProcessInstanceResult result =
+        CreateProcessInstanceResult.newBuilder()
+            .setCreated(false)
+            .setProcessInstanceKey(-1)
+            .setProcessDefinitionKey(-1)
+            .setErrorMessage(errorMessage)
+            .build();
+    return Collections.nCopies(instancesCount, result);
+  }
+
   public static CreateProcessInstanceWithResultResponse toCreateProcessInstanceWithResultResponse(
       final long key, final ProcessInstanceResultRecord brokerResponse) {
     return CreateProcessInstanceWithResultResponse.newBuilder()
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public final class JobStreamCfg {
+
+  private int creditsPerStream = ConfigurationDefaults.DEFAULT_JOB_STREAM_CREDITS_PER_STREAM;
+
+  /**
+   * @return the number of jobs each broker may push to a job stream of a client before the client
+   *     acknowledged them, e.g. the number of jobs a job worker handles concurrently
+   */
+  public int getCreditsPerStream() {
+    return creditsPerStream;
+  }
+
+  public JobStreamCfg setCreditsPerStream(final int creditsPerStream) {
+    this.creditsPerStream = creditsPerStream;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(creditsPerStream);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobStreamCfg that = (JobStreamCfg) o;
+    return creditsPerStream == that.creditsPerStream;
+  }
+
+  @Override
+  public String toString() {
+    return "JobStreamCfg{" + "creditsPerStream=" + creditsPerStream + '}';
+  }
+}
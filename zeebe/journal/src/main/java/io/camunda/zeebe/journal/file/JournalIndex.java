@@ -31,6 +31,25 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Restores an entry which was indexed before, e.g. when loading a persisted index. Unlike {@link
+   * #index(JournalRecord, int)}, the entry is indexed regardless of the density.
+   *
+   * @param index the index of the record
+   * @param position the position of the record within its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void restore(long index, int position, long asqn);
+
+  /**
+   * Visits the indexed entries with an index between the given bounds, in ascending order.
+   *
+   * @param fromIndex the lowest index to visit (inclusive)
+   * @param toIndex the highest index to visit (inclusive)
+   * @param visitor called for every entry
+   */
+  void forEach(long fromIndex, long toIndex, EntryVisitor visitor);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +108,15 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface EntryVisitor {
+
+    /**
+     * @param index the index of the record
+     * @param position the position of the record within its segment
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     */
+    void visit(long index, int position, long asqn);
+  }
 }
@@ -234,6 +234,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    SegmentIndexFile.delete(file.file().toPath());
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -284,7 +285,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.updateIfCurrentVersion(buffer);
   }
 
+  /**
+   * Persists the index entries of this segment next to it, such that they can be restored instead
+   * of scanning the segment when it is loaded again. Must only be called once the segment is sealed
+   * and its descriptor updated.
+   */
+  void persistIndex() {
+    SegmentIndexFile.write(file.file().toPath(), descriptor, index);
+  }
+
   void resetLastEntryInDescriptor() {
+    // the persisted index may contain truncated entries
+    SegmentIndexFile.delete(file.file().toPath());
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
@@ -0,0 +1,244 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.IoUtil;
+import org.agrona.collections.MutableInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a sealed segment next to the segment file, such that
+ * they can be restored when the journal is opened again, instead of being rebuilt by the readers
+ * seeking into the segment.
+ *
+ * <p>The index file is a cache: it is written without flushing, and any index file which cannot be
+ * read, fails its checksum, or does not match the segment's descriptor is deleted and ignored. The
+ * segment is not scanned in that case, so its entries stay unindexed until a reader seeks into it
+ * and indexes the entries it passes. The layout is (little endian):
+ *
+ * <pre>
+ * | version (int) | entry count (int) | segment id (long) | first index (long) |
+ * | last index (long) | last position (int) | entries... | checksum (long) |
+ * </pre>
+ *
+ * where each entry is {@code | index (long) | position (int) | asqn (long) |}, and the checksum is
+ * computed over everything before it.
+ */
+final class SegmentIndexFile {
+
+  static final String EXTENSION = ".idx";
+  static final int VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final String SEGMENT_EXTENSION = ".log";
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private static final int VERSION_OFFSET = 0;
+  private static final int COUNT_OFFSET = VERSION_OFFSET + Integer.BYTES;
+  private static final int ID_OFFSET = COUNT_OFFSET + Integer.BYTES;
+  private static final int FIRST_INDEX_OFFSET = ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int HEADER_LENGTH = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /** Returns the path of the index file belonging to the given segment file. */
+  static Path pathOf(final Path segmentFile) {
+    final String fileName = segmentFile.getFileName().toString();
+    final String baseName =
+        fileName.endsWith(SEGMENT_EXTENSION)
+            ? fileName.substring(0, fileName.length() - SEGMENT_EXTENSION.length())
+            : fileName;
+    return segmentFile.resolveSibling(baseName + EXTENSION);
+  }
+
+  /**
+   * Writes the entries of the given index which belong to the sealed segment. Failures are only
+   * logged, as the entries are indexed again by the readers seeking into the segment.
+   */
+  static void write(
+      final Path segmentFile, final SegmentDescriptor descriptor, final JournalIndex index) {
+    final var target = pathOf(segmentFile);
+    final var tmp = target.resolveSibling(target.getFileName() + TMP_SUFFIX);
+    final var buffer = serialize(descriptor, index);
+
+    try (final var channel =
+        FileChannel.open(
+            tmp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to write index file {}, segment will be unindexed on restart", target, e);
+      deleteQuietly(tmp);
+      return;
+    }
+
+    try {
+      Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warn("Failed to move index file {}, segment will be unindexed on restart", target, e);
+      deleteQuietly(tmp);
+    }
+  }
+
+  /**
+   * Restores the entries of the index file of the given segment into the index, if the file exists
+   * and matches the segment's descriptor. Invalid index files are deleted.
+   *
+   * @return true if the entries were restored, false if the segment stays unindexed
+   */
+  static boolean load(
+      final Path segmentFile, final SegmentDescriptor descriptor, final JournalIndex index) {
+    final var path = pathOf(segmentFile);
+    if (descriptor.lastPosition() <= 0) {
+      // without a last entry in the descriptor the writer scans and indexes the segment anyway
+      deleteQuietly(path);
+      return false;
+    }
+
+    final MappedByteBuffer mapped;
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read index file {}, segment stays unindexed", path, e);
+      deleteQuietly(path);
+      return false;
+    }
+
+    try {
+      mapped.order(ENDIANNESS);
+      if (!isValid(mapped, descriptor)) {
+        LOG.debug(
+            "Index file {} does not match segment {}, segment stays unindexed", path, descriptor);
+        deleteQuietly(path);
+        return false;
+      }
+
+      final int count = mapped.getInt(COUNT_OFFSET);
+      for (int i = 0, offset = HEADER_LENGTH; i < count; i++, offset += ENTRY_LENGTH) {
+        index.restore(
+            mapped.getLong(offset),
+            mapped.getInt(offset + Long.BYTES),
+            mapped.getLong(offset + Long.BYTES + Integer.BYTES));
+      }
+
+      LOG.trace("Restored {} index entries of segment {} from {}", count, descriptor.id(), path);
+      return true;
+    } finally {
+      IoUtil.unmap(mapped);
+    }
+  }
+
+  /** Deletes the index file of the given segment, e.g. because the segment was truncated. */
+  static void delete(final Path segmentFile) {
+    deleteQuietly(pathOf(segmentFile));
+  }
+
+  private static ByteBuffer serialize(
+      final SegmentDescriptor descriptor, final JournalIndex index) {
+    final var entries = new ExpandableArrayBuffer(ENTRY_LENGTH * 64);
+    final var entriesLength = new MutableInteger();
+    index.forEach(
+        descriptor.index(),
+        descriptor.lastIndex(),
+        (entryIndex, position, asqn) -> {
+          final int offset = entriesLength.get();
+          entries.putLong(offset, entryIndex, ENDIANNESS);
+          entries.putInt(offset + Long.BYTES, position, ENDIANNESS);
+          entries.putLong(offset + Long.BYTES + Integer.BYTES, asqn, ENDIANNESS);
+          entriesLength.set(offset + ENTRY_LENGTH);
+        });
+
+    final int length = entriesLength.get();
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + length + CHECKSUM_LENGTH).order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putInt(length / ENTRY_LENGTH)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(descriptor.lastIndex())
+        .putInt(descriptor.lastPosition())
+        .put(entries.byteArray(), 0, length);
+    buffer.putLong(checksum(buffer, buffer.position()));
+    return buffer.flip();
+  }
+
+  private static boolean isValid(final ByteBuffer buffer, final SegmentDescriptor descriptor) {
+    final int length = buffer.capacity();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH || buffer.getInt(VERSION_OFFSET) != VERSION) {
+      return false;
+    }
+
+    final int count = buffer.getInt(COUNT_OFFSET);
+    if (count < 0 || (long) count * ENTRY_LENGTH + HEADER_LENGTH + CHECKSUM_LENGTH != length) {
+      return false;
+    }
+
+    final int checksumOffset = length - CHECKSUM_LENGTH;
+    if (checksum(buffer, checksumOffset) != buffer.getLong(checksumOffset)) {
+      return false;
+    }
+
+    if (buffer.getLong(ID_OFFSET) != descriptor.id()
+        || buffer.getLong(FIRST_INDEX_OFFSET) != descriptor.index()
+        || buffer.getLong(LAST_INDEX_OFFSET) != descriptor.lastIndex()
+        || buffer.getInt(LAST_POSITION_OFFSET) != descriptor.lastPosition()) {
+      return false;
+    }
+
+    for (int i = 0, offset = HEADER_LENGTH; i < count; i++, offset += ENTRY_LENGTH) {
+      final long entryIndex = buffer.getLong(offset);
+      final int position = buffer.getInt(offset + Long.BYTES);
+      if (entryIndex < descriptor.index()
+          || entryIndex > descriptor.lastIndex()
+          || position < descriptor.length()
+          || position > descriptor.lastPosition()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static long checksum(final ByteBuffer buffer, final int length) {
+    return new ChecksumGenerator().compute(buffer, 0, length);
+  }
+
+  private static void deleteQuietly(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.debug("Failed to delete index file {}", path, e);
+    }
+  }
+}
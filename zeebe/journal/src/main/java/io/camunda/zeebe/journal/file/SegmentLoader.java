@@ -127,6 +127,9 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
+      // restore the index from the persisted entries if possible, such that the writer can jump to
+      // the last entry instead of scanning the whole segment
+      SegmentIndexFile.load(segmentFile, descriptor, journalIndex);
       return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
     } catch (final IOException e) {
       throw new JournalException(
@@ -348,6 +348,11 @@ final class SegmentWriter {
 
   private void reset(final long index, final boolean detectCorruption) {
     long nextIndex = firstIndex;
+    if (index == 0) {
+      // scanning the whole segment re-indexes it, so drop entries restored from a persisted index
+      // which may not match the segment's content
+      this.index.deleteAfter(firstIndex - 1);
+    }
 
     buffer.position(descriptorLength);
     buffer.mark();
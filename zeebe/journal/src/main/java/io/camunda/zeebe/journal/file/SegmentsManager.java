@@ -444,6 +444,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        SegmentIndexFile.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -16,19 +16,24 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
 
+/**
+ * Indexes every {@code density}-th record. Records are indexed in ascending order, so entries are
+ * appended to sorted primitive arrays and looked up by binary search, without boxing or per-entry
+ * nodes.
+ *
+ * <p>There is a single writer (the journal writer, or the segment loader before the journal is
+ * opened), but readers may look up concurrently and without locking. To keep lookups consistent,
+ * the slots of published entries are never modified: appends only write past the published end, and
+ * truncations publish a fresh copy of the remaining entries instead of shrinking in place.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private volatile Entries entries = new Entries(INITIAL_CAPACITY);
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +43,60 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      restore(index, position, indexedEntry.asqn());
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    var current = entries;
+    final int size = current.size;
+    if (size > 0 && current.indexes[size - 1] >= index) {
+      // re-indexing an entry replaces it and everything after it
+      deleteAfter(index - 1);
+      current = entries;
+    }
+
+    final boolean hasAsqn = asqn != SegmentedJournal.ASQN_IGNORE;
+    if (current.size == current.indexes.length
+        || (hasAsqn && current.asqnSize == current.asqns.length)) {
+      current = current.copy(Math.max(current.size, current.asqnSize) << 1);
+      entries = current;
+    }
+
+    current.append(index, position);
+    if (hasAsqn) {
+      current.appendAsqn(asqn, index);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final EntryVisitor visitor) {
+    final var current = entries;
+    final int size = current.size;
+    final int asqnSize = current.asqnSize;
+    int asqnSlot = ceiling(current.asqnIndexes, asqnSize, fromIndex);
+    for (int slot = ceiling(current.indexes, size, fromIndex);
+        slot < size && current.indexes[slot] <= toIndex;
+        slot++) {
+      final long index = current.indexes[slot];
+      while (asqnSlot < asqnSize && current.asqnIndexes[asqnSlot] < index) {
+        asqnSlot++;
       }
+
+      final long asqn =
+          asqnSlot < asqnSize && current.asqnIndexes[asqnSlot] == index
+              ? current.asqns[asqnSlot]
+              : SegmentedJournal.ASQN_IGNORE;
+      visitor.visit(index, current.positions[slot], asqn);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final var current = entries;
+    final int slot = floor(current.indexes, current.size, index);
+    return slot >= 0 ? new IndexInfo(current.indexes[slot], current.positions[slot]) : null;
   }
 
   @Override
@@ -60,46 +106,46 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final var current = entries;
+    final int asqnSize = current.asqnSize;
+    final int slot = floor(current.asqns, asqnSize, asqn);
+    if (slot < 0) {
+      return null;
+    }
+
+    if (current.asqnIndexes[slot] <= indexUpperBound) {
+      return current.asqnIndexes[slot];
     }
-    return null;
+
+    final int boundedSlot = floor(current.asqnIndexes, asqnSize, indexUpperBound);
+    return boundedSlot >= 0 ? current.asqnIndexes[boundedSlot] : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final var current = entries;
+    final int size = floor(current.indexes, current.size, index) + 1;
+    final int asqnSize = floor(current.asqnIndexes, current.asqnSize, index) + 1;
+    if (size < current.size || asqnSize < current.asqnSize) {
+      entries = current.slice(0, size, 0, asqnSize);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    final var current = entries;
+    final int from = ceiling(current.indexes, current.size, index);
+    // keep the asqn entry at or before the index, such that asqns up to the index can still be
+    // looked up
+    final int asqnFrom = Math.max(0, floor(current.asqnIndexes, current.asqnSize, index));
+    if (from > 0 || asqnFrom > 0) {
+      entries = current.slice(from, current.size, asqnFrom, current.asqnSize);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    entries = new Entries(INITIAL_CAPACITY);
   }
 
   @Override
@@ -111,4 +157,83 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  /** Returns the slot of the greatest value less than or equal to the key, or -1 if none. */
+  private static int floor(final long[] values, final int size, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, size, key);
+    return slot >= 0 ? slot : -slot - 2;
+  }
+
+  /** Returns the slot of the smallest value greater than or equal to the key, or size if none. */
+  private static int ceiling(final long[] values, final int size, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, size, key);
+    return slot >= 0 ? slot : -slot - 1;
+  }
+
+  /**
+   * The indexed entries, as sorted parallel arrays: index to position for every indexed record, and
+   * asqn to index for the indexed records which have an asqn. Asqns are ascending with the index,
+   * so both the asqns and their indexes are sorted.
+   */
+  private static final class Entries {
+
+    private final long[] indexes;
+    private final int[] positions;
+    private final long[] asqns;
+    private final long[] asqnIndexes;
+
+    // written only by the single writer; volatile to publish the appended slots to readers
+    private volatile int size;
+    private volatile int asqnSize;
+
+    private Entries(final int capacity) {
+      this(new long[capacity], new int[capacity], new long[capacity], new long[capacity]);
+    }
+
+    private Entries(
+        final long[] indexes, final int[] positions, final long[] asqns, final long[] asqnIndexes) {
+      this.indexes = indexes;
+      this.positions = positions;
+      this.asqns = asqns;
+      this.asqnIndexes = asqnIndexes;
+    }
+
+    private void append(final long index, final int position) {
+      final int slot = size;
+      indexes[slot] = index;
+      positions[slot] = position;
+      size = slot + 1;
+    }
+
+    private void appendAsqn(final long asqn, final long index) {
+      final int slot = asqnSize;
+      asqns[slot] = asqn;
+      asqnIndexes[slot] = index;
+      asqnSize = slot + 1;
+    }
+
+    private Entries copy(final int capacity) {
+      final var copy =
+          new Entries(
+              Arrays.copyOf(indexes, capacity),
+              Arrays.copyOf(positions, capacity),
+              Arrays.copyOf(asqns, capacity),
+              Arrays.copyOf(asqnIndexes, capacity));
+      copy.size = size;
+      copy.asqnSize = asqnSize;
+      return copy;
+    }
+
+    private Entries slice(final int from, final int to, final int asqnFrom, final int asqnTo) {
+      final int capacity = Math.max(INITIAL_CAPACITY, Math.max(to - from, asqnTo - asqnFrom));
+      final var slice = new Entries(capacity);
+      System.arraycopy(indexes, from, slice.indexes, 0, to - from);
+      System.arraycopy(positions, from, slice.positions, 0, to - from);
+      System.arraycopy(asqns, asqnFrom, slice.asqns, 0, asqnTo - asqnFrom);
+      System.arraycopy(asqnIndexes, asqnFrom, slice.asqnIndexes, 0, asqnTo - asqnFrom);
+      slice.size = to - from;
+      slice.asqnSize = asqnTo - asqnFrom;
+      return slice;
+    }
+  }
 }
@@ -30,7 +30,9 @@ import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -284,6 +286,88 @@ class SegmentedJournalTest {
     assertThat(journal.getLastIndex()).isEqualTo(truncateIndex + 1);
   }
 
+  @Test
+  void shouldPersistIndexOfSealedSegments() {
+    // given
+    final int entriesPerSegment = 5;
+    journal = openJournal(entriesPerSegment);
+
+    // when
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      journal.append(i + 1, journalFactory.entry());
+    }
+
+    // then
+    assertThat(indexFile(1)).exists();
+    assertThat(indexFile(2)).exists();
+    assertThat(indexFile(3)).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexOfSealedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 5;
+    journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      journal.append(i + 1, journalFactory.entry());
+    }
+    journal.close();
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final var index = journal.getJournalIndex();
+    assertThat(index.lookup(3).index()).isEqualTo(3);
+    assertThat(index.lookup(8).index()).isEqualTo(8);
+    assertThat(index.lookupAsqn(7)).isEqualTo(7);
+    final var reader = journal.openReader();
+    assertThat(reader.seek(7)).isEqualTo(7);
+    assertThat(reader.next().asqn()).isEqualTo(7);
+    assertThat(journal.getLastIndex()).isEqualTo(entriesPerSegment * 3);
+  }
+
+  @Test
+  void shouldIgnorePersistedIndexIfCorrupted() throws IOException {
+    // given
+    final int entriesPerSegment = 5;
+    journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      journal.append(i + 1, journalFactory.entry());
+    }
+    journal.close();
+    final byte[] content = Files.readAllBytes(indexFile(1));
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile(1), content);
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+    assertThat(journal.getJournalIndex().lookup(3)).isNull();
+    final var reader = journal.openReader();
+    assertThat(reader.seek(3)).isEqualTo(3);
+    assertThat(reader.next().asqn()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOnTruncate() {
+    // given
+    final int entriesPerSegment = 5;
+    journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      journal.append(i + 1, journalFactory.entry());
+    }
+
+    // when
+    journal.deleteAfter(3);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+    assertThat(indexFile(2)).doesNotExist();
+  }
+
   @Test
   void shouldCompactUpToStartOfSegment() {
     final int entryPerSegment = 2;
@@ -410,7 +494,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws IOException {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -421,6 +505,8 @@ class SegmentedJournalTest {
 
     // when
     journal.close();
+    // without its persisted index, the sealed segment is neither restored nor scanned
+    Files.delete(indexFile(1));
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -915,6 +1001,10 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private Path indexFile(final long segmentId) {
+    return directory.resolve("data").resolve(JOURNAL_NAME + "-" + segmentId + ".idx");
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
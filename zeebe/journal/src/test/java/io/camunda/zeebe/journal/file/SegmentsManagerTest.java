@@ -16,6 +16,7 @@ import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -106,6 +107,31 @@ class SegmentsManagerTest {
         .containsExactly(index, index);
   }
 
+  @Test
+  void shouldDeleteIndexFilesOfUnflushedSegments() throws Exception {
+    // given
+    final long index;
+    try (final var journal = openJournal()) {
+      index = journal.append(journalFactory.entry()).index();
+      journal.append(journalFactory.entry());
+    }
+    journalFactory.metaStore().storeLastFlushedIndex(index);
+
+    final File dataFile = directory.resolve("data").toFile();
+    final File logFile =
+        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith("2.log")))[0];
+    LogCorrupter.corruptDescriptor(logFile);
+    final Path indexFile = Files.createFile(SegmentIndexFile.pathOf(logFile.toPath()));
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    assertThat(logFile).doesNotExist();
+    assertThat(indexFile).doesNotExist();
+  }
+
   @Test
   void shouldNotThrowExceptionWhenCorruptionAtDescriptorWithoutAckedEntries() throws Exception {
     // given
@@ -265,4 +265,39 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldLookupBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1).position()).isEqualTo(2);
+    assertThat(index.lookup(1_000).position()).isEqualTo(2_000);
+    assertThat(index.lookup(2_000).index()).isEqualTo(1_000);
+    assertThat(index.lookupAsqn(5_005)).isEqualTo(500);
+  }
+
+  @Test
+  void shouldReplaceEntriesWhenIndexingAgain() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when
+    index.index(asJournalRecord(10, 110), 25);
+
+    // then
+    assertThat(index.lookup(15).index()).isEqualTo(10);
+    assertThat(index.lookup(15).position()).isEqualTo(25);
+    assertThat(index.lookupAsqn(105)).isEqualTo(5);
+    assertThat(index.lookupAsqn(150)).isEqualTo(10);
+  }
 }
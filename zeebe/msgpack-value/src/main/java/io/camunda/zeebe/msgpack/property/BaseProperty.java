@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +22,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  private final UnsafeBuffer pendingValue = new UnsafeBuffer(0, 0);
+  private MsgPackReader pendingValueReader;
+  private boolean hasPendingValue;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,16 +45,18 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    clearPendingValue();
   }
 
   @Override
   public void reset() {
     isSet = false;
+    clearPendingValue();
     value.reset();
   }
 
   public boolean hasValue() {
-    return isSet || defaultValue != null;
+    return isSet || hasPendingValue || defaultValue != null;
   }
 
   public StringValue getKey() {
@@ -57,6 +64,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    decodePendingValue();
+
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -68,6 +77,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (hasPendingValue) {
+      return key.getEncodedLength() + pendingValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +89,33 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Skips the value at the reader's position and only remembers where it is encoded. The value is
+   * decoded the first time it is accessed, and written as a raw copy if it is never accessed.
+   * Consequently, the buffer which is read must not be modified until the property is reset, and an
+   * invalid value is only detected when it is accessed.
+   *
+   * @param reader the reader positioned at the value of this property
+   * @param valueReader the reader to decode the value with when it is accessed
+   */
+  public void readLazily(final MsgPackReader reader, final MsgPackReader valueReader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    value.reset();
+    isSet = false;
+    pendingValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    pendingValueReader = valueReader;
+    hasPendingValue = true;
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (hasPendingValue) {
+      key.write(writer);
+      writer.writeRaw(pendingValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -101,8 +140,35 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     }
   }
 
+  private void decodePendingValue() {
+    if (!hasPendingValue) {
+      return;
+    }
+
+    // clear the pending value first, such that the value is not decoded again if it is invalid
+    hasPendingValue = false;
+    pendingValueReader.wrap(pendingValue, 0, pendingValue.capacity());
+    try {
+      value.read(pendingValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    } finally {
+      pendingValueReader = null;
+    }
+    isSet = true;
+  }
+
+  private void clearPendingValue() {
+    if (hasPendingValue) {
+      hasPendingValue = false;
+      pendingValue.wrap(0, 0);
+      pendingValueReader = null;
+    }
+  }
+
   @Override
   public int hashCode() {
+    decodePendingValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -126,6 +192,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
+    decodePendingValue();
     builder.append(value.toString());
     return builder.toString();
   }
@@ -22,6 +22,8 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  private MsgPackReader lazyValueReader;
+
   /**
    * Creates a new ObjectValue
    *
@@ -32,6 +34,38 @@ public class ObjectValue extends BaseValue {
     declaredProperties = new ArrayList<>(expectedDeclaredProperties);
   }
 
+  /**
+   * Enables or disables the lazy decoding of the declared properties. When enabled, reading the
+   * object only remembers where the value of each declared property is encoded, and the value is
+   * decoded the first time it is accessed. A property which is not accessed is written as a raw
+   * copy of its encoded value. This is useful for consumers which only access a few properties of
+   * the objects they read, e.g. to filter them.
+   *
+   * <p>With lazy decoding, the buffer which is read must not be modified while the object is used,
+   * until it is reset or reads another buffer. Note that the decoded string and binary values
+   * already refer to the read buffer without lazy decoding. Additionally, an invalid property value
+   * is only detected when the property is accessed, not when the object is read. The presence of
+   * properties without a default value is still verified when reading.
+   *
+   * <p>Lazy decoding is disabled by default. It applies only to the properties of this object; the
+   * objects nested in its properties are decoded as configured for them.
+   *
+   * @param lazyDecoding true to decode the declared properties lazily
+   * @return this object
+   */
+  public ObjectValue setLazyDecoding(final boolean lazyDecoding) {
+    if (lazyDecoding && lazyValueReader == null) {
+      lazyValueReader = new MsgPackReader();
+    } else if (!lazyDecoding) {
+      lazyValueReader = null;
+    }
+    return this;
+  }
+
+  public boolean isLazyDecoding() {
+    return lazyValueReader != null;
+  }
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
     return this;
@@ -96,28 +130,26 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    int expectedIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final BaseProperty<? extends BaseValue> prop;
+      final int index = indexOfDeclaredProperty(decodedKey, expectedIndex);
+      if (index >= 0) {
+        prop = declaredProperties.get(index);
+        expectedIndex = index + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (index >= 0 && lazyValueReader != null) {
+          prop.readLazily(reader, lazyValueReader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -133,6 +165,23 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  /**
+   * Returns the index of the declared property with the given key, or -1 if there is none. The
+   * properties are written in the order in which they are declared, so the search starts at the
+   * property following the previously read one and wraps around. This way, a key is usually found
+   * with a single comparison, instead of comparing it with all properties declared before it.
+   */
+  private int indexOfDeclaredProperty(final StringValue key, final int expectedIndex) {
+    final int size = declaredProperties.size();
+    for (int k = 0; k < size; ++k) {
+      final int index = expectedIndex + k < size ? expectedIndex + k : expectedIndex + k - size;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
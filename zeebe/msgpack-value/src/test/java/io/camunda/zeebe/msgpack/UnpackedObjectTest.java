@@ -8,6 +8,7 @@
 package io.camunda.zeebe.msgpack;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.msgpack.property.BooleanProperty;
@@ -15,6 +16,7 @@ import io.camunda.zeebe.msgpack.property.IntegerProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Nested;
@@ -127,4 +129,128 @@ public class UnpackedObjectTest {
       assertThat(newSchemaObject.getLength()).isEqualTo(length);
     }
   }
+
+  @Nested
+  class LazyDecoding {
+    private final StringProperty stringProperty = new StringProperty("string");
+    private final IntegerProperty integerProperty = new IntegerProperty("integer", 1);
+    private final BooleanProperty booleanProperty = new BooleanProperty("boolean", false);
+    private final UnpackedObject lazyObject = new UnpackedObject(3);
+
+    {
+      lazyObject
+          .declareProperty(stringProperty)
+          .declareProperty(integerProperty)
+          .declareProperty(booleanProperty)
+          .setLazyDecoding(true);
+    }
+
+    @Test
+    void shouldDecodePropertiesOnAccess() {
+      // given
+      final DirectBuffer encoded = encode("foo", 42, true);
+
+      // when
+      lazyObject.wrap(encoded);
+
+      // then
+      assertThat(BufferUtil.bufferAsString(stringProperty.getValue())).isEqualTo("foo");
+      assertThat(integerProperty.getValue()).isEqualTo(42);
+      assertThat(booleanProperty.getValue()).isTrue();
+    }
+
+    @Test
+    void shouldWriteUntouchedPropertiesAsRawCopy() {
+      // given
+      final DirectBuffer encoded = encode("foo", 42, true);
+      lazyObject.wrap(encoded);
+
+      // when
+      final var buffer = new UnsafeBuffer(new byte[lazyObject.getLength()]);
+      lazyObject.write(buffer, 0);
+
+      // then
+      assertThat(buffer).isEqualTo(encoded);
+    }
+
+    @Test
+    void shouldWriteUpdatedAndUntouchedProperties() {
+      // given
+      lazyObject.wrap(encode("foo", 42, true));
+      integerProperty.setValue(43);
+
+      // when
+      final var buffer = new UnsafeBuffer(new byte[lazyObject.getLength()]);
+      lazyObject.write(buffer, 0);
+
+      // then
+      assertThat(buffer).isEqualTo(encode("foo", 43, true));
+    }
+
+    @Test
+    void shouldNotKeepPendingValuesAfterReset() {
+      // given
+      lazyObject.wrap(encode("foo", 42, true));
+
+      // when
+      lazyObject.reset();
+
+      // then
+      assertThat(integerProperty.getValue()).isEqualTo(1);
+      assertThat(booleanProperty.getValue()).isFalse();
+      assertThat(stringProperty.hasValue()).isFalse();
+    }
+
+    @Test
+    void shouldFailToAccessInvalidValue() {
+      // given
+      final DirectBuffer encoded =
+          MsgPackUtil.encodeMsgPack(
+              w -> {
+                w.writeMapHeader(2);
+                w.writeString(BufferUtil.wrapString("string"));
+                w.writeString(BufferUtil.wrapString("foo"));
+                w.writeString(BufferUtil.wrapString("integer"));
+                w.writeString(BufferUtil.wrapString("not a number"));
+              });
+      lazyObject.wrap(encoded);
+
+      // when - then
+      assertThatThrownBy(integerProperty::getValue)
+          .isInstanceOf(MsgpackPropertyException.class)
+          .hasMessageContaining("integer");
+    }
+
+    @Test
+    void shouldVerifyThatRequiredPropertiesArePresent() {
+      // given
+      final DirectBuffer encoded =
+          MsgPackUtil.encodeMsgPack(
+              w -> {
+                w.writeMapHeader(1);
+                w.writeString(BufferUtil.wrapString("integer"));
+                w.writeInteger(42);
+              });
+
+      // when - then
+      assertThatThrownBy(() -> lazyObject.wrap(encoded))
+          .hasRootCauseMessage("Property 'string' has no valid value");
+    }
+
+    private DirectBuffer encode(
+        final String stringValue, final int integerValue, final boolean booleanValue) {
+      final var object = new UnpackedObject(3);
+      final var string = new StringProperty("string");
+      final var integer = new IntegerProperty("integer", 1);
+      final var bool = new BooleanProperty("boolean", false);
+      object.declareProperty(string).declareProperty(integer).declareProperty(bool);
+      string.setValue(stringValue);
+      integer.setValue(integerValue);
+      bool.setValue(booleanValue);
+
+      final var buffer = new UnsafeBuffer(new byte[object.getLength()]);
+      object.write(buffer, 0);
+      return buffer;
+    }
+  }
 }
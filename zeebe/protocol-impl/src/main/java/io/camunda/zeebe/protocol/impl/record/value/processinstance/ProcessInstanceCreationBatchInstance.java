@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.processinstance;
+
+import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ObjectValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+
+/** A process instance of a batch of process instances which are created with a single command. */
+public final class ProcessInstanceCreationBatchInstance extends ObjectValue {
+
+  private final DocumentProperty variablesProp = new DocumentProperty("variables");
+  private final LongProperty processInstanceKeyProp = new LongProperty("processInstanceKey", -1);
+  private final StringProperty rejectionReasonProp = new StringProperty("rejectionReason", "");
+
+  public ProcessInstanceCreationBatchInstance() {
+    super(3);
+    declareProperty(variablesProp)
+        .declareProperty(processInstanceKeyProp)
+        .declareProperty(rejectionReasonProp);
+  }
+
+  public DirectBuffer getVariablesBuffer() {
+    return variablesProp.getValue();
+  }
+
+  public ProcessInstanceCreationBatchInstance setVariables(final DirectBuffer variables) {
+    variablesProp.setValue(variables);
+    return this;
+  }
+
+  public long getProcessInstanceKey() {
+    return processInstanceKeyProp.getValue();
+  }
+
+  public ProcessInstanceCreationBatchInstance setProcessInstanceKey(final long processInstanceKey) {
+    processInstanceKeyProp.setValue(processInstanceKey);
+    return this;
+  }
+
+  public String getRejectionReason() {
+    return BufferUtil.bufferAsString(rejectionReasonProp.getValue());
+  }
+
+  public ProcessInstanceCreationBatchInstance setRejectionReason(final String rejectionReason) {
+    rejectionReasonProp.setValue(rejectionReason);
+    return this;
+  }
+}
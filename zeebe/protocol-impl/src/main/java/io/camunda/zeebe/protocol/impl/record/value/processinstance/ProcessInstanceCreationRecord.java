@@ -44,8 +44,11 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
   private final ArrayProperty<ProcessInstanceCreationStartInstruction> startInstructionsProperty =
       new ArrayProperty<>("startInstructions", ProcessInstanceCreationStartInstruction::new);
 
+  private final ArrayProperty<ProcessInstanceCreationBatchInstance> batchInstancesProperty =
+      new ArrayProperty<>("batchInstances", ProcessInstanceCreationBatchInstance::new);
+
   public ProcessInstanceCreationRecord() {
-    super(8);
+    super(9);
     declareProperty(bpmnProcessIdProperty)
         .declareProperty(processDefinitionKeyProperty)
         .declareProperty(processInstanceKeyProperty)
@@ -53,7 +56,8 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
         .declareProperty(variablesProperty)
         .declareProperty(fetchVariablesProperty)
         .declareProperty(startInstructionsProperty)
-        .declareProperty(tenantIdProperty);
+        .declareProperty(tenantIdProperty)
+        .declareProperty(batchInstancesProperty);
   }
 
   @Override
@@ -110,6 +114,20 @@ public final class ProcessInstanceCreationRecord extends UnifiedRecordValue
     return !startInstructionsProperty.isEmpty();
   }
 
+  @JsonIgnore
+  public boolean hasBatchInstances() {
+    return !batchInstancesProperty.isEmpty();
+  }
+
+  /**
+   * The process instances of a {@code CREATE_BATCH} command. In the command, each instance holds
+   * the variables to create it with; in the response, it holds the key of the created process
+   * instance, or the reason why it was not created.
+   */
+  public ArrayProperty<ProcessInstanceCreationBatchInstance> batchInstances() {
+    return batchInstancesProperty;
+  }
+
   @Override
   public long getProcessInstanceKey() {
     return processInstanceKeyProperty.getValue();
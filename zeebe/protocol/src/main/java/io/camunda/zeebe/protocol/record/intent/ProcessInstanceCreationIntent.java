@@ -18,7 +18,8 @@ package io.camunda.zeebe.protocol.record.intent;
 public enum ProcessInstanceCreationIntent implements Intent, ProcessInstanceRelatedIntent {
   CREATE(0, false),
   CREATED(1, true),
-  CREATE_WITH_AWAITING_RESULT(2, false);
+  CREATE_WITH_AWAITING_RESULT(2, false),
+  CREATE_BATCH(3, false);
 
   private final short value;
   private final boolean shouldBanInstance;
@@ -55,6 +56,8 @@ public enum ProcessInstanceCreationIntent implements Intent, ProcessInstanceRela
         return CREATED;
       case 2:
         return CREATE_WITH_AWAITING_RESULT;
+      case 3:
+        return CREATE_BATCH;
       default:
         return UNKNOWN;
     }
@@ -30,4 +30,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Applies a chunk without content, as returned by {@link SnapshotChunkReader#skipFile()}, by
+   * reusing the file with the same name and checksum of the latest persisted snapshot instead of
+   * receiving its content. In case the file can't be reused, e.g. because the latest snapshot
+   * doesn't contain it anymore, the future will be completed with a SnapshotWriteException.
+   *
+   * @param chunk the {@link SnapshotChunk} which refers to the file to reuse
+   */
+  ActorFuture<Void> reuse(SnapshotChunk chunk);
 }
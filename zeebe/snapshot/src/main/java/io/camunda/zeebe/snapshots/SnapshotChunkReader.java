@@ -41,4 +41,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Skips the file of the next chunk, and returns a chunk without content which refers to the whole
+   * file: its checksum is the checksum of the whole file. It is used instead of {@link #next()} when
+   * the receiver has the file already, see {@link ReceivedSnapshot#reuse(SnapshotChunk)}.
+   *
+   * @return a chunk without content which refers to the whole file
+   */
+  SnapshotChunk skipFile();
 }
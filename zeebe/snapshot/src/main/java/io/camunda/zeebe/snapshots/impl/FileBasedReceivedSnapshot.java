@@ -18,10 +18,14 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +44,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  // files which were received in several chunks, their checksums are calculated when persisting
+  private final Set<String> partiallyReceivedFiles = new HashSet<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -103,8 +109,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    if (snapshotChunk.getFileBlockPosition() == 0
+        && snapshotChunk.getContent().length == snapshotChunk.getTotalFileSize()) {
+      checksumCollection.updateFromBytes(
+          snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    } else {
+      partiallyReceivedFiles.add(chunkName);
+    }
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,6 +126,87 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final SnapshotChunk snapshotChunk) {
+    return actor.call(
+        () -> {
+          reuseInternal(snapshotChunk);
+          return null;
+        });
+  }
+
+  private void reuseInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
+    checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
+    checkTotalCountIsValid(snapshotChunk.getTotalCount());
+
+    final String snapshotId = snapshotChunk.getSnapshotId();
+    final String fileName = snapshotChunk.getChunkName();
+
+    if (snapshotStore.hasSnapshotId(snapshotId)) {
+      LOGGER.debug(
+          "Ignore reused file {}, because snapshot {} already exists.", fileName, snapshotId);
+      return;
+    }
+
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse file %s for snapshot %s, but there is no snapshot to reuse it from",
+                            fileName, snapshotId)));
+    final Long latestChecksum = latestSnapshot.getChecksums().getChecksums().get(fileName);
+    if (latestChecksum == null || latestChecksum != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse file %s with checksum %d of snapshot %s, but it has checksum %s",
+              fileName, snapshotChunk.getChecksum(), latestSnapshot.getId(), latestChecksum));
+    }
+
+    final var snapshotFile = directory.resolve(fileName);
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+      // the file may exist already if the leader resends the chunk
+      Files.deleteIfExists(snapshotFile);
+      linkOrCopy(latestSnapshot.getPath().resolve(fileName), snapshotFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Failed to reuse file %s of snapshot %s", fileName, latestSnapshot.getId()),
+          e);
+    }
+
+    LOGGER.trace("Reused file {} of snapshot {}", fileName, latestSnapshot.getId());
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+    checksumCollection.updateFromChecksum(snapshotFile, snapshotChunk.getChecksum());
+    partiallyReceivedFiles.remove(fileName);
+
+    if (fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+      try {
+        metadata = FileBasedSnapshotMetadata.decode(Files.readAllBytes(snapshotFile));
+      } catch (final IOException e) {
+        throw new SnapshotWriteException("Cannot decode snapshot metadata");
+      }
+    }
+  }
+
+  /**
+   * The files of a snapshot are immutable, so the file of the other snapshot is hard-linked,
+   * unless the file system doesn't support it.
+   */
+  private void linkOrCopy(final Path source, final Path target) throws IOException {
+    try {
+      Files.createLink(target, source);
+    } catch (final UnsupportedOperationException | FileSystemException e) {
+      LOGGER.debug("Failed to hard-link {} to {}, copying it instead", source, target, e);
+      Files.copy(source, target);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -263,6 +355,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     try {
+      for (final String fileName : partiallyReceivedFiles) {
+        checksumCollection.updateFromFile(directory.resolve(fileName));
+      }
+
       if (metadata == null) {
         // backward compatibility
         metadata =
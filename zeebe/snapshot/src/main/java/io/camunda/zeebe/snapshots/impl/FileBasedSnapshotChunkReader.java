@@ -15,6 +15,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -26,6 +27,7 @@ import java.util.TreeSet;
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> fileChecksums;
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -37,9 +39,26 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this(directory, Long.MAX_VALUE);
   }
 
+  /**
+   * @param directory the directory of the snapshot
+   * @param fileChecksums the known checksums of the snapshot files, which are used to refer to a
+   *     file without reading it, see {@link #skipFile()}
+   */
+  FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> fileChecksums)
+      throws IOException {
+    this(directory, Long.MAX_VALUE, fileChecksums);
+  }
+
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, maximumChunkSize, Map.of());
+  }
+
+  private FileBasedSnapshotChunkReader(
+      final Path directory, final long maximumChunkSize, final Map<String, Long> fileChecksums)
+      throws IOException {
     this.directory = directory;
+    this.fileChecksums = fileChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -125,4 +144,30 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  @Override
+  public SnapshotChunk skipFile() {
+    final var fileName = chunksView.first().toString();
+    final var filePath = directory.resolve(fileName);
+
+    try {
+      final var fileLength = Files.size(filePath);
+      final long fileChecksum;
+      if (fileChecksums.containsKey(fileName)) {
+        fileChecksum = fileChecksums.get(fileName);
+      } else {
+        final var checksum = new SfvChecksumImpl();
+        checksum.updateFromFile(filePath);
+        fileChecksum = checksum.getChecksums().get(fileName);
+      }
+
+      offset = 0;
+      chunksView.pollFirst();
+
+      return SnapshotChunkUtil.createSnapshotChunkWithoutContent(
+          snapshotID, totalCount, fileName, fileChecksum, fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
@@ -38,6 +38,16 @@ final class SnapshotChunkUtil {
         snapshotId, totalCount, fileName, checksum, fileData, fileBlockPosition, totalFileSize);
   }
 
+  static SnapshotChunk createSnapshotChunkWithoutContent(
+      final String snapshotId,
+      final int totalCount,
+      final String fileName,
+      final long fileChecksum,
+      final long totalFileSize) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, fileName, fileChecksum, new byte[0], 0, totalFileSize);
+  }
+
   private static final class SnapshotChunkImpl implements SnapshotChunk {
     private final String snapshotId;
     private final int totalCount;
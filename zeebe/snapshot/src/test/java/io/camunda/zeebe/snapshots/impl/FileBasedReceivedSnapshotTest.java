@@ -348,6 +348,83 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        final var fileName = new SnapshotChunkId(snapshotChunkReader.nextId()).fileName();
+        if (SNAPSHOT_FILE_CONTENTS.containsKey(fileName)) {
+          receivedSnapshot.reuse(snapshotChunkReader.skipFile()).join();
+        } else {
+          receivedSnapshot.apply(snapshotChunkReader.next()).join();
+        }
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums());
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(fileName))
+          .hasSameBinaryContentAs(persistedSnapshot.getPath().resolve(fileName));
+    }
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final SnapshotChunk chunk;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      chunk = snapshotChunkReader.skipFile();
+    }
+    final var corruptedChunk =
+        SnapshotChunkUtil.createSnapshotChunkWithoutContent(
+            chunk.getSnapshotId(),
+            chunk.getTotalCount(),
+            chunk.getChunkName(),
+            chunk.getChecksum() + 1,
+            chunk.getTotalFileSize());
+
+    // then
+    assertThatThrownBy(() -> receivedSnapshot.reuse(corruptedChunk).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
+  @Test
+  public void shouldReceiveChecksumOfChunkedFiles() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums());
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -332,6 +332,24 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldSkipWholeFile() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(2);
+    final var expectedChecksum = new SfvChecksumImpl();
+    expectedChecksum.updateFromFile(snapshotDirectory.resolve("file1"));
+
+    // when
+    final var chunk = snapshotChunkReader.skipFile();
+
+    // then
+    assertThat(chunk.getChunkName()).isEqualTo("file1");
+    assertThat(chunk.getContent()).isEmpty();
+    assertThat(chunk.getTotalFileSize()).isEqualTo(4);
+    assertThat(chunk.getChecksum()).isEqualTo(expectedChecksum.getChecksums().get("file1"));
+    assertThat(snapshotChunkReader.nextId()).isEqualTo(asByteBuffer("file2__0"));
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
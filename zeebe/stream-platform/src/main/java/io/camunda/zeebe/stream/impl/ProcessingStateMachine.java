@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -55,6 +56,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -100,6 +102,8 @@ public final class ProcessingStateMachine {
 
   public static final String WARN_MESSAGE_BATCH_PROCESSING_RETRY =
       "Expected to process commands in a batch, but exceeded the resulting batch size after processing {} commands (maxCommandsInBatch: {}).";
+  private static final String WARN_MESSAGE_LOG_BATCH_PROCESSING_RETRY =
+      "Expected to process commands from position {} to {} in one transaction, but caught an exception. Processing them one at a time instead.";
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
   private static final String ERROR_MESSAGE_WRITE_RECORD_ABORTED =
       "Expected to write one or more follow-up records for record '{} {}' without errors, but exception was thrown.";
@@ -161,6 +165,16 @@ public final class ProcessingStateMachine {
   private boolean inProcessing;
   private final int maxCommandsInBatch;
   private int processedCommandsCount;
+  private final int maxLogCommandsInBatch;
+  private final int maxLogCommandsBatchSize;
+  // commands read from the log which are processed together with the current command, see
+  // processLogBatch()
+  private final List<BatchedCommand> logBatch = new ArrayList<>();
+  private final List<ProcessingResult> logBatchResults = new ArrayList<>();
+  private int logBatchEntryCount;
+  private int logBatchSize;
+  // after a log batch failed, the commands up to this position are processed one at a time
+  private long singleCommandProcessingUntil = StreamProcessor.UNSET_POSITION;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
@@ -182,6 +196,8 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxLogCommandsInBatch = context.getMaxLogCommandsInBatch();
+    maxLogCommandsBatchSize = context.getMaxLogCommandsBatchSize();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -287,6 +303,10 @@ public final class ProcessingStateMachine {
       }
 
       finalizeCommandProcessing();
+      if (shouldProcessLogBatch() && !processLogBatch()) {
+        // the batch is rolled back and processed again one command at a time
+        return;
+      }
       writeRecords();
     } catch (final RecoverableException recoverableException) {
       // recoverable
@@ -337,6 +357,186 @@ public final class ProcessingStateMachine {
     processedCommandsCount = 0;
   }
 
+  private boolean shouldProcessLogBatch() {
+    return maxLogCommandsInBatch > 1
+        && onErrorRetries == 0
+        && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR
+        && typedCommand.getPosition() > singleCommandProcessingUntil;
+  }
+
+  /**
+   * Processes the next commands on the log in the current transaction, until the batch is limited
+   * by the number of commands, the size of the follow-up records, or the next record is not a
+   * command to process. The state changes of all commands are committed together, and their
+   * follow-up records are appended as one batch, which amortizes the commit and append overhead
+   * under high load. As a batch has a single source position, all of its records refer to the last
+   * command as their source record; on replay, this marks all commands of the batch as processed.
+   *
+   * <p>If any of the additional commands fails, the whole transaction is rolled back, and the
+   * commands are processed again one at a time, such that the failure is handled as usual.
+   *
+   * @return true if the batch was processed and can be written, false if it is retried
+   */
+  private boolean processLogBatch() {
+    final var writes = new ArrayList<>(pendingWrites);
+    final var responses = new ArrayList<>(pendingResponses);
+    logBatchResults.add(currentProcessingResult);
+    logBatchEntryCount = writes.size();
+    logBatchSize = batchSizeOf(currentProcessingResult);
+    long lastReadPosition = typedCommand.getPosition();
+
+    try {
+      while (canAddToLogBatch()) {
+        if (logBatch.isEmpty()) {
+          // reading the next command overwrites the current one, so keep a copy of it
+          detachCurrentCommand();
+        }
+
+        final var command = readBatchedCommand(logStreamReader.next());
+        logBatch.add(command);
+        final var record = command.record();
+        lastReadPosition = record.getPosition();
+
+        zeebeDbTransaction.run(() -> batchProcessing(record));
+        processingMetrics.observeCommandCount(processedCommandsCount);
+        processedCommandsCount = 0;
+        lastProcessedPositionState.markAsProcessed(record.getPosition());
+
+        logBatchResults.add(currentProcessingResult);
+        writes.addAll(pendingWrites);
+        responses.addAll(pendingResponses);
+        logBatchEntryCount = writes.size();
+        logBatchSize += batchSizeOf(currentProcessingResult);
+      }
+    } catch (final Exception e) {
+      LOG.warn(
+          WARN_MESSAGE_LOG_BATCH_PROCESSING_RETRY,
+          typedCommand.getPosition(),
+          lastReadPosition,
+          e);
+      retryLogBatchOneByOne(lastReadPosition);
+      return false;
+    }
+
+    logBatchEntryCount = 0;
+    logBatchSize = 0;
+    if (logBatch.isEmpty()) {
+      logBatchResults.clear();
+    } else {
+      pendingWrites = writes;
+      pendingResponses = responses;
+      processingMetrics.observeLogBatchCommandCount(logBatch.size() + 1);
+    }
+    return true;
+  }
+
+  private boolean canAddToLogBatch() {
+    return logBatch.size() + 1 < maxLogCommandsInBatch
+        && logBatchSize < maxLogCommandsBatchSize
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext()
+        && processingFilter.applies(logStreamReader.peekNext());
+  }
+
+  private void detachCurrentCommand() {
+    final var copy = copyOf(currentRecord);
+    typedCommand.wrap(
+        copy, metadata, recordValues.readDetachedRecordValue(copy, metadata.getValueType()));
+    currentRecord = copy;
+  }
+
+  private BatchedCommand readBatchedCommand(final LoggedEvent event) {
+    final var copy = copyOf(event);
+    final var commandMetadata = new RecordMetadata();
+    copy.readMetadata(commandMetadata);
+
+    metrics.processingLatency(copy.getTimestamp(), clock.millis());
+    final var timer =
+        metrics.startProcessingDurationTimer(
+            commandMetadata.getValueType(), commandMetadata.getIntent());
+
+    final var record = new TypedRecordImpl(context.getPartitionId());
+    record.wrap(
+        copy,
+        commandMetadata,
+        recordValues.readDetachedRecordValue(copy, commandMetadata.getValueType()));
+    return new BatchedCommand(record, timer);
+  }
+
+  /**
+   * Rolls back the transaction of a failed log batch, and processes its commands again, one at a
+   * time, starting with the first.
+   */
+  private void retryLogBatchOneByOne(final long lastReadPosition) {
+    processingMetrics.countLogBatchRetry();
+    singleCommandProcessingUntil = lastReadPosition;
+    final long firstPosition = typedCommand.getPosition();
+    // the processing of the retried commands is measured again
+    clearLogBatch();
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.rollback();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentRecord, metadata, throwable);
+            return;
+          }
+
+          logStreamReader.seek(firstPosition);
+          currentRecord = logStreamReader.next();
+          processCommand(currentRecord);
+        });
+  }
+
+  private void clearLogBatch() {
+    logBatch.clear();
+    logBatchResults.clear();
+    logBatchEntryCount = 0;
+    logBatchSize = 0;
+  }
+
+  /**
+   * @return the position of the last command processed in the current transaction
+   */
+  private long lastCommandPosition() {
+    return logBatch.isEmpty()
+        ? currentRecord.getPosition()
+        : logBatch.get(logBatch.size() - 1).record().getPosition();
+  }
+
+  /**
+   * Checks whether the given records can be written together with the records of the previous
+   * commands of the current log batch, if any.
+   */
+  private boolean canWriteEvents(final int eventCount, final int batchSize) {
+    return logStreamWriter.canWriteEvents(
+        eventCount + logBatchEntryCount, batchSize + logBatchSize);
+  }
+
+  private static int batchSizeOf(final ProcessingResult processingResult) {
+    int size = 0;
+    for (final var entry : processingResult.getRecordBatch()) {
+      size += entry.getLength();
+    }
+    return size;
+  }
+
+  private static LoggedEventImpl copyOf(final LoggedEvent event) {
+    final var buffer = new UnsafeBuffer(new byte[event.getLength()]);
+    event.write(buffer, 0);
+    final var copy = new LoggedEventImpl();
+    copy.wrap(buffer, 0);
+    return copy;
+  }
+
   /**
    * Starts the batch processing with the given initial command and iterates over ProcessingResult
    * and applies all follow-up commands until the command limit is reached or no more follow-up
@@ -347,7 +547,7 @@ public final class ProcessingStateMachine {
     // be appended to the followup events
     final var processingResultBuilder =
         new BufferedProcessingResultBuilder(
-            logStreamWriter::canWriteEvents, initialCommand.getOperationReference());
+            this::canWriteEvents, initialCommand.getOperationReference());
     var lastProcessingResultSize = 0;
 
     // It might be that we reached the batch size limit during processing a command.
@@ -586,10 +786,10 @@ public final class ProcessingStateMachine {
   }
 
   private ActorFuture<Boolean> writeWithRetryAsync() {
-    final var sourceRecordPosition = typedCommand.getPosition();
+    final var sourceRecordPosition = lastCommandPosition();
 
     final ActorFuture<Boolean> writeFuture;
-    if (currentProcessingResult.isEmpty()) {
+    if (currentProcessingResult.isEmpty() && logBatch.isEmpty()) {
       // we skipped the processing entirely; we have no results
       notifySkippedListener(currentRecord);
       metrics.eventSkipped();
@@ -624,6 +824,10 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_RECORD_ABORTED, currentRecord, metadata, t);
+            if (!logBatch.isEmpty()) {
+              retryLogBatchOneByOne(lastCommandPosition());
+              return;
+            }
             onError(
                 t,
                 () -> {
@@ -646,7 +850,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.commit();
-              lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
+              lastSuccessfulProcessedRecordPosition = lastCommandPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
               return true;
@@ -666,6 +870,10 @@ public final class ProcessingStateMachine {
                 });
           } else {
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            for (final var command : logBatch) {
+              scheduledCommandCache.remove(
+                  command.record().getIntent(), command.record().getKey());
+            }
             executeSideEffects();
           }
         });
@@ -711,6 +919,12 @@ public final class ProcessingStateMachine {
           // observe the processing duration
           processingTimer.close();
 
+          for (final var command : logBatch) {
+            notifyProcessedListener(command.record());
+            command.processingTimer().close();
+          }
+          clearLogBatch();
+
           // continue with next record
           markProcessingCompleted();
           actor.submit(this::tryToReadNextRecord);
@@ -719,7 +933,15 @@ public final class ProcessingStateMachine {
 
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      if (logBatchResults.isEmpty()) {
+        return currentProcessingResult.executePostCommitTasks();
+      }
+
+      boolean success = true;
+      for (final var processingResult : logBatchResults) {
+        success &= processingResult.executePostCommitTasks();
+      }
+      return success;
     }
   }
 
@@ -777,6 +999,8 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  private record BatchedCommand(TypedRecordImpl record, Histogram.Timer processingTimer) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
@@ -147,6 +147,16 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxLogCommandsInBatch() < 1) {
+      throw new IllegalArgumentException(
+          "Log batch processing limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxLogCommandsInBatch()));
+    }
+    if (streamProcessorContext.getMaxLogCommandsBatchSize() < 1) {
+      throw new IllegalArgumentException(
+          "Log batch processing size must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxLogCommandsBatchSize()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +164,16 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxLogCommandsInBatch(final int maxLogCommandsInBatch) {
+    streamProcessorContext.maxLogCommandsInBatch(maxLogCommandsInBatch);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxLogCommandsBatchSize(final int maxLogCommandsBatchSize) {
+    streamProcessorContext.maxLogCommandsBatchSize(maxLogCommandsBatchSize);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
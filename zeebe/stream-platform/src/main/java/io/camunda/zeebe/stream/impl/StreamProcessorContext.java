@@ -30,6 +30,8 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_LOG_COMMANDS_IN_BATCH = 1;
+  public static final int DEFAULT_MAX_LOG_COMMANDS_BATCH_SIZE = 1024 * 1024;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,6 +54,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxLogCommandsInBatch = DEFAULT_MAX_LOG_COMMANDS_IN_BATCH;
+  private int maxLogCommandsBatchSize = DEFAULT_MAX_LOG_COMMANDS_BATCH_SIZE;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
@@ -223,6 +227,33 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  /**
+   * Sets how many commands read from the log may be processed in one transaction, with their
+   * follow-up records appended as one batch. A limit of 1 (the default) processes every command
+   * read from the log in its own transaction.
+   */
+  public StreamProcessorContext maxLogCommandsInBatch(final int maxLogCommandsInBatch) {
+    this.maxLogCommandsInBatch = maxLogCommandsInBatch;
+    return this;
+  }
+
+  public int getMaxLogCommandsInBatch() {
+    return maxLogCommandsInBatch;
+  }
+
+  /**
+   * Sets the size in bytes of the follow-up records after which no further commands are read from
+   * the log into the current transaction.
+   */
+  public StreamProcessorContext maxLogCommandsBatchSize(final int maxLogCommandsBatchSize) {
+    this.maxLogCommandsBatchSize = maxLogCommandsBatchSize;
+    return this;
+  }
+
+  public int getMaxLogCommandsBatchSize() {
+    return maxLogCommandsBatchSize;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
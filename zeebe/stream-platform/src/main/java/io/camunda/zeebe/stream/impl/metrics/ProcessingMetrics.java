@@ -54,6 +54,25 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram LOG_BATCH_COMMANDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_log_batch_commands")
+          .help(
+              "Records the distribution of commands read from the log which were processed in one transaction")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Counter LOG_BATCH_RETRIES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_log_batch_retry")
+          .help(
+              "Number of times processing commands from the log in one transaction failed, and the commands were processed one at a time instead")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Enumeration ERROR_HANDLING_PHASE =
       Enumeration.build()
           .namespace(NAMESPACE)
@@ -67,6 +86,8 @@ public class ProcessingMetrics {
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Child logBatchCommands;
+  private final Counter.Child logBatchRetries;
   private final Enumeration.Child errorHandlingPhase;
 
   public ProcessingMetrics(final String partitionIdLabel) {
@@ -74,6 +95,8 @@ public class ProcessingMetrics {
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    logBatchCommands = LOG_BATCH_COMMANDS.labels(partitionIdLabel);
+    logBatchRetries = LOG_BATCH_RETRIES.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
   }
 
@@ -89,6 +112,14 @@ public class ProcessingMetrics {
     batchProcessingRetries.inc();
   }
 
+  public void observeLogBatchCommandCount(final int commandCount) {
+    logBatchCommands.observe(commandCount);
+  }
+
+  public void countLogBatchRetry() {
+    logBatchRetries.inc();
+  }
+
   public Timer startBatchProcessingPostCommitTasksTimer() {
     return batchProcessingPostCommitTasks.startTimer();
   }
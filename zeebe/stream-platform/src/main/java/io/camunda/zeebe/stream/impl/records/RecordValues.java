@@ -19,10 +19,20 @@ import java.util.Map;
 public final class RecordValues {
 
   private final Map<ValueType, UnifiedRecordValue> eventCache;
+  private final boolean lazyDecoding;
 
   public RecordValues() {
+    this(false);
+  }
+
+  /**
+   * @param lazyDecoding true to decode the properties of the read values only when they are
+   *     accessed, see {@link io.camunda.zeebe.msgpack.value.ObjectValue#setLazyDecoding(boolean)}
+   */
+  public RecordValues(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
-    TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
+    TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, newInstance(c)));
 
     eventCache = Collections.unmodifiableMap(cache);
   }
@@ -35,4 +45,26 @@ public final class RecordValues {
     }
     return value;
   }
+
+  /**
+   * Reads the value into a new instance, which, unlike the instances returned by {@link
+   * #readRecordValue(LoggedEvent, ValueType)}, is not overwritten when the next value is read.
+   */
+  public UnifiedRecordValue readDetachedRecordValue(
+      final LoggedEvent event, final ValueType valueType) {
+    final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+    if (valueClass == null) {
+      return null;
+    }
+
+    final UnifiedRecordValue value = newInstance(valueClass);
+    event.readValue(value);
+    return value;
+  }
+
+  private UnifiedRecordValue newInstance(final Class<? extends UnifiedRecordValue> valueClass) {
+    final UnifiedRecordValue value = ReflectUtil.newInstance(valueClass);
+    value.setLazyDecoding(lazyDecoding);
+    return value;
+  }
 }
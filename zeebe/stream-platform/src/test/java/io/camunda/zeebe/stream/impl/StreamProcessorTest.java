@@ -53,9 +53,11 @@ import io.camunda.zeebe.util.exception.RecoverableException;
 import java.io.Closeable;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -66,6 +68,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.verification.VerificationWithTimeout;
 
 @ExtendWith(StreamPlatformExtension.class)
@@ -1398,6 +1401,75 @@ public final class StreamProcessorTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  void shouldProcessCommandsFromLogInOneTransaction() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(defaultRecordProcessor.process(any(), any()))
+        .thenAnswer(StreamProcessorTest::appendActivatingEvent);
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.maxLogCommandsInBatch(10));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command()
+            .key(1)
+            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command()
+            .key(2)
+            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.command()
+            .key(3)
+            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+
+    // then
+    verify(defaultRecordProcessor, TIMEOUT.times(3)).process(any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(3));
+    Assertions.assertThat(followUpSourcePositions(3)).containsExactly(3L, 3L, 3L);
+  }
+
+  @Test
+  void shouldProcessCommandsOneByOneIfCommandInLogBatchFails() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var failed = new AtomicBoolean();
+    when(defaultRecordProcessor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              if (command.getKey() == 2 && !failed.getAndSet(true)) {
+                throw new RuntimeException("expected");
+              }
+              return appendActivatingEvent(invocation);
+            });
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.maxLogCommandsInBatch(10));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command()
+            .key(1)
+            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command()
+            .key(2)
+            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.command()
+            .key(3)
+            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+
+    // then - the first command is processed again, and the commands are written one by one
+    verify(defaultRecordProcessor, TIMEOUT.times(5)).process(any(), any());
+    verify(defaultRecordProcessor, never()).onProcessingError(any(), any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    Assertions.assertThat(followUpSourcePositions(3)).containsExactly(1L, 2L, 3L);
+  }
+
   @Test
   void shouldRemoveCachedScheduledCommandOnProcess() {
     // given
@@ -1475,6 +1547,39 @@ public final class StreamProcessorTest {
     verify(streamPlatform.getDefaultMockedRecordProcessor(), never()).process(any(), any());
   }
 
+  private static ProcessingResult appendActivatingEvent(final InvocationOnMock invocation) {
+    final TypedRecord<?> command = invocation.getArgument(0);
+    final ProcessingResultBuilder resultBuilder = invocation.getArgument(1);
+    resultBuilder.appendRecordReturnEither(
+        command.getKey(),
+        Records.processInstance(1),
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .intent(ELEMENT_ACTIVATING)
+            .rejectionType(RejectionType.NULL_VAL)
+            .rejectionReason(""));
+    return resultBuilder.build();
+  }
+
+  private List<Long> followUpSourcePositions(final int count) {
+    final var reader = streamPlatform.getLogStream().newLogStreamReader();
+    final var sourcePositions = new ArrayList<Long>();
+    await("should write follow up events")
+        .untilAsserted(
+            () -> {
+              reader.seekToFirstEvent();
+              sourcePositions.clear();
+              while (reader.hasNext()) {
+                final var sourcePosition = reader.next().getSourceEventPosition();
+                if (sourcePosition > 0) {
+                  sourcePositions.add(sourcePosition);
+                }
+              }
+              assertThat(sourcePositions.size()).isEqualTo(count);
+            });
+    return sourcePositions;
+  }
+
   private static final class TestProcessor implements RecordProcessor {
 
     ProcessingResult processingResult = EmptyProcessingResult.INSTANCE;
@@ -69,4 +69,16 @@ public final class TransportFactory {
       final ClientStreamMetrics metrics) {
     return new ClientStreamServiceImpl<>(clusterCommunicationService, metrics);
   }
+
+  /**
+   * @param creditsPerClientStream the number of payloads each server may have in flight to a client
+   *     stream at the same time, e.g. the number of jobs a job worker can handle concurrently
+   */
+  public <M extends BufferWriter> ClientStreamService<M> createRemoteStreamClient(
+      final ClusterCommunicationService clusterCommunicationService,
+      final ClientStreamMetrics metrics,
+      final int creditsPerClientStream) {
+    return new ClientStreamServiceImpl<>(
+        clusterCommunicationService, metrics, creditsPerClientStream);
+  }
 }
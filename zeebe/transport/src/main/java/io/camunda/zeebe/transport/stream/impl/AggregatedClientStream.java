@@ -19,10 +19,17 @@ import org.agrona.collections.Int2ObjectHashMap;
 /** Represents a stream which aggregates multiple logically equivalent client streams. * */
 final class AggregatedClientStream<M extends BufferWriter> {
 
+  /**
+   * The default number of payloads which may be in flight per client stream, from each server.
+   * Matches the default number of jobs a client's job worker handles at the same time.
+   */
+  static final int DEFAULT_CREDITS_PER_CLIENT_STREAM = 32;
+
   private final UUID streamId;
   private final LogicalId<M> logicalId;
   private final Set<MemberId> liveConnections = new HashSet<>();
   private final ClientStreamMetrics metrics;
+  private final int creditsPerClientStream;
   private final Int2ObjectHashMap<ClientStreamImpl<M>> clientStreams = new Int2ObjectHashMap<>();
 
   private boolean isOpened;
@@ -34,9 +41,18 @@ final class AggregatedClientStream<M extends BufferWriter> {
 
   AggregatedClientStream(
       final UUID streamId, final LogicalId<M> logicalId, final ClientStreamMetrics metrics) {
+    this(streamId, logicalId, metrics, DEFAULT_CREDITS_PER_CLIENT_STREAM);
+  }
+
+  AggregatedClientStream(
+      final UUID streamId,
+      final LogicalId<M> logicalId,
+      final ClientStreamMetrics metrics,
+      final int creditsPerClientStream) {
     this.streamId = streamId;
     this.logicalId = logicalId;
     this.metrics = metrics;
+    this.creditsPerClientStream = creditsPerClientStream;
   }
 
   void addClient(final ClientStreamImpl<M> clientStream) {
@@ -110,6 +126,18 @@ final class AggregatedClientStream<M extends BufferWriter> {
     return logicalId;
   }
 
+  /**
+   * Returns the number of payloads which each server may have in flight to this stream at the same
+   * time. It grows with the number of client streams, as every client stream can take payloads.
+   */
+  int credits() {
+    return Math.max(1, clientStreams.size()) * creditsPerClientStream;
+  }
+
+  boolean isOpened() {
+    return isOpened;
+  }
+
   Set<MemberId> liveConnections() {
     return liveConnections;
   }
@@ -11,6 +11,7 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -31,6 +32,17 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
     streamConsumers.remove(consumer);
   }
 
+  /** Returns true if any consumer of this stream has credits available to push a payload. */
+  boolean hasAvailableCredits() {
+    for (final StreamConsumer<M> consumer : streamConsumers) {
+      if (consumer.credits().available() > 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   @Override
   public Collection<RemoteStreamId> consumers() {
     return streamConsumers.stream().map(StreamConsumer::id).collect(Collectors.toSet());
@@ -51,9 +63,34 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
    *
    * @param id unique id
    * @param logicalId logical id
+   * @param credits the credits granted by the receiver; not part of the consumer's identity
    * @param <M> type of the properties
    */
-  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId) {}
+  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId, StreamCredits credits) {
+
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId) {
+      this(id, logicalId, StreamCredits.unlimited());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final StreamConsumer<?> that = (StreamConsumer<?>) o;
+      return id.equals(that.id) && logicalId.equals(that.logicalId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, logicalId);
+    }
+  }
 
   /**
    * Uniquely identifies a stream
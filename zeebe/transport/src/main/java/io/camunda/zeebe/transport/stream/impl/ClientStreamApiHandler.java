@@ -11,12 +11,16 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponse;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.MutableInteger;
 
 final class ClientStreamApiHandler {
   private final ClientStreamManager<?> clientStreamManager;
@@ -38,6 +42,44 @@ final class ClientStreamApiHandler {
     return responseFuture;
   }
 
+  /**
+   * Pushes every payload of the batch, as if it was pushed with its own request, and completes once
+   * all of them were handled. The response lists the payloads which could not be pushed.
+   */
+  CompletableFuture<StreamResponse> handlePushBatchRequest(final PushStreamBatchRequest request) {
+    final CompletableFuture<StreamResponse> responseFuture = new CompletableFuture<>();
+    final var response = new PushStreamBatchResponse();
+    final var payloads = request.payloads();
+    if (payloads.isEmpty()) {
+      responseFuture.complete(response);
+      return responseFuture;
+    }
+
+    // the callbacks are all executed on the same executor, so no synchronization is needed
+    final var pendingPayloads = new MutableInteger(payloads.size());
+    for (int i = 0; i < payloads.size(); i++) {
+      final var index = i;
+      final ActorFuture<Void> payloadPushed = new CompletableActorFuture<>();
+      clientStreamManager.onPayloadReceived(request.streamId(), payloads.get(i), payloadPushed);
+      payloadPushed.onComplete(
+          (ok, error) -> {
+            if (error != null) {
+              response.addFailure(
+                  index,
+                  ErrorResponse.mapErrorToCode(error),
+                  Objects.requireNonNullElse(error.getMessage(), ""));
+            }
+
+            if (pendingPayloads.decrementAndGet() == 0) {
+              responseFuture.complete(response);
+            }
+          },
+          executor);
+    }
+
+    return responseFuture;
+  }
+
   byte[] handleRestartRequest(final MemberId sender, final byte[] ignored) {
     clientStreamManager.onServerRemoved(MemberId.from(sender.id()));
     clientStreamManager.onServerJoined(MemberId.from(sender.id()));
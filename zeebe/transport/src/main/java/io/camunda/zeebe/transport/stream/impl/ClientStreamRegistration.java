@@ -46,6 +46,10 @@ final class ClientStreamRegistration<M extends BufferWriter> {
     return stream.logicalId();
   }
 
+  int credits() {
+    return stream.credits();
+  }
+
   MemberId serverId() {
     return serverId;
   }
@@ -27,13 +27,19 @@ final class ClientStreamRegistry<M extends BufferWriter> {
   private final Map<LogicalId<M>, UUID> serverStreamIds = new HashMap<>();
 
   private final ClientStreamMetrics metrics;
+  private final int creditsPerClientStream;
 
   ClientStreamRegistry() {
     this(ClientStreamMetrics.noop());
   }
 
   ClientStreamRegistry(final ClientStreamMetrics metrics) {
+    this(metrics, AggregatedClientStream.DEFAULT_CREDITS_PER_CLIENT_STREAM);
+  }
+
+  ClientStreamRegistry(final ClientStreamMetrics metrics, final int creditsPerClientStream) {
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+    this.creditsPerClientStream = creditsPerClientStream;
   }
 
   Optional<AggregatedClientStream<M>> get(final UUID serverStreamId) {
@@ -55,7 +61,10 @@ final class ClientStreamRegistry<M extends BufferWriter> {
     final var serverStreamId = serverStreamIds.computeIfAbsent(logicalId, k -> UUID.randomUUID());
     final var serverStream =
         serverStreams.computeIfAbsent(
-            serverStreamId, k -> new AggregatedClientStream<>(serverStreamId, logicalId));
+            serverStreamId,
+            k ->
+                new AggregatedClientStream<>(
+                    serverStreamId, logicalId, ClientStreamMetrics.noop(), creditsPerClientStream));
     final var streamId = new ClientStreamIdImpl(serverStreamId, serverStream.nextLocalId());
     final var clientStream =
         new ClientStreamImpl<>(
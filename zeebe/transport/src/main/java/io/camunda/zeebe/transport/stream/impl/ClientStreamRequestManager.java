@@ -169,17 +169,36 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         });
   }
 
+  /**
+   * Sends the current credits of the given stream to all given servers on which it is already
+   * registered, e.g. after a client stream was added to or removed from it. Servers on which the
+   * stream is still being registered receive the current credits once the registration completes.
+   *
+   * <p>The update is sent without waiting for an ack and without retry, as it's idempotent and any
+   * later update or registration carries the current credits anyway.
+   *
+   * @param stream the stream whose credits changed
+   * @param serverIds the servers to notify
+   */
+  void updateCredits(final AggregatedClientStream<M> stream, final Collection<MemberId> serverIds) {
+    for (final var serverId : serverIds) {
+      final var streamsPerHost = registrations.get(serverId);
+      if (streamsPerHost == null) {
+        continue;
+      }
+
+      final var registration = streamsPerHost.get(stream.streamId());
+      if (registration != null && registration.state() == State.ADDED) {
+        sendCreditsUpdate(registration);
+      }
+    }
+  }
+
   private void add(final ClientStreamRegistration<M> registration) {
     if (registration.state() == State.ADDING || !registration.transitionToAdding()) {
       return;
     }
 
-    final var request =
-        new AddStreamRequest()
-            .streamId(registration.streamId())
-            .streamType(registration.logicalId().streamType())
-            .metadata(registration.logicalId().metadata());
-
     final var pendingRequest = registration.pendingRequest();
     if (pendingRequest != null) {
       // error - should not have a pending request if we're registering!
@@ -188,8 +207,26 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
               .formatted(registration.streamId(), registration.serverId()));
     }
 
-    final var payload = BufferUtil.bufferAsArray(request);
-    sendAddRequest(registration, payload);
+    sendAddRequest(registration);
+  }
+
+  private AddStreamRequest addRequest(final ClientStreamRegistration<M> registration) {
+    return new AddStreamRequest()
+        .streamId(registration.streamId())
+        .streamType(registration.logicalId().streamType())
+        .metadata(registration.logicalId().metadata())
+        .credits(registration.credits());
+  }
+
+  private void sendCreditsUpdate(final ClientStreamRegistration<M> registration) {
+    final var payload = BufferUtil.bufferAsArray(addRequest(registration));
+    LOGGER.trace(
+        "Granting {} credits for stream {} on {}",
+        registration.credits(),
+        registration.streamId(),
+        registration.serverId());
+    communicationService.unicast(
+        StreamTopics.ADD.topic(), payload, Function.identity(), registration.serverId(), true);
   }
 
   private void remove(final ClientStreamRegistration<M> registration) {
@@ -239,12 +276,14 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         stream.streamId(), streamId -> new ClientStreamRegistration<>(stream, serverId));
   }
 
-  private void sendAddRequest(
-      final ClientStreamRegistration<M> registration, final byte[] request) {
+  private void sendAddRequest(final ClientStreamRegistration<M> registration) {
     if (registration.state() != State.ADDING) {
       return;
     }
 
+    // build the request on every attempt, such that retries carry the current credits
+    final int credits = registration.credits();
+    final var request = BufferUtil.bufferAsArray(addRequest(registration));
     final var pendingRequest =
         communicationService.send(
             StreamTopics.ADD.topic(),
@@ -255,13 +294,13 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
             REQUEST_TIMEOUT);
     registration.setPendingRequest(pendingRequest);
     pendingRequest.whenCompleteAsync(
-        (response, error) -> handleAddResponse(registration, request, response, error),
+        (response, error) -> handleAddResponse(registration, credits, response, error),
         executor::run);
   }
 
   private void handleAddResponse(
       final ClientStreamRegistration<M> registration,
-      final byte[] request,
+      final int grantedCredits,
       final byte[] responseBuffer,
       final Throwable error) {
     final var state = registration.state();
@@ -276,6 +315,10 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
       response = responseDecoder.decode(responseBuffer, new AddStreamResponse());
       if (response.isRight()) {
         registration.transitionToAdded();
+        if (registration.credits() != grantedCredits) {
+          // client streams were added or removed while the request was in flight
+          sendCreditsUpdate(registration);
+        }
         return;
       }
 
@@ -295,7 +338,7 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         registration.serverId(),
         RETRY_DELAY,
         failure);
-    executor.schedule(RETRY_DELAY, () -> sendAddRequest(registration, request));
+    executor.schedule(RETRY_DELAY, () -> sendAddRequest(registration));
   }
 
   private void sendRemoveRequest(
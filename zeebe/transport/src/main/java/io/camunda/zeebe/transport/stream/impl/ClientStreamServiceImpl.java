@@ -42,8 +42,19 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
 
   public ClientStreamServiceImpl(
       final ClusterCommunicationService communicationService, final ClientStreamMetrics metrics) {
+    this(communicationService, metrics, AggregatedClientStream.DEFAULT_CREDITS_PER_CLIENT_STREAM);
+  }
+
+  /**
+   * @param creditsPerClientStream the number of payloads each server may have in flight to a client
+   *     stream at the same time; an aggregated stream gets the credits of all its client streams
+   */
+  public ClientStreamServiceImpl(
+      final ClusterCommunicationService communicationService,
+      final ClientStreamMetrics metrics,
+      final int creditsPerClientStream) {
     this.communicationService = communicationService;
-    registry = new ClientStreamRegistry<>(metrics);
+    registry = new ClientStreamRegistry<>(metrics, creditsPerClientStream);
 
     // ClientStreamRequestManager must use same actor as this because it is mutating shared
     // ClientStream objects.
@@ -62,6 +73,13 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         BufferUtil::bufferAsArray,
         actor::run);
 
+    communicationService.replyToAsync(
+        StreamTopics.PUSH_BATCH.topic(),
+        MessageUtil::parsePushBatchRequest,
+        apiHandler::handlePushBatchRequest,
+        BufferUtil::bufferAsArray,
+        actor::run);
+
     communicationService.replyTo(
         StreamTopics.RESTART_STREAMS.topic(),
         Function.identity(),
@@ -82,8 +82,14 @@ public final class RemoteStreamApiHandler<M> implements CloseableSilently {
       return failedResponse(sender, errorMessage);
     }
 
-    registry.add(new UnsafeBuffer(request.streamType()), request.streamId(), sender, properties);
-    LOG.debug("Opened stream {} from {}", request.streamId(), sender);
+    registry.add(
+        new UnsafeBuffer(request.streamType()),
+        request.streamId(),
+        sender,
+        properties,
+        Math.max(1, request.credits()));
+    LOG.debug(
+        "Opened stream {} from {} with {} credits", request.streamId(), sender, request.credits());
     return addResponseOK;
   }
 
@@ -13,8 +13,11 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,8 +45,8 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
 
   @Override
   public void push(final P payload) {
-    final var initialConsumer = pickInitialConsumer();
-    if (initialConsumer == null) {
+    final var consumers = orderByAvailableCredits(stream.streamConsumers());
+    if (consumers.isEmpty()) {
       errorHandler.handleError(
           new StreamExhaustedException(
               "Failed to push to stream %s, all consumers were removed since it was picked"
@@ -52,25 +55,45 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       return;
     }
 
+    final var initialConsumer = acquireConsumer(consumers.iterator());
+    if (initialConsumer == null) {
+      errorHandler.handleError(
+          new StreamExhaustedException(
+              "Failed to push to stream %s, no consumer has any credits left"
+                  .formatted(stream.logicalId())),
+          payload);
+      return;
+    }
+
     final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    streamer.pushAsync(payload, retryHandler, initialConsumer.id(), initialConsumer.credits());
+  }
+
+  /**
+   * Returns a snapshot of the given consumers, ordered by their available credits, such that the
+   * consumer with the most credits left comes first. Consumers with the same amount of credits,
+   * e.g. all consumers which didn't grant any, are ordered randomly to spread the load.
+   */
+  private List<StreamConsumer<M>> orderByAvailableCredits(
+      final Collection<StreamConsumer<M>> consumers) {
+    // the consumers may be modified concurrently, so copy them first
+    final var ordered = new ArrayList<>(consumers);
+    Collections.shuffle(ordered, ThreadLocalRandom.current());
+    ordered.sort(
+        Comparator.comparingInt((StreamConsumer<M> consumer) -> consumer.credits().available())
+            .reversed());
+    return ordered;
   }
 
-  private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+  /**
+   * Returns the next consumer of which a credit could be acquired, or null if none of them has any
+   * credits left.
+   */
+  private StreamConsumer<M> acquireConsumer(final Iterator<StreamConsumer<M>> consumers) {
+    while (consumers.hasNext()) {
+      final var consumer = consumers.next();
+      if (consumer.credits().tryAcquire()) {
+        return consumer;
       }
     }
 
@@ -90,14 +113,13 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     /** Called the first time a push is retried */
     @Override
     public void handleError(final Throwable error, final P data) {
-      final var consumers = new ArrayList<>(stream.streamConsumers());
+      final var consumers = orderByAvailableCredits(stream.streamConsumers());
       if (consumers.isEmpty()) {
         onConsumersExhausted(error, data);
         return;
       }
 
       consumers.remove(initialConsumer);
-      Collections.shuffle(consumers);
       final var iterator = consumers.iterator();
       retry(error, data, iterator);
     }
@@ -105,15 +127,16 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     /** Called during future retries */
     private void retry(
         final Throwable throwable, final P payload, final Iterator<StreamConsumer<M>> iterator) {
-      if (!iterator.hasNext()) {
+      final var client = acquireConsumer(iterator);
+      if (client == null) {
         onConsumersExhausted(throwable, payload);
         return;
       }
 
-      final var client = iterator.next();
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      streamer.pushAsync(
+          payload, (error, data) -> retry(error, data, iterator), client.id(), client.credits());
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
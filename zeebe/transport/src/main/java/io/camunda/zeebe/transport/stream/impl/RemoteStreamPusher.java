@@ -13,12 +13,19 @@ import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse.Failure;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -29,15 +36,35 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>Payloads for streams whose receiver granted credits are pushed in batches: payloads which are
+ * pushed to the same stream before the pusher's executor gets to send them are coalesced into a
+ * single {@link PushStreamBatchRequest}. Since the number of payloads in flight is bounded by the
+ * credits, batching adds no latency; it only saves requests when payloads are produced faster than
+ * they can be sent. Receivers which don't grant credits receive one request per payload, as they
+ * may not understand batches.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
   private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamPusher.class);
 
+  /** The maximum number of payloads sent with a single batch request. */
+  static final int MAX_BATCH_SIZE = 32;
+
+  /**
+   * The maximum accumulated length of the payloads sent with a single batch request, such that a
+   * batch doesn't come close to the maximum message size of the transport. A single payload which
+   * exceeds it is still sent, as it would be without batching.
+   */
+  static final int MAX_BATCH_LENGTH = 512 * 1024;
+
   private final StreamResponseDecoder responseDecoder = new StreamResponseDecoder();
   private final ThrottledLogger pushErrorLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
   private final ThrottledLogger pushWarnLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
+  // only accessed from the executor
+  private final Map<StreamId, List<PendingPush<P>>> pendingPushes = new HashMap<>();
+
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
@@ -51,13 +78,33 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
   public void pushAsync(
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    pushAsync(payload, errorHandler, streamId, StreamCredits.unlimited());
+  }
+
+  /**
+   * Pushes the payload asynchronously to the given stream. The caller must have acquired a credit
+   * from the given credits beforehand; it is released once the push completes, before the error
+   * handler is called.
+   */
+  public void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final StreamCredits credits) {
     Objects.requireNonNull(errorHandler, "must specify a error handler");
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
-      executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+      final var pendingPush =
+          new PendingPush<>(
+              payload, instrumentingErrorHandler(errorHandler, streamId), streamId, credits);
+      if (credits.isUnlimited()) {
+        executor.execute(() -> push(pendingPush));
+      } else {
+        executor.execute(() -> enqueue(pendingPush));
+      }
     } catch (final Exception e) {
+      credits.release();
       errorHandler.handleError(e, payload);
     }
   }
@@ -103,35 +150,120 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     }
   }
 
-  private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
-    final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
+  private void push(final PendingPush<P> pendingPush) {
+    final var streamId = pendingPush.streamId();
+    final var request =
+        new PushStreamRequest().streamId(streamId.streamId()).payload(pendingPush.payload());
     try {
       transport
           .send(request, streamId.receiver())
-          .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
-      LOG.trace("Pushed {} to stream {}", payload, streamId);
+          .whenCompleteAsync((response, error) -> onPush(pendingPush, response, error), executor);
+      LOG.trace("Pushed {} to stream {}", pendingPush.payload(), streamId);
     } catch (final Exception e) {
-      errorHandler.handleError(e, payload);
+      pendingPush.fail(e);
     }
   }
 
   private void onPush(
-      final P payload,
-      final RemoteStreamErrorHandler<P> errorHandler,
-      final byte[] responseBuffer,
-      final Throwable error) {
+      final PendingPush<P> pendingPush, final byte[] responseBuffer, final Throwable error) {
     if (error != null) {
-      errorHandler.handleError(error, payload);
+      pendingPush.fail(error);
       return;
     }
 
     responseDecoder
         .decode(responseBuffer, new PushStreamResponse())
         .mapLeft(ErrorResponse::asException)
+        .ifRightOrLeft(ok -> succeed(pendingPush), pendingPush::fail);
+  }
+
+  private void enqueue(final PendingPush<P> pendingPush) {
+    final var pushes =
+        pendingPushes.computeIfAbsent(pendingPush.streamId(), id -> new ArrayList<>());
+    pushes.add(pendingPush);
+
+    // flush only after all pushes which were submitted in the meantime were enqueued as well
+    if (pushes.size() == 1) {
+      executor.execute(() -> flush(pendingPush.streamId()));
+    }
+  }
+
+  private void flush(final StreamId streamId) {
+    final var pushes = pendingPushes.remove(streamId);
+    if (pushes == null || pushes.isEmpty()) {
+      return;
+    }
+
+    if (pushes.size() == 1) {
+      push(pushes.getFirst());
+      return;
+    }
+
+    int batchStart = 0;
+    int batchLength = 0;
+    for (int i = 0; i < pushes.size(); i++) {
+      final int payloadLength = pushes.get(i).payload().getLength();
+      final boolean isBatchFull =
+          i - batchStart >= MAX_BATCH_SIZE || batchLength + payloadLength > MAX_BATCH_LENGTH;
+      if (i > batchStart && isBatchFull) {
+        pushBatch(streamId, pushes.subList(batchStart, i));
+        batchStart = i;
+        batchLength = 0;
+      }
+
+      batchLength += payloadLength;
+    }
+
+    pushBatch(streamId, pushes.subList(batchStart, pushes.size()));
+  }
+
+  private void pushBatch(final StreamId streamId, final List<PendingPush<P>> batch) {
+    final var request = new PushStreamBatchRequest().streamId(streamId.streamId());
+    batch.forEach(pendingPush -> request.addPayload(pendingPush.payload()));
+
+    try {
+      transport
+          .sendBatch(request, streamId.receiver())
+          .whenCompleteAsync((response, error) -> onPushBatch(batch, response, error), executor);
+      LOG.trace("Pushed batch of {} payloads to stream {}", batch.size(), streamId);
+    } catch (final Exception e) {
+      batch.forEach(pendingPush -> pendingPush.fail(e));
+    }
+  }
+
+  private void onPushBatch(
+      final List<PendingPush<P>> batch, final byte[] responseBuffer, final Throwable error) {
+    if (error != null) {
+      batch.forEach(pendingPush -> pendingPush.fail(error));
+      return;
+    }
+
+    responseDecoder
+        .decode(responseBuffer, new PushStreamBatchResponse())
         .ifRightOrLeft(
-            ok -> metrics.pushSucceeded(), failure -> errorHandler.handleError(failure, payload));
+            response -> onPushBatchResponse(batch, response),
+            failure -> batch.forEach(pendingPush -> pendingPush.fail(failure.asException())));
+  }
+
+  private void onPushBatchResponse(
+      final List<PendingPush<P>> batch, final PushStreamBatchResponse response) {
+    final var failures = new HashMap<Integer, Failure>();
+    response.failures().forEach(failure -> failures.put(failure.index(), failure));
+
+    for (int i = 0; i < batch.size(); i++) {
+      final var pendingPush = batch.get(i);
+      final var failure = failures.get(i);
+      if (failure == null) {
+        succeed(pendingPush);
+      } else {
+        pendingPush.fail(failure.asErrorResponse().asException());
+      }
+    }
+  }
+
+  private void succeed(final PendingPush<P> pendingPush) {
+    pendingPush.credits().release();
+    metrics.pushSucceeded();
   }
 
   /**
@@ -153,5 +285,31 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch request out to the given receiver. May throw errors, e.g. serialization
+     * errors.
+     *
+     * @param request the batch request to send
+     * @param receiver the expected target
+     * @return a future which is completed when the request has been acknowledged by the receiver,
+     *     or an error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception;
+  }
+
+  /** A payload to push, with the error handler to call if it fails. */
+  private record PendingPush<P extends BufferWriter>(
+      P payload,
+      RemoteStreamErrorHandler<P> errorHandler,
+      StreamId streamId,
+      StreamCredits credits) {
+
+    private void fail(final Throwable error) {
+      credits.release();
+      errorHandler.handleError(error, payload);
+    }
   }
 }
@@ -14,6 +14,7 @@ import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -56,7 +57,7 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher = new RemoteStreamPusher<>(new PushTransport(), actor::run, metrics);
   }
 
   @Override
@@ -80,8 +81,10 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    // skip streams whose consumers have no credits left; the payload would only be rejected, and
+    // leaving it to the producer is cheaper than pushing it and handling the failure afterward
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
+      if (target.hasAvailableCredits()) {
         return Optional.of(target);
       }
     }
@@ -98,4 +101,30 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
         receiver,
         REQUEST_TIMEOUT);
   }
+
+  private CompletableFuture<byte[]> sendBatch(
+      final PushStreamBatchRequest request, final MemberId receiver) {
+    return transport.send(
+        StreamTopics.PUSH_BATCH.topic(),
+        request,
+        BufferUtil::bufferAsArray,
+        Function.identity(),
+        receiver,
+        REQUEST_TIMEOUT);
+  }
+
+  private final class PushTransport implements RemoteStreamPusher.Transport {
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamRequest request, final MemberId receiver) {
+      return RemoteStreamerImpl.this.send(request, receiver);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return RemoteStreamerImpl.this.sendBatch(request, receiver);
+    }
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks how many payloads are in flight on a stream, against the number of credits which the
+ * receiver granted for it. A credit is acquired before a payload is pushed, and released once the
+ * push completed, successfully or not. Since only in-flight pushes are counted, a lost response
+ * can't leak credits, as every push eventually completes or times out.
+ *
+ * <p>Receivers which don't grant credits have {@link AddStreamRequest#UNLIMITED_CREDITS}; pushing
+ * to them is never limited, and they don't support pushing batches of payloads either.
+ *
+ * <p>This class is thread safe, as payloads are pushed from the producer's thread, but the pushes
+ * complete on the transport's thread.
+ */
+final class StreamCredits {
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+
+  StreamCredits(final int limit) {
+    this.limit = limit;
+  }
+
+  static StreamCredits unlimited() {
+    return new StreamCredits(AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
+  /**
+   * Acquires a credit, if any is available.
+   *
+   * @return true if a credit was acquired, false otherwise
+   */
+  boolean tryAcquire() {
+    if (isUnlimited()) {
+      return true;
+    }
+
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= limit) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+
+    return true;
+  }
+
+  /** Releases a credit previously acquired via {@link #tryAcquire()}. */
+  void release() {
+    if (!isUnlimited()) {
+      inFlight.updateAndGet(current -> Math.max(0, current - 1));
+    }
+  }
+
+  /** Returns the number of payloads which can still be pushed before the limit is reached. */
+  int available() {
+    return isUnlimited() ? AddStreamRequest.UNLIMITED_CREDITS : Math.max(0, limit - inFlight.get());
+  }
+
+  /**
+   * Updates the number of credits granted by the receiver, e.g. when a client was added to or
+   * removed from the receiver's stream. Payloads which are in flight still count against the new
+   * limit.
+   */
+  void update(final int limit) {
+    this.limit = limit;
+  }
+
+  /** Returns true if the receiver granted credits, and thus supports batches of payloads. */
+  boolean isUnlimited() {
+    return limit == AddStreamRequest.UNLIMITED_CREDITS;
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCredits{" + "limit=" + limit + ", inFlight=" + inFlight.get() + '}';
+  }
+}
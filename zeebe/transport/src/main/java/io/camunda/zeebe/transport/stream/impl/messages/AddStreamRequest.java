@@ -18,6 +18,13 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class AddStreamRequest implements BufferReader, BufferWriter {
+
+  /**
+   * The credits of a stream which was added by a gateway which doesn't grant credits, i.e. any
+   * number of payloads may be in flight on it.
+   */
+  public static final int UNLIMITED_CREDITS = Integer.MAX_VALUE;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
@@ -27,6 +34,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   private final DirectBuffer streamType = new UnsafeBuffer();
 
   private UUID streamId;
+  private int credits = UNLIMITED_CREDITS;
   private final DirectBuffer metadataReader = new UnsafeBuffer();
   private BufferWriter metadataWriter = new DirectBufferWriter().wrap(metadataReader);
 
@@ -37,6 +45,12 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     messageDecoder.wrapMetadata(metadataReader);
     metadataWriter = new DirectBufferWriter().wrap(metadataReader);
     streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    final int decodedCredits = messageDecoder.credits();
+    credits =
+        decodedCredits == AddStreamRequestDecoder.creditsNullValue()
+            ? UNLIMITED_CREDITS
+            : decodedCredits;
   }
 
   @Override
@@ -53,6 +67,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   public void write(final MutableDirectBuffer buffer, final int offset) {
     messageEncoder
         .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .credits(credits)
         .putStreamType(streamType, 0, streamType.capacity());
 
     SbeUtil.writeNested(
@@ -103,9 +118,22 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     return this;
   }
 
+  /**
+   * Returns the number of payloads which may be in flight on the stream at the same time, or {@link
+   * #UNLIMITED_CREDITS} if the sender didn't grant any credits.
+   */
+  public int credits() {
+    return credits;
+  }
+
+  public AddStreamRequest credits(final int credits) {
+    this.credits = credits;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(streamType, metadataReader, streamId);
+    return Objects.hash(streamType, metadataReader, streamId, credits);
   }
 
   @Override
@@ -121,7 +149,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     final AddStreamRequest that = (AddStreamRequest) o;
     return streamType.equals(that.streamType)
         && metadataReader.equals(that.metadataReader)
-        && Objects.equals(streamId, that.streamId);
+        && Objects.equals(streamId, that.streamId)
+        && credits == that.credits;
   }
 
   @Override
@@ -133,6 +162,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
         + metadataReader
         + ", streamId="
         + streamId
+        + ", credits="
+        + credits
         + '}';
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseDecoder.FailuresDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseEncoder.FailuresEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Result of pushing a {@link PushStreamBatchRequest}. Lists the payloads which could not be pushed,
+ * by their index in the request; all other payloads were pushed successfully.
+ */
+public final class PushStreamBatchResponse implements BufferReader, StreamResponse {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchResponseEncoder messageEncoder =
+      new PushStreamBatchResponseEncoder();
+  private final PushStreamBatchResponseDecoder messageDecoder =
+      new PushStreamBatchResponseDecoder();
+
+  private final List<Failure> failures = new ArrayList<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    failures.clear();
+    for (final FailuresDecoder decoder : messageDecoder.failures()) {
+      failures.add(new Failure(decoder.index(), decoder.code(), decoder.message()));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    final var failuresLength =
+        failures.stream()
+            .mapToInt(
+                failure ->
+                    FailuresEncoder.sbeBlockLength()
+                        + FailuresEncoder.messageHeaderLength()
+                        + failure.messageBytes().length)
+            .sum();
+
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + FailuresEncoder.sbeHeaderSize()
+        + failuresLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var failuresEncoder = messageEncoder.failuresCount(failures.size());
+    for (final Failure failure : failures) {
+      final var messageBytes = failure.messageBytes();
+      failuresEncoder
+          .next()
+          .index(failure.index())
+          .code(failure.code())
+          .putMessage(messageBytes, 0, messageBytes.length);
+    }
+  }
+
+  @Override
+  public int templateId() {
+    return messageDecoder.sbeTemplateId();
+  }
+
+  public List<Failure> failures() {
+    return failures;
+  }
+
+  public PushStreamBatchResponse addFailure(
+      final int index, final ErrorCode code, final String message) {
+    failures.add(new Failure(index, code, message));
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(failures);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchResponse that = (PushStreamBatchResponse) o;
+    return failures.equals(that.failures);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchResponse{" + "failures=" + failures + '}';
+  }
+
+  /**
+   * A payload which could not be pushed.
+   *
+   * @param index the index of the payload in the request
+   * @param code the reason why it could not be pushed
+   * @param message a human-readable description of the failure
+   */
+  public record Failure(int index, ErrorCode code, String message) {
+
+    /** Returns an error response equivalent to pushing the payload in a single request. */
+    public ErrorResponse asErrorResponse() {
+      return new ErrorResponse().code(code).message(message);
+    }
+
+    private byte[] messageBytes() {
+      return message.getBytes(StandardCharsets.UTF_8);
+    }
+  }
+}
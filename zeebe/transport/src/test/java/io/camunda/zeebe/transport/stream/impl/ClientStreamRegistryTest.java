@@ -38,6 +38,21 @@ final class ClientStreamRegistryTest {
     assertThat(metrics.getClientCount()).isEqualTo(3);
   }
 
+  @Test
+  void shouldGrantConfiguredCreditsPerClientStream() {
+    // given
+    final var metadata = new TestSerializableData();
+    final var registry = new ClientStreamRegistry<TestSerializableData>(metrics, 8);
+
+    // when
+    registry.addClient(BufferUtil.wrapString("foo"), metadata, CLIENT_STREAM_CONSUMER);
+    final var clientStream =
+        registry.addClient(BufferUtil.wrapString("foo"), metadata, CLIENT_STREAM_CONSUMER);
+
+    // then
+    assertThat(clientStream.serverStream().credits()).isEqualTo(16);
+  }
+
   @Test
   void shouldReportStreamCountOnRemove() {
     // given - 2 aggregated streams, bar and food
@@ -16,6 +16,7 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -98,6 +99,54 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldPushToConsumerWithMostAvailableCredits() {
+    // given
+    final var logicalId = new LogicalId<>(streamType, properties);
+    final var consumer =
+        new StreamConsumer<>(
+            new StreamId(UUID.randomUUID(), MemberId.anonymous()),
+            logicalId,
+            new StreamCredits(Integer.MAX_VALUE - 1));
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(
+        new StreamConsumer<>(
+            new StreamId(UUID.randomUUID(), MemberId.anonymous()),
+            logicalId,
+            new StreamCredits(1)));
+    aggregatedStream.addConsumer(consumer);
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(consumer.id().streamId());
+  }
+
+  @Test
+  void shouldFailIfNoConsumerHasCredits() {
+    // given
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    final var credits = new StreamCredits(1);
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(
+        new StreamConsumer<>(
+            new StreamId(UUID.randomUUID(), MemberId.anonymous()),
+            new LogicalId<>(streamType, properties),
+            credits));
+    credits.tryAcquire();
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).isEmpty();
+    assertThat(aggregatedStream.hasAvailableCredits()).isFalse();
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
@@ -119,5 +168,12 @@ class RemoteStreamImplTest {
       }
       return CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
     }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      attemptedStreams.add(request.streamId());
+      return CompletableFuture.failedFuture(new RuntimeException("force fail"));
+    }
   }
 }
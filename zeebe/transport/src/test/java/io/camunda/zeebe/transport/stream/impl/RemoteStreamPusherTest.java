@@ -17,16 +17,20 @@ import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.MutableDirectBuffer;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.condition.VerboseCondition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -128,6 +132,44 @@ final class RemoteStreamPusherTest {
         .isInstanceOf(NullPointerException.class);
   }
 
+  @Test
+  void shouldPushPayloadsWithCreditsInBatch() {
+    // given
+    final var pendingTasks = new ArrayDeque<Runnable>();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, pendingTasks::add, metrics);
+    final var credits = new StreamCredits(3);
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchResponse().addFailure(1, ErrorCode.BLOCKED, "blocked")));
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      assertThat(credits.tryAcquire()).isTrue();
+      batchingPusher.pushAsync(new Payload(i), errorHandler, streamId, credits);
+    }
+    while (!pendingTasks.isEmpty()) {
+      pendingTasks.poll().run();
+    }
+
+    // then
+    assertThat(transport.message).isNull();
+    assertThat(transport.batchMessage).isNotNull();
+    assertThat(transport.batchMessage.request.payloadCount()).isEqualTo(3);
+    assertThat(transport.batchMessage.receiver).isEqualTo(streamId.receiver());
+    assertThat(errorHandler.errors)
+        .singleElement()
+        .satisfies(error -> assertThat(error.payload()).isEqualTo(new Payload(1)))
+        .extracting(TestErrorHandler.Error::error)
+        .asInstanceOf(InstanceOfAssertFactories.type(StreamResponseException.class))
+        .extracting(StreamResponseException::code)
+        .isEqualTo(ErrorCode.BLOCKED);
+    assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+    assertThat(credits.available()).isEqualTo(3);
+  }
+
   @ParameterizedTest
   @EnumSource(
       value = ErrorCode.class,
@@ -179,7 +221,10 @@ final class RemoteStreamPusherTest {
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private CompletableFuture<byte[]> batchResponse =
+        CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
     private Message message;
+    private BatchMessage batchMessage;
     private Exception synchronousException;
 
     @Override
@@ -193,6 +238,15 @@ final class RemoteStreamPusherTest {
       return response;
     }
 
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      batchMessage = new BatchMessage(request, receiver);
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record BatchMessage(PushStreamBatchRequest request, MemberId receiver) {}
   }
 }
@@ -66,6 +66,26 @@ final class SerializationTest {
     assertThat(deserialized.metadata()).isEqualTo(BufferUtil.wrapString("bar"));
   }
 
+  @Test
+  void shouldSerializeAddStreamRequestCredits() {
+    // given
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(BufferUtil.wrapString("foo"))
+            .metadata(BufferUtil.wrapString("bar"))
+            .credits(64);
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new AddStreamRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(64);
+    assertThat(deserialized.metadata()).isEqualTo(BufferUtil.wrapString("bar"));
+  }
+
   @Test
   void shouldSerializeAddStreamResponse() {
     // given
@@ -140,6 +160,48 @@ final class SerializationTest {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+    assertThat(deserialized.getLength()).isEqualTo(request.getLength());
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse()
+            .addFailure(1, ErrorCode.BLOCKED, "foo")
+            .addFailure(3, ErrorCode.NOT_FOUND, "bar");
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.failures())
+        .containsExactly(
+            new PushStreamBatchResponse.Failure(1, ErrorCode.BLOCKED, "foo"),
+            new PushStreamBatchResponse.Failure(3, ErrorCode.NOT_FOUND, "bar"));
+  }
+
   @Test
   void shouldSerializeErrorResponse() {
     // given
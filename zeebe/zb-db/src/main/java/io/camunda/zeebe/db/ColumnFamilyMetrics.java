@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  /** Counts a point lookup which was served by the column family cache. */
+  void cacheHit();
+
+  /** Counts a point lookup which missed the column family cache and went to the database. */
+  void cacheMiss();
 }
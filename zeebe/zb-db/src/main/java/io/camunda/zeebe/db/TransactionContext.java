@@ -34,4 +34,15 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is notified once the current transaction is committed or rolled
+   * back. This allows to keep in-memory state derived from the database coherent with it.
+   *
+   * <p>If no transaction is running, the preceding operations were already committed on their own,
+   * and the listener is notified of the commit immediately.
+   *
+   * @param listener the listener to notify when the current transaction ends
+   */
+  void addTransactionListener(TransactionListener listener);
 }
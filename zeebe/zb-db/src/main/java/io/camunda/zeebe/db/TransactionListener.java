@@ -0,0 +1,22 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Notified once the transaction it was added to via {@link
+ * TransactionContext#addTransactionListener} ends. Listeners are removed afterward, and must be
+ * added again for the next transaction.
+ */
+public interface TransactionListener {
+
+  /** Called after the transaction was successfully committed. */
+  void onCommit();
+
+  /** Called after the transaction was rolled back, or failed to commit. */
+  void onRollback();
+}
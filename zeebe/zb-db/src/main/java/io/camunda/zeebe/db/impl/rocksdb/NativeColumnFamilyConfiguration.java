@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Tuning options of a single native RocksDB column family, used when {@link
+ * RocksDbConfiguration#isNativeColumnFamiliesEnabled()} maps the logical column families to their
+ * own native column families. Anything not configured here is shared with the default column family
+ * options.
+ */
+public final class NativeColumnFamilyConfiguration {
+
+  /**
+   * Every key starts with the 8 byte logical column family prefix, so by default the prefix
+   * extractor only covers that.
+   */
+  public static final int DEFAULT_PREFIX_LENGTH = Long.BYTES;
+
+  public static final double DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+  public static final CompactionStyle DEFAULT_COMPACTION_STYLE = CompactionStyle.LEVEL;
+  public static final Duration DEFAULT_TTL = Duration.ZERO;
+
+  /**
+   * Length of the fixed prefix extractor, including the 8 bytes of the logical column family
+   * prefix. Families which are mostly iterated by a composite key prefix (e.g. the element instance
+   * parent/child index) can extend it to the length of the first key part, such that prefix bloom
+   * filters can skip more files. Only extend it if every prefix iteration over the family uses a
+   * prefix at least this long, as shorter seek keys are outside the prefix extractor's domain.
+   */
+  private int prefixLength = DEFAULT_PREFIX_LENGTH;
+
+  /** Bits per key of the bloom filter; point-lookup heavy families profit from more bits. */
+  private double bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+
+  private CompactionStyle compactionStyle = DEFAULT_COMPACTION_STYLE;
+
+  /**
+   * SST files older than this are picked for compaction, even if their level does not require it.
+   * This does not expire any data, but helps reclaiming space of tombstones in append-only
+   * families, e.g. job deadlines or timer due dates. Zero (the default) disables it.
+   */
+  private Duration ttl = DEFAULT_TTL;
+
+  public int getPrefixLength() {
+    return prefixLength;
+  }
+
+  public NativeColumnFamilyConfiguration setPrefixLength(final int prefixLength) {
+    if (prefixLength < DEFAULT_PREFIX_LENGTH) {
+      throw new IllegalArgumentException(
+          "Expected prefix length to cover at least the column family prefix of %d bytes, but was %d"
+              .formatted(DEFAULT_PREFIX_LENGTH, prefixLength));
+    }
+    this.prefixLength = prefixLength;
+    return this;
+  }
+
+  public double getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public NativeColumnFamilyConfiguration setBloomFilterBitsPerKey(
+      final double bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public NativeColumnFamilyConfiguration setCompactionStyle(final CompactionStyle compactionStyle) {
+    this.compactionStyle = Objects.requireNonNull(compactionStyle);
+    return this;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public NativeColumnFamilyConfiguration setTtl(final Duration ttl) {
+    this.ttl = Objects.requireNonNull(ttl);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "NativeColumnFamilyConfiguration{"
+        + "prefixLength="
+        + prefixLength
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", compactionStyle="
+        + compactionStyle
+        + ", ttl="
+        + ttl
+        + '}';
+  }
+
+  /**
+   * The compaction styles which are safe to use for engine state. FIFO compaction is deliberately
+   * not supported, as it drops data regardless of whether it is still referenced.
+   */
+  public enum CompactionStyle {
+    LEVEL(org.rocksdb.CompactionStyle.LEVEL),
+    UNIVERSAL(org.rocksdb.CompactionStyle.UNIVERSAL);
+
+    private final org.rocksdb.CompactionStyle rocksDbStyle;
+
+    CompactionStyle(final org.rocksdb.CompactionStyle rocksDbStyle) {
+      this.rocksDbStyle = rocksDbStyle;
+    }
+
+    org.rocksdb.CompactionStyle toRocksDbStyle() {
+      return rocksDbStyle;
+    }
+  }
+}
@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +47,17 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * When disabled (the default), all logical column families share the default RocksDB column
+   * family and are only separated by their key prefix. When enabled, each logical column family is
+   * stored in its own native column family (or the one of its group, see {@link
+   * #setNativeColumnFamilyGroups(Map)}), which can then be tuned individually. Existing data is
+   * migrated in both directions when the database is opened with a different layout.
+   */
+  public static final boolean DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED = false;
+
+  public static final long DEFAULT_COLUMN_FAMILY_CACHE_SIZE = 8 * 1024 * 1024L;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -52,6 +67,28 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  private boolean nativeColumnFamiliesEnabled = DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+
+  /**
+   * Maps the name of a logical column family to the name of the native column family it is stored
+   * in. Logical column families which are not mapped are stored in a native column family of their
+   * own name.
+   */
+  private Map<String, String> nativeColumnFamilyGroups = new HashMap<>();
+
+  /** Options per native column family name; unconfigured families use the defaults. */
+  private Map<String, NativeColumnFamilyConfiguration> nativeColumnFamilyOptions = new HashMap<>();
+
+  /**
+   * Names of the logical column families whose values are cached in memory, in front of RocksDB.
+   * Useful for column families which are read and rewritten many times while they are alive, e.g.
+   * element instances, variables or jobs. Empty by default.
+   */
+  private Set<String> cachedColumnFamilies = new HashSet<>();
+
+  /** Upper bound of the memory used by the cache of each cached column family. */
+  private long columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -155,4 +192,73 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isNativeColumnFamiliesEnabled() {
+    return nativeColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamiliesEnabled(
+      final boolean nativeColumnFamiliesEnabled) {
+    this.nativeColumnFamiliesEnabled = nativeColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<String, String> getNativeColumnFamilyGroups() {
+    return nativeColumnFamilyGroups;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamilyGroups(
+      final Map<String, String> nativeColumnFamilyGroups) {
+    this.nativeColumnFamilyGroups = nativeColumnFamilyGroups;
+    return this;
+  }
+
+  public Map<String, NativeColumnFamilyConfiguration> getNativeColumnFamilyOptions() {
+    return nativeColumnFamilyOptions;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamilyOptions(
+      final Map<String, NativeColumnFamilyConfiguration> nativeColumnFamilyOptions) {
+    this.nativeColumnFamilyOptions = nativeColumnFamilyOptions;
+    return this;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public long getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSize(final long columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+    return this;
+  }
+
+  public boolean isColumnFamilyCached(final Enum<?> logicalColumnFamily) {
+    return columnFamilyCacheSize > 0 && cachedColumnFamilies.contains(logicalColumnFamily.name());
+  }
+
+  /**
+   * @return the name of the native column family the given logical column family is stored in
+   */
+  public String getNativeColumnFamilyName(final Enum<?> logicalColumnFamily) {
+    return nativeColumnFamilyGroups.getOrDefault(
+        logicalColumnFamily.name(), logicalColumnFamily.name());
+  }
+
+  /**
+   * @return the configuration of the given native column family, or the defaults if there is none
+   */
+  public NativeColumnFamilyConfiguration getNativeColumnFamilyConfiguration(
+      final String nativeColumnFamilyName) {
+    final var configuration = nativeColumnFamilyOptions.get(nativeColumnFamilyName);
+    return configuration != null ? configuration : new NativeColumnFamilyConfiguration();
+  }
 }
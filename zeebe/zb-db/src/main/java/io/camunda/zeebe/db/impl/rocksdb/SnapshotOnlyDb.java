@@ -13,13 +13,19 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -83,10 +89,34 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
 
   static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDb<ColumnFamilyType> openDb(
-          final Options options, final String path, final List<AutoCloseable> managedResources)
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    // every column family must be opened, otherwise its files are not part of the checkpoint
+    final List<byte[]> names;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      names = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    if (names.isEmpty()) {
+      // nothing to list if the database doesn't exist; let RocksDB fail on open instead
+      descriptors.add(
+          new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    }
+    for (final var name : names) {
+      final var cfOptions =
+          Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY)
+              ? options.cfOptions()
+              : options.nativeCfOptions().apply(new String(name, StandardCharsets.UTF_8));
+      descriptors.add(new ColumnFamilyDescriptor(name, cfOptions));
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(options.dbOptions(), path, descriptors, handles);
     managedResources.add(db);
+    managedResources.addAll(handles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
@@ -24,6 +24,7 @@ import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -32,7 +33,6 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -40,6 +40,7 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
@@ -84,7 +85,7 @@ public final class ZeebeRocksDbFactory<
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources);
     final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
+        new DBOptions(options.dbOptions())
             // only open existing databases
             .setCreateIfMissing(false)
             // this can slow down open significantly if there are many SST files
@@ -93,7 +94,9 @@ public final class ZeebeRocksDbFactory<
 
     try {
       return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+          new RocksDbOptions(snapshotOnlyOptions, options.cfOptions(), options.nativeCfOptions()),
+          pathName.getAbsolutePath(),
+          managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -103,11 +106,77 @@ public final class ZeebeRocksDbFactory<
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var blockCache = hasUserColumnFamilyOptions() ? null : createBlockCache(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache);
     managedResources.add(columnFamilyOptions);
     final var dbOptions = createDefaultDbOptions(managedResources);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+
+    if (!rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      // native column families may still exist from a previous layout; they are only opened to
+      // migrate their data back into the default column family, so the default options suffice
+      return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    }
+
+    // with many native column families, every flush must be atomic across all of them to take
+    // consistent checkpoints, since the WAL is usually disabled
+    dbOptions.setAtomicFlush(true);
+
+    if (blockCache != null) {
+      // every native column family has its own memtables, so limit their total memory to the
+      // same budget a single column family would use, and charge it against the block cache
+      final var writeBufferManager =
+          new WriteBufferManager(
+              columnFamilyOptions.writeBufferSize() * columnFamilyOptions.maxWriteBufferNumber(),
+              blockCache);
+      managedResources.add(writeBufferManager);
+      dbOptions.setWriteBufferManager(writeBufferManager);
+    }
+
+    return new RocksDbOptions(
+        dbOptions,
+        columnFamilyOptions,
+        name -> {
+          final List<AutoCloseable> resources = new ArrayList<>();
+          final var options =
+              createNativeColumnFamilyOptions(name, columnFamilyOptions, blockCache, resources);
+          resources.add(options);
+          // native column families may be created after the database was opened, but their
+          // options must still be closed after it
+          managedResources.addAll(0, resources);
+          return options;
+        });
+  }
+
+  /**
+   * Creates the options of a native column family, based on the options of the default column
+   * family and the {@link NativeColumnFamilyConfiguration} for the given name. If the default
+   * options use a block cache, it's shared with the new table config, such that the memory limit
+   * still applies to all column families together.
+   */
+  ColumnFamilyOptions createNativeColumnFamilyOptions(
+      final String name,
+      final ColumnFamilyOptions defaultOptions,
+      final Cache blockCache,
+      final List<AutoCloseable> closeables) {
+    final var configuration = rocksDbConfiguration.getNativeColumnFamilyConfiguration(name);
+    final var options =
+        new ColumnFamilyOptions(defaultOptions)
+            .useFixedLengthPrefixExtractor(configuration.getPrefixLength())
+            .setCompactionStyle(configuration.getCompactionStyle().toRocksDbStyle())
+            .setTtl(configuration.getTtl().toSeconds());
+
+    if (blockCache != null) {
+      options.setTableFormatConfig(
+          createTableFormatConfig(
+              closeables, blockCache, configuration.getBloomFilterBitsPerKey()));
+    }
+
+    return options;
+  }
+
+  private boolean hasUserColumnFamilyOptions() {
+    return !rocksDbConfiguration.getColumnFamilyOptions().isEmpty();
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
@@ -123,7 +192,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // native column families are created explicitly when they are first used
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -162,14 +231,17 @@ public final class ZeebeRocksDbFactory<
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
-    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
-    final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
+    return createColumnFamilyOptions(
+        closeables, hasUserColumnFamilyOptions() ? null : createBlockCache(closeables));
+  }
 
-    if (hasUserOptions) {
-      return createFromUserOptions(userProvidedColumnFamilyOptions);
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
+    if (hasUserColumnFamilyOptions()) {
+      return createFromUserOptions(rocksDbConfiguration.getColumnFamilyOptions());
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(closeables, blockCache);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -189,13 +261,11 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = blockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -213,7 +283,11 @@ public final class ZeebeRocksDbFactory<
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig =
+        createTableFormatConfig(
+            closeables,
+            blockCache,
+            NativeColumnFamilyConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
@@ -269,14 +343,23 @@ public final class ZeebeRocksDbFactory<
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private long blockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private Cache createBlockCache(final List<AutoCloseable> closeables) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(blockCacheMemory(), 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
-    final var filter = new BloomFilter(10, false);
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final Cache cache, final double bloomFilterBitsPerKey) {
+    final var filter = new BloomFilter(bloomFilterBitsPerKey, false);
     closeables.add(filter);
 
     return new BlockBasedTableConfig()
@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamilyMetrics;
+import io.camunda.zeebe.db.TransactionListener;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, write-through cache of the serialized values of a single logical column family. It is
+ * shared by all {@link TransactionalColumnFamily} instances of that column family in a database,
+ * such that writes through any of them keep it coherent.
+ *
+ * <p>The cache has two layers:
+ *
+ * <ul>
+ *   <li>the committed layer, an LRU map which only ever contains committed values, bounded by the
+ *       total size of its keys and values
+ *   <li>a pending layer per transaction, containing the values written (or deleted) within that
+ *       transaction; it is merged into the committed layer on commit, and discarded on rollback
+ * </ul>
+ *
+ * Reads first check the pending layer of the current transaction, then the committed layer. On a
+ * miss, the caller reads from RocksDB and may {@link #populate} the committed layer, which is only
+ * done when the key was not written in the current transaction, as then the value read is the
+ * committed one.
+ *
+ * <p>As reading from RocksDB and populating the cache is not atomic, another transaction may commit
+ * a new value of the key in between, which would then be overwritten by the stale value read
+ * before. The cache therefore has a version, which is increased whenever a transaction which wrote
+ * to the column family is committed. Callers take the {@link #getVersion() version} before reading
+ * from RocksDB, and the value read is only populated if no such commit happened since.
+ *
+ * <p>Values are kept serialized, as the value instances of column families are mutable flyweights
+ * which callers modify in place; a hit saves the RocksDB lookup, while the value is still decoded
+ * by wrapping the cached bytes.
+ */
+final class ColumnFamilyCache {
+
+  /** Returned by {@link #get} if the key was deleted in the current transaction. */
+  static final byte[] ABSENT = new byte[0];
+
+  // rough per-entry overhead of the map entry, the key buffer and the arrays' headers
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final long maxSizeInBytes;
+  private final ColumnFamilyMetrics metrics;
+  private final LinkedHashMap<DirectBuffer, byte[]> committed =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<ZeebeTransaction, Map<DirectBuffer, byte[]>> pendingWrites = new HashMap<>();
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private long sizeInBytes;
+  private long version;
+
+  ColumnFamilyCache(final long maxSizeInBytes, final ColumnFamilyMetrics metrics) {
+    this.maxSizeInBytes = maxSizeInBytes;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the cached value, {@link #ABSENT} if the key was deleted in the given transaction, or
+   *     null if the value is unknown and must be read from the database
+   */
+  synchronized byte[] get(final ZeebeTransaction transaction, final byte[] key, final int length) {
+    lookupKey.wrap(key, 0, length);
+
+    final var pending = pendingWrites.get(transaction);
+    byte[] value = pending != null ? pending.get(lookupKey) : null;
+    if (value == null) {
+      value = committed.get(lookupKey);
+    }
+
+    if (value != null) {
+      metrics.cacheHit();
+    } else {
+      metrics.cacheMiss();
+    }
+    return value;
+  }
+
+  /**
+   * @return the current version of the cache, which must be taken before reading a value from the
+   *     database that is {@link #populate populated} afterward
+   */
+  synchronized long getVersion() {
+    return version;
+  }
+
+  /**
+   * Caches a value which was read from the database within the given transaction, unless another
+   * transaction committed writes to the column family since the given version was taken.
+   */
+  synchronized void populate(
+      final ZeebeTransaction transaction,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength,
+      final long readVersion) {
+    if (readVersion != version) {
+      // the value read may have been overwritten by the commit in the meantime
+      return;
+    }
+
+    lookupKey.wrap(key, 0, keyLength);
+    final var pending = pendingWrites.get(transaction);
+    if (pending != null && pending.containsKey(lookupKey)) {
+      // the value read includes uncommitted changes, so it must not end up in the committed layer
+      return;
+    }
+
+    putCommitted(copyKey(key, keyLength), copyValue(value, valueLength));
+  }
+
+  /** Records a value written within the given transaction. */
+  synchronized void write(
+      final ZeebeTransaction transaction,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    pendingWrites(transaction).put(copyKey(key, keyLength), copyValue(value, valueLength));
+  }
+
+  /** Records a key deleted within the given transaction. */
+  synchronized void delete(final ZeebeTransaction transaction, final byte[] key, final int length) {
+    pendingWrites(transaction).put(copyKey(key, length), ABSENT);
+  }
+
+  synchronized long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  private Map<DirectBuffer, byte[]> pendingWrites(final ZeebeTransaction transaction) {
+    return pendingWrites.computeIfAbsent(
+        transaction,
+        tx -> {
+          tx.addListener(
+              new TransactionListener() {
+                @Override
+                public void onCommit() {
+                  commit(tx);
+                }
+
+                @Override
+                public void onRollback() {
+                  rollback(tx);
+                }
+              });
+          return new HashMap<>();
+        });
+  }
+
+  private synchronized void commit(final ZeebeTransaction transaction) {
+    final var pending = pendingWrites.remove(transaction);
+    if (pending == null) {
+      return;
+    }
+
+    version++;
+    for (final var write : pending.entrySet()) {
+      if (write.getValue() == ABSENT) {
+        removeCommitted(write.getKey());
+      } else {
+        putCommitted(write.getKey(), write.getValue());
+      }
+    }
+  }
+
+  private synchronized void rollback(final ZeebeTransaction transaction) {
+    pendingWrites.remove(transaction);
+  }
+
+  private void putCommitted(final DirectBuffer key, final byte[] value) {
+    final var previous = committed.put(key, value);
+    if (previous != null) {
+      sizeInBytes -= entrySize(key, previous);
+    }
+    sizeInBytes += entrySize(key, value);
+
+    final var iterator = committed.entrySet().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      final Entry<DirectBuffer, byte[]> eldest = iterator.next();
+      sizeInBytes -= entrySize(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  private void removeCommitted(final DirectBuffer key) {
+    final var previous = committed.remove(key);
+    if (previous != null) {
+      sizeInBytes -= entrySize(key, previous);
+    }
+  }
+
+  private static long entrySize(final DirectBuffer key, final byte[] value) {
+    return key.capacity() + value.length + ENTRY_OVERHEAD;
+  }
+
+  private static DirectBuffer copyKey(final byte[] key, final int length) {
+    final var copy = new byte[length];
+    System.arraycopy(key, 0, copy, 0, length);
+    return new UnsafeBuffer(copy);
+  }
+
+  private static byte[] copyValue(final byte[] value, final int length) {
+    final var copy = new byte[length];
+    System.arraycopy(value, 0, copy, 0, length);
+    return copy;
+  }
+}
@@ -25,6 +25,8 @@ public class ColumnFamilyContext {
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
   private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+  // point lookups read into this buffer, such that they don't allocate a new array per get
+  private final ExpandableArrayBuffer readValueBuffer = new ExpandableArrayBuffer();
 
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
@@ -89,6 +91,25 @@ public class ColumnFamilyContext {
     }
   }
 
+  ExpandableArrayBuffer getReadValueBuffer() {
+    return readValueBuffer;
+  }
+
+  /**
+   * Wraps the value view around the first {@code valueLength} bytes of the read value buffer, which
+   * was previously filled by {@link ZeebeTransaction#get(org.rocksdb.ReadOptions,
+   * org.rocksdb.ColumnFamilyHandle, byte[], int, ExpandableArrayBuffer)}.
+   *
+   * @param valueLength the length of the value read, or a negative value if none was found
+   */
+  void wrapReadValueView(final int valueLength) {
+    if (valueLength >= 0) {
+      valueViewBuffer.wrap(readValueBuffer.byteArray(), 0, valueLength);
+    } else {
+      valueViewBuffer.wrap(ZERO_SIZE_ARRAY);
+    }
+  }
+
   public DirectBuffer getValueView() {
     return isValueViewEmpty() ? null : valueViewBuffer;
   }
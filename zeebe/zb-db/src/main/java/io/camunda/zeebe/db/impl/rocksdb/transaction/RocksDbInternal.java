@@ -36,6 +36,7 @@ public final class RocksDbInternal {
 
   static MethodHandle putWithHandle;
   static MethodHandle getWithHandle;
+  static MethodHandle getIntoWithHandle;
   static MethodHandle removeWithHandle;
 
   static {
@@ -53,6 +54,7 @@ public final class RocksDbInternal {
 
     putWithHandle();
     getWithHandle();
+    getIntoWithHandle();
     removeWithHandle();
   }
 
@@ -104,6 +106,33 @@ public final class RocksDbInternal {
     }
   }
 
+  /*
+   private static native int get(final long handle, final long readOptionsHandle,
+      final byte[] key, final int keyOffset, final int keyLength, final byte[] value,
+      final int valueOffset, final int valueLength, final long columnFamilyHandle)
+      throws RocksDBException;
+  */
+  private static void getIntoWithHandle() throws NoSuchMethodException {
+    final var method =
+        Transaction.class.getDeclaredMethod(
+            "get",
+            Long.TYPE,
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Integer.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Integer.TYPE,
+            Long.TYPE);
+    method.setAccessible(true);
+    try {
+      getIntoWithHandle = MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private static void removeWithHandle() throws NoSuchMethodException {
     final var method =
         Transaction.class.getDeclaredMethod(
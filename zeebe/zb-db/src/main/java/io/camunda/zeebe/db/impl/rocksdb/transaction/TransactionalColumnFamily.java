@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +57,9 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final ColumnFamilyCache cache;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -64,7 +68,8 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final ColumnFamilyCache cache) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -72,6 +77,9 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.cache = cache;
+    handle = transactionDb.getColumnFamilyHandle(columnFamily);
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(handle);
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -86,12 +94,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -105,12 +108,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +121,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +132,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            readValueView(transaction);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -225,10 +212,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
@@ -239,10 +223,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
@@ -253,13 +234,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            readValueView(transaction);
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -306,13 +281,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value != null) {
+    if (readValueView(transaction)) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
     }
@@ -322,18 +291,74 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value == null) {
+    if (!readValueView(transaction)) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Wraps the value view around the value of the key currently written to the column family
+   * context. The value is served from the cache if possible, otherwise it's read into the reusable
+   * read buffer of the context, without allocating.
+   *
+   * @return true if the key exists, false otherwise
+   */
+  private boolean readValueView(final ZeebeTransaction transaction) throws Exception {
+    final var key = columnFamilyContext.getKeyBufferArray();
+    final var keyLength = columnFamilyContext.getKeyLength();
+
+    if (cache != null) {
+      final var cachedValue = cache.get(transaction, key, keyLength);
+      if (cachedValue == ColumnFamilyCache.ABSENT) {
+        columnFamilyContext.wrapValueView(null);
+        return false;
+      } else if (cachedValue != null) {
+        columnFamilyContext.wrapValueView(cachedValue);
+        return true;
+      }
+    }
+
+    final var cacheVersion = cache != null ? cache.getVersion() : 0L;
+    final var readBuffer = columnFamilyContext.getReadValueBuffer();
+    final int valueLength =
+        transaction.get(
+            nativeHandle, transactionDb.getReadOptionsNativeHandle(), key, keyLength, readBuffer);
+    columnFamilyContext.wrapReadValueView(valueLength);
+
+    if (valueLength < 0) {
+      return false;
+    }
+
+    if (cache != null) {
+      cache.populate(
+          transaction, key, keyLength, readBuffer.byteArray(), valueLength, cacheVersion);
+    }
+    return true;
+  }
+
+  private void putValue(final ZeebeTransaction transaction, final int valueLength)
+      throws Exception {
+    final var key = columnFamilyContext.getKeyBufferArray();
+    final var keyLength = columnFamilyContext.getKeyLength();
+    final var value = columnFamilyContext.getValueBufferArray();
+    transaction.put(nativeHandle, key, keyLength, value, valueLength);
+
+    if (cache != null) {
+      cache.write(transaction, key, keyLength, value, valueLength);
+    }
+  }
+
+  private void deleteValue(final ZeebeTransaction transaction) throws Exception {
+    final var key = columnFamilyContext.getKeyBufferArray();
+    final var keyLength = columnFamilyContext.getKeyLength();
+    transaction.delete(nativeHandle, key, keyLength);
+
+    if (cache != null) {
+      cache.delete(transaction, key, keyLength);
+    }
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -346,7 +371,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
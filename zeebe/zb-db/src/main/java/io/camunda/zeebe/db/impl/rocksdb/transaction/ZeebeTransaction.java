@@ -9,9 +9,13 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -24,6 +28,8 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
 
+  private final List<TransactionListener> listeners = new ArrayList<>();
+
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
@@ -80,6 +86,58 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Reads the value of the given key into the given buffer instead of allocating a new array, as
+   * {@link #get(long, long, byte[], int)} does. If the buffer is too small for the value, it is
+   * expanded and the value is read again; afterward the buffer can be reused for all subsequent
+   * reads, so steady-state point lookups do not allocate.
+   *
+   * @return the length of the value, or -1 if there is no value for the given key
+   */
+  public int get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength,
+      final ExpandableArrayBuffer valueBuffer)
+      throws Exception {
+    final int valueLength =
+        getInto(columnFamilyHandle, readOptionsHandle, key, keyLength, valueBuffer);
+    if (valueLength <= valueBuffer.capacity()) {
+      return valueLength;
+    }
+
+    valueBuffer.checkLimit(valueLength);
+    return getInto(columnFamilyHandle, readOptionsHandle, key, keyLength, valueBuffer);
+  }
+
+  private int getInto(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength,
+      final ExpandableArrayBuffer valueBuffer) {
+    try {
+      final int keyOffset = 0;
+      final int valueOffset = 0;
+      // returns the full length of the value, even if only a part of it fits into the buffer
+      return (int)
+          RocksDbInternal.getIntoWithHandle.invokeExact(
+              nativeHandle,
+              readOptionsHandle,
+              key,
+              keyOffset,
+              keyLength,
+              valueBuffer.byteArray(),
+              valueOffset,
+              valueBuffer.capacity(),
+              columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return -1; // unreachable
+    }
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -144,12 +202,44 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    try {
+      transaction.commit();
+    } catch (final RocksDBException e) {
+      // nothing was written, and this instance is reused for the next transaction, so the
+      // listeners must not outlive the failed one
+      notifyListeners(false);
+      throw e;
+    }
+    notifyListeners(true);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    try {
+      transaction.rollback();
+    } finally {
+      notifyListeners(false);
+    }
+  }
+
+  /** Adds a listener which is notified once, when the current transaction ends. */
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
+  private void notifyListeners(final boolean committed) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    for (final var listener : listeners) {
+      if (committed) {
+        listener.onCommit();
+      } else {
+        listener.onRollback();
+      }
+    }
+    listeners.clear();
   }
 
   @Override
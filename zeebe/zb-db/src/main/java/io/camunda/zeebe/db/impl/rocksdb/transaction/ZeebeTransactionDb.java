@@ -18,19 +18,33 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -45,6 +59,28 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+  // the layout markers are stored in the default column family under a prefix which no logical
+  // column family uses, as their prefixes are non-negative enum values
+  private static final long LAYOUT_MARKER_PREFIX = -1L;
+  // these properties are sizes or counts of a single column family, so they are summed up over all
+  // native column families; all others describe the whole database or are not numeric at all
+  private static final Set<String> SUMMED_PROPERTIES =
+      Set.of(
+          "rocksdb.cur-size-all-mem-tables",
+          "rocksdb.cur-size-active-mem-table",
+          "rocksdb.size-all-mem-tables",
+          "rocksdb.estimate-table-readers-mem",
+          "rocksdb.total-sst-files-size",
+          "rocksdb.live-sst-files-size",
+          "rocksdb.num-entries-active-mem-table",
+          "rocksdb.num-entries-imm-mem-tables",
+          "rocksdb.num-deletes-active-mem-table",
+          "rocksdb.num-deletes-imm-mem-tables",
+          "rocksdb.estimate-num-keys",
+          "rocksdb.estimate-live-data-size",
+          "rocksdb.estimate-pending-compaction-bytes",
+          "rocksdb.num-live-versions");
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
@@ -54,18 +90,33 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final RocksDbConfiguration rocksDbConfiguration;
+  private final Function<String, ColumnFamilyOptions> nativeColumnFamilyOptions;
+  // native column families by name, excluding the default column family
+  private final Map<String, ColumnFamilyHandle> nativeHandles;
+  // the handle each logical column family resolved to, set once the layout was migrated
+  // copy-on-write, as it's read by every column family but only changes when one is created
+  private volatile Map<Enum<?>, ColumnFamilyHandle> logicalHandles = Map.of();
+  // shared by all column family instances of the same logical column family to stay coherent
+  private final Map<Enum<? extends EnumValue>, ColumnFamilyCache> caches =
+      new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> nativeHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
+      final Function<String, ColumnFamilyOptions> nativeColumnFamilyOptions,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.nativeHandles = new ConcurrentHashMap<>(nativeHandles);
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
+    this.rocksDbConfiguration = rocksDbConfiguration;
+    this.nativeColumnFamilyOptions = nativeColumnFamilyOptions;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
 
@@ -93,32 +144,65 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    // all existing column families must be opened, even if the native layout is disabled, such
+    // that their data can be migrated back into the default column family
+    final List<String> nativeNames = listNativeColumnFamilies(options, path);
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var name : nativeNames) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              name.getBytes(StandardCharsets.UTF_8), options.nativeCfOptions().apply(name)));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
+    final Map<String, ColumnFamilyHandle> nativeHandles = new ConcurrentHashMap<>();
+    for (int i = 0; i < nativeNames.size(); i++) {
+      final var handle = cfHandles.get(i + 1);
+      closables.add(handle);
+      nativeHandles.put(nativeNames.get(i), handle);
+    }
+
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        nativeHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
+        options.nativeCfOptions(),
         consistencyChecksSettings,
         metrics);
   }
 
+  private static List<String> listNativeColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      // new database, so there is nothing to list yet
+      return List.of();
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return RocksDB.listColumnFamilies(listOptions, path).stream()
+          .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -136,6 +220,187 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultHandle;
   }
 
+  /**
+   * Returns the handle of the native column family in which the given logical column family is
+   * stored. This is always the default column family, unless native column families are enabled.
+   *
+   * <p>The handles of all logical column families of the same type are resolved together, when the
+   * first column family of that type is used, i.e. while the state is set up after opening the
+   * database and before any transaction runs. See {@link #resolveColumnFamilyHandles(Enum)}.
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(
+      final Enum<? extends EnumValue> logicalColumnFamily) {
+    final var handle = logicalHandles.get(logicalColumnFamily);
+    return handle != null ? handle : resolveColumnFamilyHandles(logicalColumnFamily);
+  }
+
+  /** Returns the native handle of {@link #getColumnFamilyHandle(Enum)}. */
+  protected long getColumnFamilyNativeHandle(final Enum<? extends EnumValue> logicalColumnFamily) {
+    return getNativeHandle(getColumnFamilyHandle(logicalColumnFamily));
+  }
+
+  /**
+   * Resolves the native column family of every logical column family of the same type as the given
+   * one, and moves any of their entries found in other native column families (e.g. from a snapshot
+   * taken with a different layout) into it. The entries are moved in an explicit transaction, which
+   * is committed in batches that each put and delete the same keys, so an interrupted migration is
+   * simply resumed on the next open. Once the layout of a type was migrated, this is persisted, and
+   * the entries are not scanned again until the layout changes.
+   */
+  private synchronized ColumnFamilyHandle resolveColumnFamilyHandles(
+      final Enum<? extends EnumValue> logicalColumnFamily) {
+    final var resolved = logicalHandles.get(logicalColumnFamily);
+    if (resolved != null) {
+      return resolved;
+    }
+
+    final Map<Enum<?>, ColumnFamilyHandle> handles = new HashMap<>();
+    for (final Object constant : logicalColumnFamily.getDeclaringClass().getEnumConstants()) {
+      handles.put((Enum<?>) constant, resolveTarget((Enum<?>) constant));
+    }
+
+    if (!nativeHandles.isEmpty()) {
+      final byte[] markerKey = layoutMarkerKey(logicalColumnFamily.getDeclaringClass());
+      final byte[] layout = describeLayout(handles);
+      if (!Arrays.equals(layout, readLayoutMarker(markerKey))) {
+        migrateEntries(handles, markerKey, layout);
+      }
+    }
+
+    final Map<Enum<?>, ColumnFamilyHandle> allHandles = new HashMap<>(logicalHandles);
+    allHandles.putAll(handles);
+    logicalHandles = allHandles;
+    return handles.get(logicalColumnFamily);
+  }
+
+  private ColumnFamilyHandle resolveTarget(final Enum<?> logicalColumnFamily) {
+    if (!rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      return defaultHandle;
+    }
+
+    final var targetName = rocksDbConfiguration.getNativeColumnFamilyName(logicalColumnFamily);
+    return nativeHandles.computeIfAbsent(targetName, this::createNativeColumnFamily);
+  }
+
+  private ColumnFamilyHandle createNativeColumnFamily(final String name) {
+    try {
+      final var handle =
+          optimisticTransactionDB.createColumnFamily(
+              new ColumnFamilyDescriptor(
+                  name.getBytes(StandardCharsets.UTF_8), nativeColumnFamilyOptions.apply(name)));
+      closables.add(handle);
+      return handle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException("Failed to create native column family '%s'".formatted(name), e);
+    }
+  }
+
+  private static byte[] layoutMarkerKey(final Class<?> columnFamilyType) {
+    final byte[] name = columnFamilyType.getName().getBytes(StandardCharsets.UTF_8);
+    final byte[] key = new byte[Long.BYTES + name.length];
+    new UnsafeBuffer(key).putLong(0, LAYOUT_MARKER_PREFIX, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    System.arraycopy(name, 0, key, Long.BYTES, name.length);
+    return key;
+  }
+
+  private static byte[] describeLayout(final Map<Enum<?>, ColumnFamilyHandle> handles) {
+    final var layout = new StringBuilder();
+    try {
+      for (final var entry : new TreeMap<>(handles).entrySet()) {
+        layout
+            .append(entry.getKey().name())
+            .append('=')
+            .append(new String(entry.getValue().getName(), StandardCharsets.UTF_8))
+            .append(';');
+      }
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException("Failed to describe the native column family layout", e);
+    }
+    return layout.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private byte[] readLayoutMarker(final byte[] markerKey) {
+    try {
+      return optimisticTransactionDB.get(defaultHandle, defaultReadOptions, markerKey);
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException("Failed to read the native column family layout", e);
+    }
+  }
+
+  /**
+   * Moves the entries of the given logical column families into their resolved native column
+   * family, and marks the layout as migrated in the same transaction. The marker is only written
+   * once every entry was moved, such that the entries are only scanned again after the layout
+   * changed, e.g. when opening a snapshot taken with a different layout.
+   */
+  private void migrateEntries(
+      final Map<Enum<?>, ColumnFamilyHandle> handles, final byte[] markerKey, final byte[] layout) {
+    final List<ColumnFamilyHandle> sources = new ArrayList<>(nativeHandles.values());
+    sources.add(defaultHandle);
+
+    Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
+    try {
+      for (final var entry : handles.entrySet()) {
+        final var target = entry.getValue();
+        for (final var source : sources) {
+          if (source != target) {
+            transaction = migrateEntries(transaction, entry.getKey(), source, target);
+          }
+        }
+      }
+      transaction.put(defaultHandle, markerKey, layout);
+      transaction.commit();
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException("Failed to migrate the native column family layout", e);
+    } finally {
+      transaction.close();
+    }
+  }
+
+  private Transaction migrateEntries(
+      final Transaction transaction,
+      final Enum<?> logicalColumnFamily,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final var prefixKey = new byte[Long.BYTES];
+    final var prefix = ((EnumValue) logicalColumnFamily).getValue();
+    new UnsafeBuffer(prefixKey).putLong(0, prefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    var currentTransaction = transaction;
+    long migratedEntries = 0;
+    // the prefix extractor of the source may differ from the logical column family prefix, so we
+    // cannot rely on prefix seeks here
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var iterator = optimisticTransactionDB.newIterator(source, readOptions)) {
+      for (iterator.seek(prefixKey); iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (!BufferUtil.startsWith(prefixKey, 0, prefixKey.length, key, 0, key.length)) {
+          break;
+        }
+
+        currentTransaction.put(target, key, iterator.value());
+        currentTransaction.delete(source, key);
+        migratedEntries++;
+
+        if (migratedEntries % MIGRATION_BATCH_SIZE == 0) {
+          currentTransaction.commit();
+          currentTransaction =
+              optimisticTransactionDB.beginTransaction(defaultWriteOptions, currentTransaction);
+        }
+      }
+    }
+
+    if (migratedEntries > 0) {
+      LOG.info(
+          "Migrated {} entries of column family {} to native column family '{}'",
+          migratedEntries,
+          logicalColumnFamily,
+          new String(target.getName(), StandardCharsets.UTF_8));
+    }
+    return currentTransaction;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -158,6 +423,13 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
               new FineGrainedColumnFamilyMetrics(
                   accessMetricsConfiguration.partitionId(), columnFamily);
         };
+    final var cache =
+        rocksDbConfiguration.isColumnFamilyCached(columnFamily)
+            ? caches.computeIfAbsent(
+                columnFamily,
+                ignored ->
+                    new ColumnFamilyCache(rocksDbConfiguration.getColumnFamilyCacheSize(), metrics))
+            : null;
     return new TransactionalColumnFamily<>(
         this,
         consistencyChecksSettings,
@@ -165,7 +437,13 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        cache);
+  }
+
+  /** Returns the shared cache of the given column family, or null if it is not cached. */
+  ColumnFamilyCache getColumnFamilyCache(final ColumnFamilyNames columnFamily) {
+    return caches.get(columnFamily);
   }
 
   @Override
@@ -184,7 +462,17 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (nativeHandles.isEmpty() || !SUMMED_PROPERTIES.contains(propertyName)) {
+        propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      } else {
+        // with native column families, the per column family sizes are summed up so they still
+        // describe the whole database
+        long sum = optimisticTransactionDB.getLongProperty(defaultHandle, propertyName);
+        for (final var handle : nativeHandles.values()) {
+          sum += optimisticTransactionDB.getLongProperty(handle, propertyName);
+        }
+        propertyValue = String.valueOf(sum);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
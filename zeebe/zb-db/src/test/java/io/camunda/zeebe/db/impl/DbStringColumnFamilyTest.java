@@ -252,6 +252,26 @@ public final class DbStringColumnFamilyTest {
             "Currently nested prefix iterations are not supported! This will cause unexpected behavior.");
   }
 
+  @Test
+  public void shouldGetValuesLargerThanReadBuffer() {
+    // given - values which don't fit into the initial read buffer
+    final String largeValue = "a".repeat(64 * 1024);
+    final String largerValue = "b".repeat(256 * 1024);
+    upsertKeyValuePair("large", largeValue);
+    upsertKeyValuePair("larger", largerValue);
+    upsertKeyValuePair("small", "c");
+
+    // when - then
+    key.wrapString("large");
+    assertThat(columnFamily.get(key).toString()).isEqualTo(largeValue);
+    key.wrapString("larger");
+    assertThat(columnFamily.get(key).toString()).isEqualTo(largerValue);
+    key.wrapString("small");
+    assertThat(columnFamily.get(key).toString()).isEqualTo("c");
+    key.wrapString("missing");
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
   private void upsertKeyValuePair(final String key, final String value) {
     this.key.wrapString(key);
     this.value.wrapString(value);
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
@@ -477,6 +478,79 @@ public final class DbTransactionTest {
         .isSameAs(exception);
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> transactionContext.addTransactionListener(listener));
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(listener.commits).isOne();
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> transactionContext.addTransactionListener(listener));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isOne();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnlyForCurrentTransaction() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.runInTransaction(() -> transactionContext.addTransactionListener(listener));
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.rollback();
+
+    // then
+    assertThat(listener.commits).isOne();
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotifyListenerImmediatelyOutsideOfTransaction() {
+    // given
+    final var listener = new RecordingTransactionListener();
+
+    // when
+    transactionContext.addTransactionListener(listener);
+
+    // then
+    assertThat(listener.commits).isOne();
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  private static final class RecordingTransactionListener implements TransactionListener {
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    public void onCommit() {
+      commits++;
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks++;
+    }
+  }
+
   private enum ColumnFamilies implements EnumValue {
     DEFAULT, // rocksDB needs a default column family
     ONE,
@@ -0,0 +1,254 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+final class NativeColumnFamiliesTest {
+
+  @Test
+  void shouldStoreColumnFamiliesInNativeColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    final var factory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      insert(db, TestColumnFamilies.FIRST, 1, "foo");
+      insert(db, TestColumnFamilies.SECOND, 1, "bar");
+    }
+
+    // then
+    assertThat(listColumnFamilies(path)).contains("FIRST", "SECOND");
+    try (final var db = factory.createDb(path)) {
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("foo");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("bar");
+    }
+  }
+
+  @Test
+  void shouldGroupColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    final var factory =
+        createFactory(
+            new RocksDbConfiguration()
+                .setNativeColumnFamiliesEnabled(true)
+                .setNativeColumnFamilyGroups(Map.of("FIRST", "GROUP", "SECOND", "GROUP"))
+                .setNativeColumnFamilyOptions(
+                    Map.of(
+                        "GROUP",
+                        new NativeColumnFamilyConfiguration().setBloomFilterBitsPerKey(16))));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      insert(db, TestColumnFamilies.FIRST, 1, "foo");
+      insert(db, TestColumnFamilies.SECOND, 1, "bar");
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("foo");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("bar");
+    }
+
+    assertThat(listColumnFamilies(path)).contains("GROUP").doesNotContain("FIRST", "SECOND");
+  }
+
+  @Test
+  void shouldMigrateToNativeColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(new RocksDbConfiguration()).createDb(path)) {
+      insert(db, TestColumnFamilies.FIRST, 1, "foo");
+      insert(db, TestColumnFamilies.SECOND, 1, "bar");
+    }
+
+    // when
+    final var nativeFactory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+    try (final var db = nativeFactory.createDb(path)) {
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("foo");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("bar");
+    }
+    assertThat(listColumnFamilies(path)).contains("FIRST", "SECOND");
+  }
+
+  @Test
+  void shouldMigrateBackToDefaultColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    final var nativeFactory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+    try (final var db = nativeFactory.createDb(path)) {
+      insert(db, TestColumnFamilies.FIRST, 1, "foo");
+      insert(db, TestColumnFamilies.SECOND, 1, "bar");
+    }
+
+    // when
+    try (final var db = createFactory(new RocksDbConfiguration()).createDb(path)) {
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("foo");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("bar");
+    }
+  }
+
+  @Test
+  void shouldNotMigrateAgainIfLayoutIsUnchanged(final @TempDir File path) throws Exception {
+    // given
+    final var nativeFactory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+    try (final var db = nativeFactory.createDb(path)) {
+      insert(db, TestColumnFamilies.FIRST, 1, "foo");
+    }
+    // an entry in the default column family would only be found by scanning it again
+    insertIntoDefaultColumnFamily(path, TestColumnFamilies.FIRST, 2);
+
+    // when
+    try (final var db = nativeFactory.createDb(path)) {
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("foo");
+      assertThat(get(db, TestColumnFamilies.FIRST, 2)).isNull();
+    }
+  }
+
+  @Test
+  void shouldSnapshotAllNativeColumnFamilies(final @TempDir File path, final @TempDir File tmp)
+      throws Exception {
+    // given
+    final var factory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+    try (final var db = factory.createDb(path)) {
+      insert(db, TestColumnFamilies.FIRST, 1, "foo");
+      insert(db, TestColumnFamilies.SECOND, 1, "bar");
+    }
+
+    // when
+    final var snapshotPath = new File(tmp, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshotPath)) {
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("foo");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("bar");
+    }
+  }
+
+  @Test
+  void shouldOnlySumNumericPropertiesOverNativeColumnFamilies(final @TempDir File path)
+      throws Exception {
+    // given
+    final var factory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+
+    try (final var db = factory.createDb(path)) {
+      // when
+      insert(db, TestColumnFamilies.FIRST, 1, "foo");
+      insert(db, TestColumnFamilies.SECOND, 1, "bar");
+
+      // then
+      // the two entries, plus the layout marker in the default column family
+      assertThat(db.getProperty("rocksdb.estimate-num-keys")).hasValue("3");
+      assertThat(db.getProperty("rocksdb.levelstats"))
+          .hasValueSatisfying(value -> assertThat(value).contains("Level"));
+    }
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> createFactory(
+      final RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<>(
+        configuration,
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private void insert(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final long key,
+      final String value) {
+    final var dbKey = new DbLong();
+    final var dbValue = new DbString();
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), dbKey, dbValue);
+    dbKey.wrapLong(key);
+    dbValue.wrapString(value);
+    column.insert(dbKey, dbValue);
+  }
+
+  private String get(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily, final long key) {
+    final var dbKey = new DbLong();
+    final var column =
+        db.createColumnFamily(columnFamily, db.createContext(), dbKey, new DbString());
+    dbKey.wrapLong(key);
+    final var value = column.get(dbKey);
+    return value == null ? null : value.toString();
+  }
+
+  private void insertIntoDefaultColumnFamily(
+      final File path, final TestColumnFamilies columnFamily, final long key) throws Exception {
+    final List<ColumnFamilyDescriptor> descriptors =
+        listColumnFamilies(path).stream()
+            .map(name -> new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8)))
+            .toList();
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    try (final var options = new DBOptions();
+        final var db = RocksDB.open(options, path.getAbsolutePath(), descriptors, handles)) {
+      final byte[] rawKey =
+          ByteBuffer.allocate(2 * Long.BYTES).putLong(columnFamily.getValue()).putLong(key).array();
+      db.put(rawKey, new byte[0]);
+      handles.forEach(ColumnFamilyHandle::close);
+    }
+  }
+
+  private List<String> listColumnFamilies(final File path) throws Exception {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    FIRST(1),
+    SECOND(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyCacheTest {
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setCachedColumnFamilies(Set.of("DEFAULT")),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    db = factory.createDb(path);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadOwnWritesWithinTransaction() {
+    // when
+    context.runInTransaction(
+        () -> {
+          put(1, "foo");
+
+          // then
+          assertThat(get(1)).isEqualTo("foo");
+          put(1, "bar");
+          assertThat(get(1)).isEqualTo("bar");
+          delete(1);
+          assertThat(get(1)).isNull();
+        });
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() {
+    // given
+    put(1, "foo");
+
+    // when
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      put(1, "bar");
+                      put(2, "baz");
+                      throw new IllegalStateException("expected");
+                    }))
+        .hasMessage("expected");
+
+    // then
+    assertThat(get(1)).isEqualTo("foo");
+    assertThat(get(2)).isNull();
+  }
+
+  @Test
+  void shouldApplyDeletesOnCommit() {
+    // given
+    put(1, "foo");
+    assertThat(get(1)).isEqualTo("foo");
+
+    // when
+    delete(1);
+
+    // then
+    assertThat(get(1)).isNull();
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldShareCacheBetweenInstancesOfColumnFamily() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherColumnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, otherKey, new DbString());
+    put(1, "foo");
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.get(otherKey)).hasToString("foo");
+
+    // when
+    otherColumnFamily.deleteExisting(otherKey);
+
+    // then
+    assertThat(get(1)).isNull();
+  }
+
+  @Test
+  void shouldPopulateCacheOnRead() {
+    // given
+    put(1, "foo");
+    final var cachingDb = (ZeebeTransactionDb<DefaultColumnFamily>) db;
+    final var cache = cachingDb.getColumnFamilyCache(DefaultColumnFamily.DEFAULT);
+
+    // when
+    assertThat(get(1)).isEqualTo("foo");
+
+    // then
+    assertThat(cache.getSizeInBytes()).isPositive();
+    assertThat(get(1)).isEqualTo("foo");
+  }
+
+  @Test
+  void shouldNotPopulateValueReadBeforeConcurrentCommit() {
+    // given
+    put(1, "foo");
+    final var cache =
+        ((ZeebeTransactionDb<DefaultColumnFamily>) db)
+            .getColumnFamilyCache(DefaultColumnFamily.DEFAULT);
+    final var writerContext = db.createContext();
+    final var writerKey = new DbLong();
+    final var writerValue = new DbString();
+    final var writerColumnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, writerContext, writerKey, writerValue);
+
+    context.runInTransaction(
+        () -> {
+          final var reader = (ZeebeTransaction) context.getCurrentTransaction();
+          final var readVersion = cache.getVersion();
+          final byte[] staleValue = serialize(value, "foo");
+          final var keyContext = new ColumnFamilyContext(DefaultColumnFamily.DEFAULT.getValue());
+          key.wrapLong(1);
+          keyContext.writeKey(key);
+
+          // when - another context commits a new value between the read and populating the cache
+          writerKey.wrapLong(1);
+          writerValue.wrapString("bar");
+          writerColumnFamily.upsert(writerKey, writerValue);
+          cache.populate(
+              reader,
+              keyContext.getKeyBufferArray(),
+              keyContext.getKeyLength(),
+              staleValue,
+              staleValue.length,
+              readVersion);
+
+          // then
+          assertThat(get(1)).isEqualTo("bar");
+        });
+  }
+
+  @Test
+  void shouldKeepCoherentWithConcurrentWriter() throws Exception {
+    // given
+    final var writerContext = db.createContext();
+    final var writerKey = new DbLong();
+    final var writerValue = new DbString();
+    final var writerColumnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, writerContext, writerKey, writerValue);
+    final var writes = 1_000;
+    put(1, "0");
+
+    // when
+    final var writer =
+        CompletableFuture.runAsync(
+            () -> {
+              for (int i = 1; i <= writes; i++) {
+                writerKey.wrapLong(1);
+                writerValue.wrapString(String.valueOf(i));
+                writerColumnFamily.upsert(writerKey, writerValue);
+              }
+            });
+    while (!writer.isDone()) {
+      get(1);
+    }
+    writer.join();
+
+    // then
+    assertThat(get(1)).isEqualTo(String.valueOf(writes));
+  }
+
+  @Test
+  void shouldDiscardWritesOfFailedCommit() throws Exception {
+    // given
+    final var writerContext = db.createContext();
+    final var writerKey = new DbLong();
+    final var writerValue = new DbString();
+    final var writerColumnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, writerContext, writerKey, writerValue);
+    final var transaction = context.getCurrentTransaction();
+    put(1, "foo");
+
+    // when - the commit fails, as another context committed the same key in the meantime
+    writerKey.wrapLong(1);
+    writerValue.wrapString("bar");
+    writerColumnFamily.upsert(writerKey, writerValue);
+    assertThatThrownBy(transaction::commit).isInstanceOf(ZeebeDbException.class);
+    context.getCurrentTransaction().commit();
+
+    // then
+    assertThat(get(1)).isEqualTo("bar");
+  }
+
+  private void put(final long k, final String v) {
+    key.wrapLong(k);
+    value.wrapString(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private void delete(final long k) {
+    key.wrapLong(k);
+    columnFamily.deleteIfExists(key);
+  }
+
+  private String get(final long k) {
+    key.wrapLong(k);
+    final var result = columnFamily.get(key);
+    return result == null ? null : result.toString();
+  }
+
+  private byte[] serialize(final DbString value, final String string) {
+    value.wrapString(string);
+    final var buffer = new byte[value.getLength()];
+    value.write(new UnsafeBuffer(buffer), 0);
+    return buffer;
+  }
+}